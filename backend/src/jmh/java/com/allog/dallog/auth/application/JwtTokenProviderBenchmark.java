@@ -0,0 +1,67 @@
+package com.allog.dallog.auth.application;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 토큰 발급과 검증 처리량을 잰다. {@code perCallParser}는 호출마다 파서를 새로 만들던 이전 방식이다.
+ *
+ * <p>{@code ./gradlew jmh}로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET_KEY = "A".repeat(32);
+    private static final String PAYLOAD = "1";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 3600000, 1209600000);
+        key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        token = jwtTokenProvider.createAccessToken(PAYLOAD);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(PAYLOAD);
+    }
+
+    @Benchmark
+    public String sharedParser() {
+        return jwtTokenProvider.getPayload(token);
+    }
+
+    @Benchmark
+    public String perCallParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+}
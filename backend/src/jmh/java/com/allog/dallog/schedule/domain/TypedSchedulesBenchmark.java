@@ -0,0 +1,136 @@
+package com.allog.dallog.schedule.domain;
+
+import static com.allog.dallog.category.domain.CategoryType.NORMAL;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 한 달 보기에서 일정을 종류별로 나누고 정렬하는 시간을 잰다. {@code streamPredicates}는 종류마다 스트림으로 조건을 다시 계산하고,
+ * 정렬할 때마다 목록을 복사하던 이전 방식이다.
+ *
+ * <p>{@code ./gradlew jmh -Pjmh.includes=TypedSchedulesBenchmark}로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypedSchedulesBenchmark {
+
+    private static final LocalDateTime MONTH_START = LocalDateTime.of(2022, 8, 1, 0, 0);
+    private static final int DAYS_IN_MONTH = 31;
+    private static final IntegrationScheduleComparator COMPARATOR = new IntegrationScheduleComparator();
+
+    @Param({"1000", "5000", "20000"})
+    private int count;
+
+    private List<IntegrationSchedule> schedules;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(count);
+        schedules = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            schedules.add(randomSchedule(i, random));
+        }
+    }
+
+    // 열에 일곱은 몇 시간짜리, 둘은 종일, 하나는 여러 날에 걸친 일정이다.
+    private IntegrationSchedule randomSchedule(final int id, final Random random) {
+        LocalDateTime day = MONTH_START.plusDays(random.nextInt(DAYS_IN_MONTH));
+        int kind = random.nextInt(10);
+        if (kind < 7) {
+            LocalDateTime startDateTime = day.plusMinutes(random.nextInt(20 * 60));
+            return schedule(id, startDateTime, startDateTime.plusMinutes(30 + random.nextInt(180)));
+        }
+        if (kind < 9) {
+            return schedule(id, day, day.plusDays(1));
+        }
+        LocalDateTime startDateTime = day.plusHours(random.nextInt(24));
+        return schedule(id, startDateTime, startDateTime.plusDays(1 + random.nextInt(5)));
+    }
+
+    private IntegrationSchedule schedule(final int id, final LocalDateTime startDateTime,
+                                         final LocalDateTime endDateTime) {
+        return new IntegrationSchedule(String.valueOf(id), 1L, "일정 " + id, startDateTime, endDateTime, "", NORMAL);
+    }
+
+    @Benchmark
+    public void singlePass(final Blackhole blackhole) {
+        TypedSchedules typedSchedules = new TypedSchedules(schedules);
+        for (ScheduleType scheduleType : ScheduleType.values()) {
+            blackhole.consume(typedSchedules.getSortedSchedules(scheduleType).getSortedValues());
+        }
+    }
+
+    @Benchmark
+    public void streamPredicates(final Blackhole blackhole) {
+        Map<LegacyType, List<IntegrationSchedule>> values = new HashMap<>();
+        for (LegacyType type : LegacyType.values()) {
+            values.put(type, new ArrayList<>());
+        }
+        for (IntegrationSchedule schedule : schedules) {
+            values.get(LegacyType.from(schedule)).add(schedule);
+        }
+        for (LegacyType type : LegacyType.values()) {
+            List<IntegrationSchedule> bucket = values.get(type);
+            bucket.sort(COMPARATOR);
+            blackhole.consume(List.copyOf(bucket));
+        }
+    }
+
+    private enum LegacyType {
+
+        LONG_TERMS(schedule -> !isAllDays(schedule) && dayDifference(schedule) >= 1),
+        ALL_DAYS(LegacyType::isAllDays),
+        FEW_HOURS(schedule -> dayDifference(schedule) < 1);
+
+        private final Predicate<IntegrationSchedule> isMatch;
+
+        LegacyType(final Predicate<IntegrationSchedule> isMatch) {
+            this.isMatch = isMatch;
+        }
+
+        private static LegacyType from(final IntegrationSchedule schedule) {
+            return Arrays.stream(values())
+                    .filter(type -> type.isMatch.test(schedule))
+                    .findAny()
+                    .orElseThrow();
+        }
+
+        private static boolean isAllDays(final IntegrationSchedule schedule) {
+            return dayDifference(schedule) == 1
+                    && LocalTime.from(schedule.getStartDateTime()).equals(LocalTime.MIDNIGHT)
+                    && LocalTime.from(schedule.getEndDateTime()).equals(LocalTime.MIDNIGHT);
+        }
+
+        private static long dayDifference(final IntegrationSchedule schedule) {
+            return ChronoUnit.DAYS.between(LocalDate.from(schedule.getStartDateTime()),
+                    LocalDate.from(schedule.getEndDateTime()));
+        }
+    }
+}
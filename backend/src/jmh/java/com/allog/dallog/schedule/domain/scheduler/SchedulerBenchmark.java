@@ -0,0 +1,106 @@
+package com.allog.dallog.schedule.domain.scheduler;
+
+import static com.allog.dallog.category.domain.CategoryType.NORMAL;
+
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import com.allog.dallog.schedule.domain.Period;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 빈 기간 계산 시간을 잰다. {@code slicing}은 일정마다 빈 기간 목록 전체를 잘라 다시 만들던 이전 방식이다.
+ *
+ * <p>이전 방식은 일정 수의 제곱에 비례해 느려져 100,000건이면 한 번 실행에 수 분이 걸리므로 10,000건까지만 잰다.
+ *
+ * <p>{@code ./gradlew jmh -Pjmh.includes=SchedulerBenchmark}로 실행한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchedulerBenchmark {
+
+    private static final LocalDateTime START_DATE_TIME = LocalDateTime.of(2022, 1, 1, 0, 0);
+    private static final long RANGE_IN_MINUTES = 365L * 24 * 60;
+    private static final int MAX_DURATION_IN_MINUTES = 180;
+
+    @State(Scope.Benchmark)
+    public static class Schedules {
+
+        @Param({"10000", "50000", "100000"})
+        private int count;
+
+        private List<IntegrationSchedule> schedules;
+
+        @Setup
+        public void setUp() {
+            schedules = randomSchedules(count);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class FewSchedules {
+
+        @Param({"1000", "10000"})
+        private int count;
+
+        private List<IntegrationSchedule> schedules;
+
+        @Setup
+        public void setUp() {
+            schedules = randomSchedules(count);
+        }
+    }
+
+    @Benchmark
+    public List<Period> sweep(final Schedules schedules) {
+        return new Scheduler(schedules.schedules, START_DATE_TIME, START_DATE_TIME.plusMinutes(RANGE_IN_MINUTES))
+                .getPeriods();
+    }
+
+    @Benchmark
+    public List<Period> sweepFew(final FewSchedules schedules) {
+        return new Scheduler(schedules.schedules, START_DATE_TIME, START_DATE_TIME.plusMinutes(RANGE_IN_MINUTES))
+                .getPeriods();
+    }
+
+    @Benchmark
+    public List<Period> slicing(final FewSchedules schedules) {
+        List<Period> periods = new ArrayList<>();
+        periods.add(new Period(START_DATE_TIME, START_DATE_TIME.plusMinutes(RANGE_IN_MINUTES)));
+        for (IntegrationSchedule schedule : schedules.schedules) {
+            for (Period period : List.copyOf(periods)) {
+                periods.remove(period);
+                periods.addAll(period.slice(schedule.getPeriod()));
+            }
+        }
+        return periods;
+    }
+
+    private static List<IntegrationSchedule> randomSchedules(final int count) {
+        Random random = new Random(count);
+        List<IntegrationSchedule> schedules = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime startDateTime = START_DATE_TIME.plusMinutes(random.nextInt((int) RANGE_IN_MINUTES));
+            LocalDateTime endDateTime = startDateTime.plusMinutes(1 + random.nextInt(MAX_DURATION_IN_MINUTES));
+            schedules.add(new IntegrationSchedule(String.valueOf(i), 1L, "일정", startDateTime, endDateTime, "",
+                    NORMAL));
+        }
+        return schedules;
+    }
+}
@@ -8,6 +8,7 @@ import com.allog.dallog.auth.dto.request.TokenRenewalRequest;
 import com.allog.dallog.auth.dto.response.AccessAndRefreshTokenResponse;
 import com.allog.dallog.auth.dto.response.AccessTokenResponse;
 import com.allog.dallog.auth.event.MemberSavedEvent;
+import com.allog.dallog.member.application.MemberExistenceIndex;
 import com.allog.dallog.member.domain.Member;
 import com.allog.dallog.member.domain.MemberRepository;
 import org.springframework.context.ApplicationEventPublisher;
@@ -21,13 +22,16 @@ public class AuthService {
     private final MemberRepository memberRepository;
     private final OAuthTokenRepository oAuthTokenRepository;
     private final TokenCreator tokenCreator;
+    private final MemberExistenceIndex memberExistenceIndex;
     private final ApplicationEventPublisher eventPublisher;
 
     public AuthService(final MemberRepository memberRepository, final OAuthTokenRepository oAuthTokenRepository,
-                       final TokenCreator tokenCreator, final ApplicationEventPublisher eventPublisher) {
+                       final TokenCreator tokenCreator, final MemberExistenceIndex memberExistenceIndex,
+                       final ApplicationEventPublisher eventPublisher) {
         this.memberRepository = memberRepository;
         this.oAuthTokenRepository = oAuthTokenRepository;
         this.tokenCreator = tokenCreator;
+        this.memberExistenceIndex = memberExistenceIndex;
         this.eventPublisher = eventPublisher;
     }
 
@@ -72,7 +76,7 @@ public class AuthService {
 
     public Long extractMemberId(final String accessToken) {
         Long memberId = tokenCreator.extractPayload(accessToken);
-        memberRepository.validateExistsById(memberId);
+        memberExistenceIndex.validateExists(memberId);
         return memberId;
     }
 }
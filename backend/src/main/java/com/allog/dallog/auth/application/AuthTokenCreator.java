@@ -2,6 +2,7 @@ package com.allog.dallog.auth.application;
 
 import com.allog.dallog.auth.domain.AuthToken;
 import com.allog.dallog.auth.domain.TokenRepository;
+import com.allog.dallog.auth.domain.VerifiedToken;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -9,10 +10,13 @@ public class AuthTokenCreator implements TokenCreator {
 
     private final TokenProvider tokenProvider;
     private final TokenRepository tokenRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public AuthTokenCreator(final TokenProvider tokenProvider, final TokenRepository tokenRepository) {
+    public AuthTokenCreator(final TokenProvider tokenProvider, final TokenRepository tokenRepository,
+                            final VerifiedTokenCache verifiedTokenCache) {
         this.tokenProvider = tokenProvider;
         this.tokenRepository = tokenRepository;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     public AuthToken createAuthToken(final Long memberId) {
@@ -30,8 +34,7 @@ public class AuthTokenCreator implements TokenCreator {
     }
 
     public AuthToken renewAuthToken(final String refreshToken) {
-        tokenProvider.validateToken(refreshToken);
-        Long memberId = Long.valueOf(tokenProvider.getPayload(refreshToken));
+        Long memberId = Long.valueOf(tokenProvider.verify(refreshToken).getPayload());
 
         String accessTokenForRenew = tokenProvider.createAccessToken(String.valueOf(memberId));
         String refreshTokenForRenew = tokenRepository.getToken(memberId);
@@ -42,7 +45,7 @@ public class AuthTokenCreator implements TokenCreator {
     }
 
     public Long extractPayload(final String accessToken) {
-        tokenProvider.validateToken(accessToken);
-        return Long.valueOf(tokenProvider.getPayload(accessToken));
+        VerifiedToken verifiedToken = verifiedTokenCache.get(accessToken, tokenProvider::verify);
+        return Long.valueOf(verifiedToken.getPayload());
     }
 }
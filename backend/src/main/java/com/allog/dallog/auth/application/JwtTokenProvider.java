@@ -1,9 +1,10 @@
 package com.allog.dallog.auth.application;
 
+import com.allog.dallog.auth.domain.VerifiedToken;
 import com.allog.dallog.auth.exception.InvalidTokenException;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -17,6 +18,7 @@ import org.springframework.stereotype.Component;
 public class JwtTokenProvider implements TokenProvider {
 
     private final SecretKey key;
+    private final JwtParser jwtParser;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
 
@@ -24,6 +26,10 @@ public class JwtTokenProvider implements TokenProvider {
                             @Value("${security.jwt.token.access.expire-length}") final long accessTokenValidityInMilliseconds,
                             @Value("${security.jwt.token.refresh.expire-length}") final long refreshTokenValidityInMilliseconds) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        // 파서는 불변이고 스레드 안전하므로 한 번만 만들어 모든 요청이 함께 쓴다.
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
         this.accessTokenValidityInMilliseconds = accessTokenValidityInMilliseconds;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInMilliseconds;
     }
@@ -52,25 +58,22 @@ public class JwtTokenProvider implements TokenProvider {
 
     @Override
     public String getPayload(final String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        return jwtParser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
 
     @Override
     public void validateToken(final String token) {
-        try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+        verify(token);
+    }
 
-            claims.getBody()
-                    .getExpiration()
-                    .before(new Date());
+    @Override
+    public VerifiedToken verify(final String token) {
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token)
+                    .getBody();
+            return new VerifiedToken(claims.getSubject(), claims.getExpiration().toInstant());
         } catch (final JwtException | IllegalArgumentException e) {
             throw new InvalidTokenException("권한이 없습니다.");
         }
@@ -0,0 +1,91 @@
+package com.allog.dallog.auth.application;
+
+import com.allog.dallog.auth.domain.OAuthAccessToken;
+import com.allog.dallog.auth.dto.response.OAuthAccessTokenResponse;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OAuthAccessTokenCache {
+
+    private final OAuthClient oAuthClient;
+    private final long refreshBeforeExpirationInSeconds;
+    private final ConcurrentMap<Long, CompletableFuture<OAuthAccessToken>> accessTokens = new ConcurrentHashMap<>();
+
+    public OAuthAccessTokenCache(final OAuthClient oAuthClient,
+                                 @Value("${oauth.access-token.refresh-before-expiration:60}") final long refreshBeforeExpirationInSeconds) {
+        this.oAuthClient = oAuthClient;
+        this.refreshBeforeExpirationInSeconds = refreshBeforeExpirationInSeconds;
+    }
+
+    public String getAccessToken(final Long memberId, final String refreshToken) {
+        CompletableFuture<OAuthAccessToken> issuing = new CompletableFuture<>();
+        CompletableFuture<OAuthAccessToken> cached = accessTokens.compute(memberId,
+                (key, existing) -> isReusable(existing) ? existing : issuing);
+
+        // 같은 회원에 대한 동시 요청 중 하나만 토큰을 재발급하고, 나머지는 그 결과를 기다린다.
+        if (cached == issuing) {
+            issue(memberId, refreshToken, issuing);
+        }
+        return join(cached).getValue();
+    }
+
+    // 거절된 토큰을 들고 있을 때만 지워, 그사이 다른 요청이 새로 발급받은 토큰까지 버리지 않게 한다.
+    public void evict(final Long memberId, final String rejectedAccessToken) {
+        accessTokens.computeIfPresent(memberId,
+                (key, existing) -> isIssuedAs(existing, rejectedAccessToken) ? null : existing);
+    }
+
+    // 다시 쓸 수 없는 토큰은 그 회원이 다시 요청하기 전까지 남아 있으므로, 주기적으로 지워 회원 수만큼 쌓이지 않게 한다.
+    @Scheduled(fixedDelayString = "${oauth.access-token.sweep-interval:60000}")
+    public void deleteAllExpired() {
+        accessTokens.values().removeIf(existing -> !isReusable(existing));
+    }
+
+    public int size() {
+        return accessTokens.size();
+    }
+
+    private boolean isIssuedAs(final CompletableFuture<OAuthAccessToken> existing, final String accessToken) {
+        return existing.isDone() && !existing.isCompletedExceptionally()
+                && existing.join().getValue().equals(accessToken);
+    }
+
+    private boolean isReusable(final CompletableFuture<OAuthAccessToken> existing) {
+        if (Objects.isNull(existing)) {
+            return false;
+        }
+        if (!existing.isDone()) {
+            return true;
+        }
+        return !existing.isCompletedExceptionally() && existing.join().isUsableAt(LocalDateTime.now());
+    }
+
+    private void issue(final Long memberId, final String refreshToken,
+                       final CompletableFuture<OAuthAccessToken> issuing) {
+        try {
+            OAuthAccessTokenResponse response = oAuthClient.getAccessToken(refreshToken);
+            LocalDateTime expiredAt = LocalDateTime.now()
+                    .plusSeconds(response.getExpiresIn() - refreshBeforeExpirationInSeconds);
+            issuing.complete(new OAuthAccessToken(response.getAccessToken(), expiredAt));
+        } catch (final RuntimeException e) {
+            accessTokens.remove(memberId, issuing);
+            issuing.completeExceptionally(e);
+        }
+    }
+
+    private OAuthAccessToken join(final CompletableFuture<OAuthAccessToken> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+}
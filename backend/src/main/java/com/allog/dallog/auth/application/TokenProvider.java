@@ -1,5 +1,7 @@
 package com.allog.dallog.auth.application;
 
+import com.allog.dallog.auth.domain.VerifiedToken;
+
 public interface TokenProvider {
 
     String createAccessToken(final String payload);
@@ -9,4 +11,6 @@ public interface TokenProvider {
     String getPayload(final String token);
 
     void validateToken(final String token);
+
+    VerifiedToken verify(final String token);
 }
@@ -0,0 +1,56 @@
+package com.allog.dallog.auth.application;
+
+import static com.allog.dallog.global.config.cache.CacheConfig.VERIFIED_TOKEN;
+
+import com.allog.dallog.auth.domain.VerifiedToken;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.Function;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명을 검증한 토큰을 만료 시각까지 기억하여, 같은 토큰으로 다시 요청하면 파싱과 서명 검증을 건너뛴다.
+ *
+ * <p>토큰 원문 대신 SHA-256 다이제스트를 키로 써서, 캐시에 토큰이 남지 않고 키 크기도 일정하다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(VerifiedTokenCache::sha256);
+
+    private final Cache cache;
+
+    public VerifiedTokenCache(final CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(VERIFIED_TOKEN);
+    }
+
+    public VerifiedToken get(final String token, final Function<String, VerifiedToken> verifier) {
+        ByteBuffer key = digest(token);
+        VerifiedToken cached = cache.get(key, VerifiedToken.class);
+        if (!Objects.isNull(cached) && cached.isUsableAt(Instant.now())) {
+            return cached;
+        }
+
+        VerifiedToken verified = verifier.apply(token);
+        cache.put(key, verified);
+        return verified;
+    }
+
+    private ByteBuffer digest(final String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.allog.dallog.auth.domain;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@code long} 키를 박싱하지 않고 담는 선형 탐사 해시 테이블. 항목마다 만료 시각을 두어 지난 항목은 없는 것으로 보고, 최대 개수에
+ * 이르면 몇 개를 표본으로 골라 그중 가장 먼저 만료되는(이미 만료된) 항목을 내보낸다.
+ *
+ * <p>삭제할 때 비석을 남기지 않고 뒤 항목을 당겨 채우므로, 오래 돌아도 탐사 길이가 늘지 않는다.
+ */
+class ExpiringLongKeyMap {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int LOAD_FACTOR_DIVISOR = 2;
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    // 압축 참조를 쓰는 64비트 JVM 기준 추정치다.
+    private static final int REFERENCE_BYTES = 4;
+    private static final int STRING_OVERHEAD_BYTES = 56;
+
+    private final int maximumSize;
+    private long[] keys;
+    private String[] values;
+    private long[] expiresAt;
+    private int size;
+    private long valueBytes;
+
+    ExpiringLongKeyMap(final int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("최대 개수는 1 이상이어야 합니다.");
+        }
+        this.maximumSize = maximumSize;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    synchronized void put(final long key, final String value, final long expiresAtMillis) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            valueBytes += estimate(value) - estimate(values[index]);
+            values[index] = value;
+            expiresAt[index] = expiresAtMillis;
+            return;
+        }
+
+        if (size >= maximumSize) {
+            evictSoonestToExpire();
+        }
+        if ((size + 1) * LOAD_FACTOR_DIVISOR > keys.length) {
+            resize(keys.length * 2);
+        }
+        insert(key, value, expiresAtMillis);
+    }
+
+    synchronized String get(final long key, final long now) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        if (expiresAt[index] <= now) {
+            deleteAt(index);
+            return null;
+        }
+        return values[index];
+    }
+
+    synchronized boolean remove(final long key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return false;
+        }
+        deleteAt(index);
+        return true;
+    }
+
+    synchronized int removeAllExpired(final long now) {
+        int removed = 0;
+        int index = 0;
+        while (index < keys.length) {
+            // 지운 자리에는 뒤 항목이 당겨 오므로 같은 자리를 다시 본다.
+            if (values[index] != null && expiresAt[index] <= now) {
+                deleteAt(index);
+                removed++;
+                continue;
+            }
+            index++;
+        }
+        return removed;
+    }
+
+    synchronized void clear() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized long estimateFootprint() {
+        long slotBytes = (long) keys.length * (Long.BYTES + Long.BYTES + REFERENCE_BYTES);
+        return slotBytes + valueBytes;
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        values = new String[capacity];
+        expiresAt = new long[capacity];
+        size = 0;
+        valueBytes = 0;
+    }
+
+    private int indexOf(final long key) {
+        int mask = keys.length - 1;
+        for (int index = slotFor(key, mask); values[index] != null; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(final long key, final String value, final long expiresAtMillis) {
+        int mask = keys.length - 1;
+        int index = slotFor(key, mask);
+        while (values[index] != null) {
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        expiresAt[index] = expiresAtMillis;
+        size++;
+        valueBytes += estimate(value);
+    }
+
+    private void deleteAt(final int index) {
+        int mask = keys.length - 1;
+        valueBytes -= estimate(values[index]);
+        size--;
+
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (values[next] != null) {
+            int home = slotFor(keys[next], mask);
+            // 원래 자리에서 빈칸까지의 거리가 지금 자리까지의 거리 이상이면, 빈칸으로 당겨도 탐사로 찾을 수 있다.
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                expiresAt[hole] = expiresAt[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[hole] = null;
+    }
+
+    private void evictSoonestToExpire() {
+        int mask = keys.length - 1;
+        int index = ThreadLocalRandom.current().nextInt(keys.length);
+        int victim = -1;
+        int sampled = 0;
+        for (int scanned = 0; scanned < keys.length && sampled < EVICTION_SAMPLE_SIZE; scanned++) {
+            if (values[index] != null) {
+                if (victim < 0 || expiresAt[index] < expiresAt[victim]) {
+                    victim = index;
+                }
+                sampled++;
+            }
+            index = (index + 1) & mask;
+        }
+        if (victim >= 0) {
+            deleteAt(victim);
+        }
+    }
+
+    private void resize(final int capacity) {
+        long[] oldKeys = keys;
+        String[] oldValues = values;
+        long[] oldExpiresAt = expiresAt;
+        allocate(capacity);
+        for (int index = 0; index < oldKeys.length; index++) {
+            if (oldValues[index] != null) {
+                insert(oldKeys[index], oldValues[index], oldExpiresAt[index]);
+            }
+        }
+    }
+
+    private static int slotFor(final long key, final int mask) {
+        long hash = key * GOLDEN_RATIO;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static long estimate(final String value) {
+        return STRING_OVERHEAD_BYTES + value.length();
+    }
+}
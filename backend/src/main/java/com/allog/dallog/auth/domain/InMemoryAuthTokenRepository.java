@@ -1,40 +1,82 @@
 package com.allog.dallog.auth.domain;
 
 import com.allog.dallog.auth.exception.NoSuchTokenException;
-import java.util.Map;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * 한 인스턴스 안에서만 쓰는 리프레시 토큰 저장소. 여러 인스턴스를 띄우지 않는 로컬 개발이나 테스트에서 {@code auth.token-repository=memory}로
+ * 켠다.
+ *
+ * <p>토큰은 리프레시 토큰 유효 기간이 지나면 사라지고, 최대 개수를 넘지 않으므로 회원이 늘어도 힙이 계속 커지지 않는다.
+ */
 @Component
-public class InMemoryAuthTokenRepository implements TokenRepository {
+@ConditionalOnProperty(name = "auth.token-repository", havingValue = "memory")
+public class InMemoryAuthTokenRepository implements TokenRepository, MeterBinder {
 
-    private static final Map<Long, String> TOKEN_REPOSITORY = new ConcurrentHashMap<>();
+    private final ExpiringLongKeyMap tokens;
+    private final long refreshTokenValidityInMilliseconds;
+
+    public InMemoryAuthTokenRepository(@Value("${security.jwt.token.refresh.expire-length}") final long refreshTokenValidityInMilliseconds,
+                                       @Value("${auth.token-repository.maximum-size:100000}") final int maximumSize) {
+        this.tokens = new ExpiringLongKeyMap(maximumSize);
+        this.refreshTokenValidityInMilliseconds = refreshTokenValidityInMilliseconds;
+    }
 
     @Override
     public String save(final Long memberId, final String refreshToken) {
-        TOKEN_REPOSITORY.put(memberId, refreshToken);
-        return TOKEN_REPOSITORY.get(memberId);
+        tokens.put(memberId, refreshToken, System.currentTimeMillis() + refreshTokenValidityInMilliseconds);
+        return refreshToken;
     }
 
     @Override
     public void deleteAll() {
-        TOKEN_REPOSITORY.clear();
+        tokens.clear();
     }
 
     @Override
     public void deleteByMemberId(final Long memberId) {
-        TOKEN_REPOSITORY.remove(memberId);
+        tokens.remove(memberId);
     }
 
     @Override
     public boolean exist(final Long memberId) {
-        return TOKEN_REPOSITORY.containsKey(memberId);
+        return tokens.get(memberId, System.currentTimeMillis()) != null;
     }
 
     @Override
     public String getToken(final Long memberId) {
-        Optional<String> token = Optional.ofNullable(TOKEN_REPOSITORY.get(memberId));
+        Optional<String> token = Optional.ofNullable(tokens.get(memberId, System.currentTimeMillis()));
         return token.orElseThrow(() -> new NoSuchTokenException("일치하는 토큰이 존재하지 않습니다."));
     }
+
+    @Scheduled(fixedDelayString = "${auth.refresh-token.sweep-interval:3600000}")
+    public void deleteAllExpired() {
+        tokens.removeAllExpired(System.currentTimeMillis());
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    public long estimateFootprint() {
+        return tokens.estimateFootprint();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("auth.refresh-token.store.size", this, InMemoryAuthTokenRepository::size)
+                .description("메모리에 담긴 리프레시 토큰 수")
+                .register(registry);
+        Gauge.builder("auth.refresh-token.store.footprint", this, InMemoryAuthTokenRepository::estimateFootprint)
+                .description("리프레시 토큰 저장소가 차지하는 힙 추정치")
+                .baseUnit("bytes")
+                .register(registry);
+    }
 }
@@ -0,0 +1,26 @@
+package com.allog.dallog.auth.domain;
+
+import java.time.LocalDateTime;
+
+public class OAuthAccessToken {
+
+    private final String value;
+    private final LocalDateTime expiredAt;
+
+    public OAuthAccessToken(final String value, final LocalDateTime expiredAt) {
+        this.value = value;
+        this.expiredAt = expiredAt;
+    }
+
+    public boolean isUsableAt(final LocalDateTime dateTime) {
+        return dateTime.isBefore(expiredAt);
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public LocalDateTime getExpiredAt() {
+        return expiredAt;
+    }
+}
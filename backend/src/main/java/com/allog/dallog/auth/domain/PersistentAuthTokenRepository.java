@@ -0,0 +1,93 @@
+package com.allog.dallog.auth.domain;
+
+import static com.allog.dallog.global.config.cache.CacheConfig.REFRESH_TOKEN;
+
+import com.allog.dallog.auth.exception.NoSuchTokenException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리프레시 토큰을 모든 인스턴스가 함께 쓰는 DB에 저장한다. 다른 인스턴스에서 발급한 토큰으로도 갱신할 수 있고, 재시작해도 로그인이
+ * 풀리지 않는다.
+ *
+ * <p>토큰은 리프레시 토큰 유효 기간이 지나면 조회되지 않고 주기적으로 지운다. 로그인과 인증 요청마다 DB에 가지 않도록 짧게 유지하는
+ * 로컬 캐시를 앞에 둔다.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.token-repository", havingValue = "persistent", matchIfMissing = true)
+public class PersistentAuthTokenRepository implements TokenRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(PersistentAuthTokenRepository.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Cache nearCache;
+    private final long refreshTokenValidityInMilliseconds;
+
+    public PersistentAuthTokenRepository(final RefreshTokenRepository refreshTokenRepository,
+                                         final CacheManager cacheManager,
+                                         @Value("${security.jwt.token.refresh.expire-length}") final long refreshTokenValidityInMilliseconds) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.nearCache = cacheManager.getCache(REFRESH_TOKEN);
+        this.refreshTokenValidityInMilliseconds = refreshTokenValidityInMilliseconds;
+    }
+
+    @Override
+    public String save(final Long memberId, final String refreshToken) {
+        LocalDateTime expiredAt = LocalDateTime.now().plus(refreshTokenValidityInMilliseconds, ChronoUnit.MILLIS);
+        refreshTokenRepository.upsert(memberId, refreshToken, expiredAt);
+        nearCache.put(memberId, new RefreshToken(memberId, refreshToken, expiredAt));
+        return refreshToken;
+    }
+
+    @Override
+    public void deleteAll() {
+        refreshTokenRepository.deleteAllInBatch();
+        nearCache.clear();
+    }
+
+    @Override
+    public void deleteByMemberId(final Long memberId) {
+        refreshTokenRepository.deleteByMemberId(memberId);
+        nearCache.evict(memberId);
+    }
+
+    @Override
+    public boolean exist(final Long memberId) {
+        return findToken(memberId).isPresent();
+    }
+
+    @Override
+    public String getToken(final Long memberId) {
+        return findToken(memberId)
+                .map(RefreshToken::getToken)
+                .orElseThrow(() -> new NoSuchTokenException("일치하는 토큰이 존재하지 않습니다."));
+    }
+
+    private Optional<RefreshToken> findToken(final Long memberId) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken cached = nearCache.get(memberId, RefreshToken.class);
+        if (!Objects.isNull(cached) && !cached.isExpiredAt(now)) {
+            return Optional.of(cached);
+        }
+
+        Optional<RefreshToken> refreshToken = refreshTokenRepository.findByMemberIdAndExpiredAtAfter(memberId, now);
+        refreshToken.ifPresentOrElse(token -> nearCache.put(memberId, token), () -> nearCache.evict(memberId));
+        return refreshToken;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.refresh-token.sweep-interval:3600000}")
+    public void deleteAllExpired() {
+        int expired = refreshTokenRepository.deleteAllExpiredAt(LocalDateTime.now());
+        log.debug("만료된 리프레시 토큰을 정리했습니다. (count: {})", expired);
+    }
+}
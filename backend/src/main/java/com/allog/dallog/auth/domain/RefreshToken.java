@@ -0,0 +1,47 @@
+package com.allog.dallog.auth.domain;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+@Table(name = "refresh_tokens")
+@Entity
+public class RefreshToken {
+
+    @Id
+    @Column(name = "members_id")
+    private Long memberId;
+
+    @Column(name = "token", nullable = false, length = 512)
+    private String token;
+
+    @Column(name = "expired_at", nullable = false)
+    private LocalDateTime expiredAt;
+
+    protected RefreshToken() {
+    }
+
+    public RefreshToken(final Long memberId, final String token, final LocalDateTime expiredAt) {
+        this.memberId = memberId;
+        this.token = token;
+        this.expiredAt = expiredAt;
+    }
+
+    public boolean isExpiredAt(final LocalDateTime dateTime) {
+        return !expiredAt.isAfter(dateTime);
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public LocalDateTime getExpiredAt() {
+        return expiredAt;
+    }
+}
@@ -0,0 +1,32 @@
+package com.allog.dallog.auth.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByMemberIdAndExpiredAtAfter(final Long memberId, final LocalDateTime dateTime);
+
+    // 있는지 먼저 조회하지 않고 한 번의 쿼리로 저장하거나 덮어쓴다.
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO refresh_tokens (members_id, token, expired_at) "
+            + "VALUES (:memberId, :token, :expiredAt) "
+            + "ON DUPLICATE KEY UPDATE token = VALUES(token), expired_at = VALUES(expired_at)",
+            nativeQuery = true)
+    void upsert(final Long memberId, final String token, final LocalDateTime expiredAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.memberId = :memberId")
+    void deleteByMemberId(final Long memberId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiredAt <= :dateTime")
+    int deleteAllExpiredAt(final LocalDateTime dateTime);
+}
@@ -0,0 +1,26 @@
+package com.allog.dallog.auth.domain;
+
+import java.time.Instant;
+
+public class VerifiedToken {
+
+    private final String payload;
+    private final Instant expiredAt;
+
+    public VerifiedToken(final String payload, final Instant expiredAt) {
+        this.payload = payload;
+        this.expiredAt = expiredAt;
+    }
+
+    public boolean isUsableAt(final Instant instant) {
+        return instant.isBefore(expiredAt);
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getExpiredAt() {
+        return expiredAt;
+    }
+}
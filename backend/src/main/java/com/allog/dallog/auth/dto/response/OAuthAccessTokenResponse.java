@@ -7,15 +7,25 @@ import com.fasterxml.jackson.databind.annotation.JsonNaming;
 public class OAuthAccessTokenResponse {
 
     private String accessToken;
+    private long expiresIn;
 
     private OAuthAccessTokenResponse() {
     }
 
     public OAuthAccessTokenResponse(final String accessToken) {
+        this(accessToken, 0);
+    }
+
+    public OAuthAccessTokenResponse(final String accessToken, final long expiresIn) {
         this.accessToken = accessToken;
+        this.expiresIn = expiresIn;
     }
 
     public String getAccessToken() {
         return accessToken;
     }
+
+    public long getExpiresIn() {
+        return expiresIn;
+    }
 }
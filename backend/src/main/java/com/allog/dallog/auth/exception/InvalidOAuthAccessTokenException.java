@@ -0,0 +1,12 @@
+package com.allog.dallog.auth.exception;
+
+public class InvalidOAuthAccessTokenException extends RuntimeException {
+
+    public InvalidOAuthAccessTokenException(final String message, final Exception e) {
+        super(message, e);
+    }
+
+    public InvalidOAuthAccessTokenException(final Exception e) {
+        this("OAuth 엑세스 토큰이 유효하지 않습니다.", e);
+    }
+}
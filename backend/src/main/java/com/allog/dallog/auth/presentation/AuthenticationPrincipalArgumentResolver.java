@@ -2,6 +2,7 @@ package com.allog.dallog.auth.presentation;
 
 import com.allog.dallog.auth.application.AuthService;
 import com.allog.dallog.auth.dto.LoginMember;
+import com.allog.dallog.global.config.replication.ConsistencySession;
 import javax.servlet.http.HttpServletRequest;
 import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
@@ -30,6 +31,7 @@ public class AuthenticationPrincipalArgumentResolver implements HandlerMethodArg
         HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
         String accessToken = AuthorizationExtractor.extract(request);
         Long id = authService.extractMemberId(accessToken);
+        ConsistencySession.bind(id);
         return new LoginMember(id);
     }
 }
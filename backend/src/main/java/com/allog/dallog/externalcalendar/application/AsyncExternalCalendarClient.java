@@ -0,0 +1,14 @@
+package com.allog.dallog.externalcalendar.application;
+
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncExternalCalendarClient {
+
+    CompletableFuture<List<IntegrationSchedule>> getExternalCalendarSchedules(final String accessToken,
+                                                                              final Long internalCategoryId,
+                                                                              final String externalCalendarId,
+                                                                              final String startDateTime,
+                                                                              final String endDateTime);
+}
@@ -1,6 +1,7 @@
 package com.allog.dallog.externalcalendar.application;
 
 import com.allog.dallog.externalcalendar.dto.ExternalCalendar;
+import com.allog.dallog.externalcalendar.dto.ExternalScheduleChanges;
 import com.allog.dallog.schedule.domain.IntegrationSchedule;
 import java.util.List;
 
@@ -12,4 +13,14 @@ public interface ExternalCalendarClient {
                                                            final Long internalCategoryId,
                                                            final String externalCalendarId,
                                                            final String startDateTime, final String endDateTime);
+
+    ExternalScheduleChanges syncExternalCalendarSchedules(final String accessToken,
+                                                          final Long internalCategoryId,
+                                                          final String externalCalendarId,
+                                                          final String startDateTime, final String endDateTime);
+
+    ExternalScheduleChanges syncExternalCalendarScheduleChanges(final String accessToken,
+                                                                final Long internalCategoryId,
+                                                                final String externalCalendarId,
+                                                                final String syncToken);
 }
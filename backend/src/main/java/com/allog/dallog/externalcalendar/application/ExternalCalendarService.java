@@ -1,21 +1,23 @@
 package com.allog.dallog.externalcalendar.application;
 
-import com.allog.dallog.auth.application.OAuthClient;
+import com.allog.dallog.auth.application.OAuthAccessTokenCache;
 import com.allog.dallog.auth.domain.OAuthToken;
 import com.allog.dallog.auth.domain.OAuthTokenRepository;
+import com.allog.dallog.auth.exception.InvalidOAuthAccessTokenException;
 import com.allog.dallog.externalcalendar.dto.ExternalCalendarsResponse;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ExternalCalendarService {
 
-    private final OAuthClient oAuthClient;
+    private final OAuthAccessTokenCache oAuthAccessTokenCache;
     private final ExternalCalendarClient externalCalendarClient;
     private final OAuthTokenRepository oAuthTokenRepository;
 
-    public ExternalCalendarService(final OAuthClient oAuthClient, final ExternalCalendarClient externalCalendarClient,
+    public ExternalCalendarService(final OAuthAccessTokenCache oAuthAccessTokenCache,
+                                   final ExternalCalendarClient externalCalendarClient,
                                    final OAuthTokenRepository oAuthTokenRepository) {
-        this.oAuthClient = oAuthClient;
+        this.oAuthAccessTokenCache = oAuthAccessTokenCache;
         this.externalCalendarClient = externalCalendarClient;
         this.oAuthTokenRepository = oAuthTokenRepository;
     }
@@ -23,8 +25,13 @@ public class ExternalCalendarService {
     public ExternalCalendarsResponse findByMemberId(final Long memberId) {
         OAuthToken oAuthToken = oAuthTokenRepository.getByMemberId(memberId);
 
-        String oAuthAccessToken = oAuthClient.getAccessToken(oAuthToken.getRefreshToken()).getAccessToken();
+        String oAuthAccessToken = oAuthAccessTokenCache.getAccessToken(memberId, oAuthToken.getRefreshToken());
 
-        return new ExternalCalendarsResponse(externalCalendarClient.getExternalCalendars(oAuthAccessToken));
+        try {
+            return new ExternalCalendarsResponse(externalCalendarClient.getExternalCalendars(oAuthAccessToken));
+        } catch (final InvalidOAuthAccessTokenException e) {
+            oAuthAccessTokenCache.evict(memberId, oAuthAccessToken);
+            throw e;
+        }
     }
 }
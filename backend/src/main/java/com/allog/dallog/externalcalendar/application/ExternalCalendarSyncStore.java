@@ -0,0 +1,336 @@
+package com.allog.dallog.externalcalendar.application;
+
+import static com.allog.dallog.global.config.cache.CacheConfig.GOOGLE_CALENDAR_SYNC;
+import static com.allog.dallog.global.config.executor.ExecutorConfig.EXTERNAL_CALENDAR_EXECUTOR;
+
+import com.allog.dallog.auth.exception.InvalidOAuthAccessTokenException;
+import com.allog.dallog.externalcalendar.dto.ExternalScheduleChanges;
+import com.allog.dallog.externalcalendar.exception.ExpiredSyncTokenException;
+import com.allog.dallog.global.config.cache.Weighable;
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 캘린더마다 일정 사본과 동기화 토큰을 들고 있다가, 동기화 주기가 지나면 바뀐 일정만 받아 사본에 반영한다.
+ *
+ * <p>처음 조회하거나 동기화 토큰이 만료되면 전체를 다시 받는다. 전체 동기화는 몇 달 전부터 몇 달 뒤까지의 일정만 받으므로, 그 밖의
+ * 구간은 {@link MonthlyExternalScheduleCache}로 조회한다. 반복 일정은 하나하나 펼쳐 받기 때문에, 끝이 없는 반복 일정이 있어도
+ * 사본이 끝없이 커지지 않도록 범위를 양쪽 모두 정한다. 동기화 토큰으로 받는 변경분은 범위를 줄 수 없어 범위 밖의 일정도 올 수 있으므로,
+ * 사본에 반영할 때 범위 밖의 일정은 버린다.
+ *
+ * <p>사본이 최신이면 바로 돌려주고, 동기화가 필요할 때만 외부 캘린더 전용 스레드 풀에서 동기화한다. 같은 캘린더의 동기화는
+ * 한 번에 하나만 돌린다. 가진 사본이 있는데 동기화가 실패하거나(서킷이 열린 경우 포함) 정해진 시간 안에 끝나지 않으면, 지난 사본으로
+ * 응답하고 늦어진 동기화는 끝나는 대로 사본에 반영한다(stale-while-revalidate). 실패한 동기화도 시도한 시각을 남겨, 다음 동기화는
+ * 동기화 주기가 지난 뒤에 한다.
+ *
+ * <p>액세스 토큰이 거절되면 지난 사본으로 감추지 않고 예외를 그대로 넘겨, 조회하는 쪽이 토큰을 버리고 다시 발급받게 한다.
+ */
+@Component
+public class ExternalCalendarSyncStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ExternalCalendarSyncStore.class);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final ExternalCalendarClient externalCalendarClient;
+    private final MonthlyExternalScheduleCache monthlyExternalScheduleCache;
+    private final Cache cache;
+    private final Executor executor;
+    private final long syncIntervalInSeconds;
+    private final long syncMonthsBefore;
+    private final long syncMonthsAfter;
+    private final long staleTimeoutInMillis;
+    private final Map<SyncKey, CompletableFuture<ExternalCalendarSnapshot>> syncing = new ConcurrentHashMap<>();
+
+    public ExternalCalendarSyncStore(final ExternalCalendarClient externalCalendarClient,
+                                     final MonthlyExternalScheduleCache monthlyExternalScheduleCache,
+                                     final CacheManager cacheManager,
+                                     @Qualifier(EXTERNAL_CALENDAR_EXECUTOR) final Executor executor,
+                                     @Value("${external-calendar.sync.interval:60}") final long syncIntervalInSeconds,
+                                     @Value("${external-calendar.sync.months-before:3}") final long syncMonthsBefore,
+                                     @Value("${external-calendar.sync.months-after:12}") final long syncMonthsAfter,
+                                     @Value("${external-calendar.sync.stale-timeout:1000}") final long staleTimeoutInMillis) {
+        this.externalCalendarClient = externalCalendarClient;
+        this.monthlyExternalScheduleCache = monthlyExternalScheduleCache;
+        this.cache = cacheManager.getCache(GOOGLE_CALENDAR_SYNC);
+        this.executor = executor;
+        this.syncIntervalInSeconds = syncIntervalInSeconds;
+        this.syncMonthsBefore = syncMonthsBefore;
+        this.syncMonthsAfter = syncMonthsAfter;
+        this.staleTimeoutInMillis = staleTimeoutInMillis;
+    }
+
+    public CompletableFuture<List<IntegrationSchedule>> getSchedules(final String accessToken,
+                                                                     final Long internalCategoryId,
+                                                                     final String externalCalendarId,
+                                                                     final LocalDateTime startDateTime,
+                                                                     final LocalDateTime endDateTime) {
+        SyncKey key = new SyncKey(internalCategoryId, externalCalendarId);
+        LocalDateTime now = LocalDateTime.now();
+        ExternalCalendarSnapshot snapshot = getCached(key);
+
+        LocalDateTime syncedFrom = Objects.isNull(snapshot) ? calculateSyncedFrom(now) : snapshot.getSyncedFrom();
+        LocalDateTime syncedUntil = Objects.isNull(snapshot) ? calculateSyncedUntil(now) : snapshot.getSyncedUntil();
+        if (startDateTime.isBefore(syncedFrom) || endDateTime.isAfter(syncedUntil)) {
+            return monthlyExternalScheduleCache.getSchedules(accessToken, internalCategoryId, externalCalendarId,
+                    startDateTime, endDateTime);
+        }
+
+        if (!Objects.isNull(snapshot) && !snapshot.isSyncRequiredAt(now, syncIntervalInSeconds)) {
+            return CompletableFuture.completedFuture(snapshot.findOverlapped(startDateTime, endDateTime));
+        }
+
+        CompletableFuture<ExternalCalendarSnapshot> synced = syncAsync(key, snapshot, accessToken, now);
+        if (Objects.isNull(snapshot)) {
+            return synced.thenApply(it -> it.findOverlapped(startDateTime, endDateTime));
+        }
+        return synced
+                .exceptionally(e -> {
+                    Throwable cause = unwrap(e);
+                    if (cause instanceof InvalidOAuthAccessTokenException) {
+                        throw (InvalidOAuthAccessTokenException) cause;
+                    }
+                    log.warn("외부 캘린더를 동기화하지 못해 지난 사본으로 응답합니다. (categoryId: {})", internalCategoryId, e);
+                    return snapshot;
+                })
+                .completeOnTimeout(snapshot, staleTimeoutInMillis, TimeUnit.MILLISECONDS)
+                .thenApply(it -> it.findOverlapped(startDateTime, endDateTime));
+    }
+
+    private CompletableFuture<ExternalCalendarSnapshot> syncAsync(final SyncKey key,
+                                                                  final ExternalCalendarSnapshot snapshot,
+                                                                  final String accessToken, final LocalDateTime now) {
+        CompletableFuture<ExternalCalendarSnapshot> created = new CompletableFuture<>();
+        CompletableFuture<ExternalCalendarSnapshot> inProgress = syncing.putIfAbsent(key, created);
+        if (!Objects.isNull(inProgress)) {
+            return inProgress;
+        }
+
+        try {
+            CompletableFuture.supplyAsync(() -> sync(key, snapshot, accessToken, now), executor)
+                    .whenComplete((synced, throwable) -> {
+                        syncing.remove(key, created);
+                        if (Objects.isNull(throwable)) {
+                            created.complete(synced);
+                            return;
+                        }
+                        created.completeExceptionally(throwable);
+                    });
+        } catch (final RejectedExecutionException e) {
+            log.warn("외부 캘린더 동기화 작업이 거절되었습니다. (categoryId: {})", key.internalCategoryId);
+            syncing.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private ExternalCalendarSnapshot getCached(final SyncKey key) {
+        ValueWrapper valueWrapper = cache.get(key);
+        if (Objects.isNull(valueWrapper)) {
+            return null;
+        }
+        return (ExternalCalendarSnapshot) valueWrapper.get();
+    }
+
+    private ExternalCalendarSnapshot sync(final SyncKey key, final ExternalCalendarSnapshot snapshot,
+                                          final String accessToken, final LocalDateTime now) {
+        if (Objects.isNull(snapshot)) {
+            ExternalCalendarSnapshot synced = syncAll(key, accessToken, now);
+            cache.put(key, synced);
+            return synced;
+        }
+
+        try {
+            ExternalCalendarSnapshot synced = syncChanges(key, snapshot, accessToken, now);
+            cache.put(key, synced);
+            return synced;
+        } catch (final InvalidOAuthAccessTokenException e) {
+            throw e;
+        } catch (final RuntimeException e) {
+            cache.put(key, snapshot.attemptedAt(now));
+            throw e;
+        }
+    }
+
+    private ExternalCalendarSnapshot syncAll(final SyncKey key, final String accessToken, final LocalDateTime now) {
+        LocalDateTime syncedFrom = calculateSyncedFrom(now);
+        LocalDateTime syncedUntil = calculateSyncedUntil(now);
+        ExternalScheduleChanges changes = externalCalendarClient.syncExternalCalendarSchedules(accessToken,
+                key.internalCategoryId, key.externalCalendarId, syncedFrom.format(DATE_FORMATTER),
+                syncedUntil.format(DATE_FORMATTER));
+        return ExternalCalendarSnapshot.empty(syncedFrom, syncedUntil)
+                .apply(changes, now);
+    }
+
+    private ExternalCalendarSnapshot syncChanges(final SyncKey key, final ExternalCalendarSnapshot snapshot,
+                                                 final String accessToken, final LocalDateTime now) {
+        // 응답에 다음 동기화 토큰이 없을 수도 있으므로, 토큰이 없으면 바뀐 일정만 받을 수 없어 전체를 다시 받는다.
+        if (Objects.isNull(snapshot.getSyncToken())) {
+            return syncAll(key, accessToken, now);
+        }
+        try {
+            ExternalScheduleChanges changes = externalCalendarClient.syncExternalCalendarScheduleChanges(
+                    accessToken, key.internalCategoryId, key.externalCalendarId, snapshot.getSyncToken());
+            return snapshot.apply(changes, now);
+        } catch (final ExpiredSyncTokenException e) {
+            log.info("외부 캘린더 동기화 토큰이 만료되어 전체를 다시 동기화합니다. (categoryId: {})", key.internalCategoryId);
+            return syncAll(key, accessToken, now);
+        }
+    }
+
+    private LocalDateTime calculateSyncedUntil(final LocalDateTime now) {
+        return LocalDate.from(now)
+                .withDayOfMonth(1)
+                .plusMonths(syncMonthsAfter + 1)
+                .atStartOfDay();
+    }
+
+    private Throwable unwrap(final Throwable throwable) {
+        if (throwable instanceof CompletionException && !Objects.isNull(throwable.getCause())) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private LocalDateTime calculateSyncedFrom(final LocalDateTime now) {
+        return LocalDate.from(now)
+                .withDayOfMonth(1)
+                .minusMonths(syncMonthsBefore)
+                .atStartOfDay();
+    }
+
+    private static class ExternalCalendarSnapshot implements Weighable {
+
+        private final Map<String, IntegrationSchedule> schedules;
+        private final String syncToken;
+        private final LocalDateTime syncedFrom;
+        private final LocalDateTime syncedUntil;
+        private final LocalDateTime attemptedAt;
+
+        private ExternalCalendarSnapshot(final Map<String, IntegrationSchedule> schedules, final String syncToken,
+                                         final LocalDateTime syncedFrom, final LocalDateTime syncedUntil,
+                                         final LocalDateTime attemptedAt) {
+            this.schedules = schedules;
+            this.syncToken = syncToken;
+            this.syncedFrom = syncedFrom;
+            this.syncedUntil = syncedUntil;
+            this.attemptedAt = attemptedAt;
+        }
+
+        private static ExternalCalendarSnapshot empty(final LocalDateTime syncedFrom,
+                                                      final LocalDateTime syncedUntil) {
+            return new ExternalCalendarSnapshot(Map.of(), null, syncedFrom, syncedUntil, syncedFrom);
+        }
+
+        // 업스트림이 실패하는 동안 요청마다 다시 동기화하지 않도록, 일정은 그대로 두고 시도한 시각만 바꾼다.
+        private ExternalCalendarSnapshot attemptedAt(final LocalDateTime now) {
+            return new ExternalCalendarSnapshot(schedules, syncToken, syncedFrom, syncedUntil, now);
+        }
+
+        // 조회 중인 스레드가 반쯤 바뀐 사본을 보지 않도록, 바뀐 일정이 있으면 새 사본을 만든다.
+        private ExternalCalendarSnapshot apply(final ExternalScheduleChanges changes, final LocalDateTime now) {
+            if (changes.isEmpty()) {
+                return new ExternalCalendarSnapshot(schedules, changes.getNextSyncToken(), syncedFrom, syncedUntil,
+                        now);
+            }
+
+            Map<String, IntegrationSchedule> applied = new LinkedHashMap<>(schedules);
+            for (IntegrationSchedule schedule : changes.getChangedSchedules()) {
+                if (schedule.isOverlapped(syncedFrom, syncedUntil)) {
+                    applied.put(schedule.getId(), schedule);
+                    continue;
+                }
+                applied.remove(schedule.getId());
+            }
+            for (String cancelledScheduleId : changes.getCancelledScheduleIds()) {
+                applied.remove(cancelledScheduleId);
+            }
+            return new ExternalCalendarSnapshot(Collections.unmodifiableMap(applied), changes.getNextSyncToken(),
+                    syncedFrom, syncedUntil, now);
+        }
+
+        private boolean isSyncRequiredAt(final LocalDateTime now, final long syncIntervalInSeconds) {
+            return !now.isBefore(attemptedAt.plusSeconds(syncIntervalInSeconds));
+        }
+
+        private List<IntegrationSchedule> findOverlapped(final LocalDateTime startDateTime,
+                                                         final LocalDateTime endDateTime) {
+            return schedules.values()
+                    .stream()
+                    .filter(schedule -> schedule.isOverlapped(startDateTime, endDateTime))
+                    .collect(Collectors.toList());
+        }
+
+        private String getSyncToken() {
+            return syncToken;
+        }
+
+        private LocalDateTime getSyncedFrom() {
+            return syncedFrom;
+        }
+
+        private LocalDateTime getSyncedUntil() {
+            return syncedUntil;
+        }
+
+        @Override
+        public int getWeight() {
+            return schedules.size() + 1;
+        }
+    }
+
+    private static class SyncKey {
+
+        private final Long internalCategoryId;
+        private final String externalCalendarId;
+
+        private SyncKey(final Long internalCategoryId, final String externalCalendarId) {
+            this.internalCategoryId = internalCategoryId;
+            this.externalCalendarId = externalCalendarId;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SyncKey syncKey = (SyncKey) o;
+            return Objects.equals(internalCategoryId, syncKey.internalCategoryId)
+                    && Objects.equals(externalCalendarId, syncKey.externalCalendarId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(internalCategoryId, externalCalendarId);
+        }
+
+        @Override
+        public String toString() {
+            return internalCategoryId + ":" + externalCalendarId;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.allog.dallog.externalcalendar.application;
+
+import static com.allog.dallog.global.config.cache.CacheConfig.GOOGLE_CALENDAR;
+
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 일정을 (카테고리, 외부 캘린더, 월) 단위로 캐시한다.
+ *
+ * <p>조회 구간이 걸치는 달의 캐시를 모아 구간에 겹치는 일정만 돌려주고, 캐시에 없는 달은 연속된 달끼리 묶어 한 번에 가져온다.
+ * 주간, 월간, 6주 화면이 같은 캐시를 함께 쓰고, 구간이 조금 달라져도 외부 캘린더를 다시 호출하지 않는다.
+ *
+ * <p>캐시에 없는 달은 스레드를 붙잡지 않는 {@link AsyncExternalCalendarClient}로 한꺼번에 요청한다.
+ */
+@Component
+public class MonthlyExternalScheduleCache {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final AsyncExternalCalendarClient asyncExternalCalendarClient;
+    private final Cache cache;
+
+    public MonthlyExternalScheduleCache(final AsyncExternalCalendarClient asyncExternalCalendarClient,
+                                        final CacheManager cacheManager) {
+        this.asyncExternalCalendarClient = asyncExternalCalendarClient;
+        this.cache = cacheManager.getCache(GOOGLE_CALENDAR);
+    }
+
+    public CompletableFuture<List<IntegrationSchedule>> getSchedules(final String accessToken,
+                                                                     final Long internalCategoryId,
+                                                                     final String externalCalendarId,
+                                                                     final LocalDateTime startDateTime,
+                                                                     final LocalDateTime endDateTime) {
+        Map<YearMonth, List<IntegrationSchedule>> buckets = new LinkedHashMap<>();
+        List<YearMonth> missingMonths = new ArrayList<>();
+        YearMonth lastMonth = YearMonth.from(endDateTime);
+        for (YearMonth month = YearMonth.from(startDateTime); !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            List<IntegrationSchedule> cached = getCached(new MonthKey(internalCategoryId, externalCalendarId, month));
+            if (Objects.isNull(cached)) {
+                missingMonths.add(month);
+            }
+            buckets.put(month, cached);
+        }
+
+        List<CompletableFuture<Map<YearMonth, List<IntegrationSchedule>>>> fetches = toContinuousRuns(missingMonths)
+                .stream()
+                .map(run -> fetchMonths(accessToken, internalCategoryId, externalCalendarId, run))
+                .collect(Collectors.toList());
+
+        return CompletableFuture.allOf(fetches.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    fetches.forEach(fetch -> buckets.putAll(fetch.join()));
+                    return collectOverlapped(buckets, startDateTime, endDateTime);
+                });
+    }
+
+    // 여러 달에 걸친 일정은 달마다 담겨 있으므로 중복을 제거한다.
+    private List<IntegrationSchedule> collectOverlapped(final Map<YearMonth, List<IntegrationSchedule>> buckets,
+                                                        final LocalDateTime startDateTime,
+                                                        final LocalDateTime endDateTime) {
+        return buckets.values()
+                .stream()
+                .flatMap(List::stream)
+                .filter(schedule -> schedule.isOverlapped(startDateTime, endDateTime))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<IntegrationSchedule> getCached(final MonthKey key) {
+        ValueWrapper valueWrapper = cache.get(key);
+        if (Objects.isNull(valueWrapper)) {
+            return null;
+        }
+        return (List<IntegrationSchedule>) valueWrapper.get();
+    }
+
+    private List<List<YearMonth>> toContinuousRuns(final List<YearMonth> months) {
+        List<List<YearMonth>> runs = new ArrayList<>();
+        List<YearMonth> run = new ArrayList<>();
+        for (YearMonth month : months) {
+            if (!run.isEmpty() && !run.get(run.size() - 1).plusMonths(1).equals(month)) {
+                runs.add(run);
+                run = new ArrayList<>();
+            }
+            run.add(month);
+        }
+        if (!run.isEmpty()) {
+            runs.add(run);
+        }
+        return runs;
+    }
+
+    private CompletableFuture<Map<YearMonth, List<IntegrationSchedule>>> fetchMonths(final String accessToken,
+                                                                                      final Long internalCategoryId,
+                                                                                      final String externalCalendarId,
+                                                                                      final List<YearMonth> months) {
+        YearMonth firstMonth = months.get(0);
+        YearMonth lastMonth = months.get(months.size() - 1);
+        return asyncExternalCalendarClient.getExternalCalendarSchedules(accessToken, internalCategoryId,
+                        externalCalendarId, startOf(firstMonth).format(DATE_FORMATTER),
+                        startOf(lastMonth.plusMonths(1)).format(DATE_FORMATTER))
+                .thenApply(schedules -> putBuckets(internalCategoryId, externalCalendarId, months, schedules));
+    }
+
+    private Map<YearMonth, List<IntegrationSchedule>> putBuckets(final Long internalCategoryId,
+                                                                 final String externalCalendarId,
+                                                                 final List<YearMonth> months,
+                                                                 final List<IntegrationSchedule> schedules) {
+        Map<YearMonth, List<IntegrationSchedule>> buckets = new LinkedHashMap<>();
+        for (YearMonth month : months) {
+            List<IntegrationSchedule> bucket = schedules.stream()
+                    .filter(schedule -> schedule.isOverlapped(startOf(month), startOf(month.plusMonths(1))))
+                    .collect(Collectors.toUnmodifiableList());
+            cache.put(new MonthKey(internalCategoryId, externalCalendarId, month), bucket);
+            buckets.put(month, bucket);
+        }
+        return buckets;
+    }
+
+    private LocalDateTime startOf(final YearMonth month) {
+        return month.atDay(1).atStartOfDay();
+    }
+
+    private static class MonthKey {
+
+        private final Long internalCategoryId;
+        private final String externalCalendarId;
+        private final YearMonth month;
+
+        private MonthKey(final Long internalCategoryId, final String externalCalendarId, final YearMonth month) {
+            this.internalCategoryId = internalCategoryId;
+            this.externalCalendarId = externalCalendarId;
+            this.month = month;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            MonthKey monthKey = (MonthKey) o;
+            return Objects.equals(internalCategoryId, monthKey.internalCategoryId)
+                    && Objects.equals(externalCalendarId, monthKey.externalCalendarId)
+                    && Objects.equals(month, monthKey.month);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(internalCategoryId, externalCalendarId, month);
+        }
+
+        @Override
+        public String toString() {
+            return internalCategoryId + ":" + externalCalendarId + ":" + month;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.allog.dallog.externalcalendar.dto;
+
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import java.util.List;
+
+public class ExternalScheduleChanges {
+
+    private final List<IntegrationSchedule> changedSchedules;
+    private final List<String> cancelledScheduleIds;
+    private final String nextSyncToken;
+
+    public ExternalScheduleChanges(final List<IntegrationSchedule> changedSchedules,
+                                   final List<String> cancelledScheduleIds, final String nextSyncToken) {
+        this.changedSchedules = changedSchedules;
+        this.cancelledScheduleIds = cancelledScheduleIds;
+        this.nextSyncToken = nextSyncToken;
+    }
+
+    public boolean isEmpty() {
+        return changedSchedules.isEmpty() && cancelledScheduleIds.isEmpty();
+    }
+
+    public List<IntegrationSchedule> getChangedSchedules() {
+        return changedSchedules;
+    }
+
+    public List<String> getCancelledScheduleIds() {
+        return cancelledScheduleIds;
+    }
+
+    public String getNextSyncToken() {
+        return nextSyncToken;
+    }
+}
@@ -0,0 +1,12 @@
+package com.allog.dallog.externalcalendar.exception;
+
+public class ExpiredSyncTokenException extends RuntimeException {
+
+    public ExpiredSyncTokenException(final String message, final Exception e) {
+        super(message, e);
+    }
+
+    public ExpiredSyncTokenException(final Exception e) {
+        this("외부 캘린더 동기화 토큰이 만료되었습니다.", e);
+    }
+}
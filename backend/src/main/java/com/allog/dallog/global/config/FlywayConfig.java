@@ -0,0 +1,23 @@
+package com.allog.dallog.global.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스키마는 {@code db/migration}의 버전 마이그레이션으로 관리한다.
+ *
+ * <p>V1은 마이그레이션을 도입하기 전의 스키마이므로, 이미 테이블이 있는 DB는 V1을 기준점으로 삼고 그 다음 버전부터 적용한다.
+ */
+@Configuration
+public class FlywayConfig {
+
+    private static final String BASELINE_VERSION = "1";
+
+    @Bean
+    public FlywayConfigurationCustomizer baselineCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion(BASELINE_VERSION);
+    }
+}
@@ -1,8 +1,11 @@
 package com.allog.dallog.global.config;
 
+import com.allog.dallog.schedule.presentation.CheckedSchedulesHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -12,11 +15,14 @@ public class WebConfig implements WebMvcConfigurer {
 
     private final List<String> allowOriginUrlPatterns;
     private final HandlerMethodArgumentResolver authenticationPrincipalArgumentResolver;
+    private final ObjectMapper objectMapper;
 
     public WebConfig(@Value("${cors.allow-origin.urls}") final List<String> allowOriginUrlPatterns,
-                     final HandlerMethodArgumentResolver authenticationPrincipalArgumentResolver) {
+                     final HandlerMethodArgumentResolver authenticationPrincipalArgumentResolver,
+                     final ObjectMapper objectMapper) {
         this.allowOriginUrlPatterns = allowOriginUrlPatterns;
         this.authenticationPrincipalArgumentResolver = authenticationPrincipalArgumentResolver;
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -33,4 +39,10 @@ public class WebConfig implements WebMvcConfigurer {
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> argumentResolvers) {
         argumentResolvers.add(authenticationPrincipalArgumentResolver);
     }
+
+    // Jackson 변환기가 먼저 고르지 않도록 맨 앞에 둔다.
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new CheckedSchedulesHttpMessageConverter(objectMapper));
+    }
 }
@@ -0,0 +1,80 @@
+package com.allog.dallog.global.config.cache;
+
+/**
+ * 가장 오래전에 사용된 항목이 앞에 오는 이중 연결 리스트. 동기화하지 않으므로 호출하는 쪽에서 잠금을 잡아야 한다.
+ */
+class AccessOrderDeque {
+
+    private CacheEntry first;
+    private CacheEntry last;
+    private int size;
+
+    void linkLast(final CacheEntry entry) {
+        entry.setDeque(this);
+        entry.setPrevious(last);
+        entry.setNext(null);
+        if (last == null) {
+            first = entry;
+        } else {
+            last.setNext(entry);
+        }
+        last = entry;
+        size++;
+    }
+
+    void unlink(final CacheEntry entry) {
+        CacheEntry previous = entry.getPrevious();
+        CacheEntry next = entry.getNext();
+        if (previous == null) {
+            first = next;
+        } else {
+            previous.setNext(next);
+        }
+        if (next == null) {
+            last = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+        entry.setDeque(null);
+        entry.setPrevious(null);
+        entry.setNext(null);
+        size--;
+    }
+
+    void moveToLast(final CacheEntry entry) {
+        if (entry != last) {
+            unlink(entry);
+            linkLast(entry);
+        }
+    }
+
+    CacheEntry pollFirst() {
+        CacheEntry entry = first;
+        if (entry != null) {
+            unlink(entry);
+        }
+        return entry;
+    }
+
+    CacheEntry peekFirst() {
+        return first;
+    }
+
+    CacheEntry peekLast() {
+        return last;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        while (first != null) {
+            unlink(first);
+        }
+    }
+}
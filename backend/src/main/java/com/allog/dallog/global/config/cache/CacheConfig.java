@@ -1,13 +1,14 @@
 package com.allog.dallog.global.config.cache;
 
+import java.util.Collection;
 import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.annotation.Scheduled;
 
 @Configuration
 @EnableCaching
@@ -15,19 +16,70 @@ import org.springframework.scheduling.annotation.Scheduled;
 public class CacheConfig {
 
     public static final String GOOGLE_CALENDAR = "googleCalendar";
+    public static final String GOOGLE_CALENDAR_SYNC = "googleCalendarSync";
+    public static final String VERIFIED_TOKEN = "verifiedToken";
+    public static final String REFRESH_TOKEN = "refreshToken";
     private static final long EXPIRE_AFTER = 60 * 60 * 3;
+    private static final long SYNC_EXPIRE_AFTER = 60 * 60 * 24;
+
+    private final long googleCalendarMaximumSize;
+    private final long googleCalendarMaximumWeight;
+    private final long googleCalendarSyncMaximumSize;
+    private final long googleCalendarSyncMaximumWeight;
+    private final long verifiedTokenExpireAfter;
+    private final long verifiedTokenMaximumSize;
+    private final long refreshTokenExpireAfter;
+    private final long refreshTokenMaximumSize;
+
+    public CacheConfig(@Value("${cache.google-calendar.maximum-size:10000}") final long googleCalendarMaximumSize,
+                       @Value("${cache.google-calendar.maximum-weight:500000}") final long googleCalendarMaximumWeight,
+                       @Value("${cache.google-calendar-sync.maximum-size:2000}") final long googleCalendarSyncMaximumSize,
+                       @Value("${cache.google-calendar-sync.maximum-weight:500000}") final long googleCalendarSyncMaximumWeight,
+                       @Value("${cache.verified-token.expire-after:3600}") final long verifiedTokenExpireAfter,
+                       @Value("${cache.verified-token.maximum-size:10000}") final long verifiedTokenMaximumSize,
+                       @Value("${cache.refresh-token.expire-after:10}") final long refreshTokenExpireAfter,
+                       @Value("${cache.refresh-token.maximum-size:1000}") final long refreshTokenMaximumSize) {
+        this.googleCalendarMaximumSize = googleCalendarMaximumSize;
+        this.googleCalendarMaximumWeight = googleCalendarMaximumWeight;
+        this.googleCalendarSyncMaximumSize = googleCalendarSyncMaximumSize;
+        this.googleCalendarSyncMaximumWeight = googleCalendarSyncMaximumWeight;
+        this.verifiedTokenExpireAfter = verifiedTokenExpireAfter;
+        this.verifiedTokenMaximumSize = verifiedTokenMaximumSize;
+        this.refreshTokenExpireAfter = refreshTokenExpireAfter;
+        this.refreshTokenMaximumSize = refreshTokenMaximumSize;
+    }
 
     @Bean
     public CacheManager cacheManager() {
         SimpleCacheManager simpleCacheManager = new SimpleCacheManager();
-        simpleCacheManager.setCaches(List.of(new ExpiringConcurrentMapCache(GOOGLE_CALENDAR, EXPIRE_AFTER)));
+        simpleCacheManager.setCaches(List.of(
+                new ExpiringConcurrentMapCache(GOOGLE_CALENDAR, EXPIRE_AFTER, googleCalendarMaximumSize,
+                        googleCalendarMaximumWeight, CacheConfig::weighScheduleCount),
+                new ExpiringConcurrentMapCache(GOOGLE_CALENDAR_SYNC, SYNC_EXPIRE_AFTER, googleCalendarSyncMaximumSize,
+                        googleCalendarSyncMaximumWeight, CacheConfig::weighScheduleCount),
+                // 검증한 토큰은 만료 시각까지만 쓰므로, 캐시 만료는 엑세스 토큰 유효 기간보다 길 필요가 없다.
+                new ExpiringConcurrentMapCache(VERIFIED_TOKEN, verifiedTokenExpireAfter, verifiedTokenMaximumSize,
+                        verifiedTokenMaximumSize, value -> 1),
+                // 다른 인스턴스에서 지운 토큰을 오래 들고 있지 않도록 리프레시 토큰은 짧게만 캐시한다.
+                new ExpiringConcurrentMapCache(REFRESH_TOKEN, refreshTokenExpireAfter, refreshTokenMaximumSize,
+                        refreshTokenMaximumSize, value -> 1)));
 
         return simpleCacheManager;
     }
 
-    @Scheduled(cron = "0 0 0 * * *")
-    private void evict() {
-        ExpiringConcurrentMapCache cache = (ExpiringConcurrentMapCache) cacheManager().getCache(GOOGLE_CALENDAR);
-        cache.evictAllExpired();
+    @Bean
+    public ExpiringConcurrentMapCacheMeterBinderProvider expiringConcurrentMapCacheMeterBinderProvider() {
+        return new ExpiringConcurrentMapCacheMeterBinderProvider();
+    }
+
+    // 외부 일정 목록과 동기화 사본은 담긴 일정 수만큼 무게를 매겨, 일정이 많은 캘린더가 캐시를 독차지하지 못하게 한다.
+    private static int weighScheduleCount(final Object value) {
+        if (value instanceof Weighable) {
+            return ((Weighable) value).getWeight();
+        }
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).size() + 1;
+        }
+        return 1;
     }
 }
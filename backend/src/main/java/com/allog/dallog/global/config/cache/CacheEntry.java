@@ -0,0 +1,96 @@
+package com.allog.dallog.global.config.cache;
+
+class CacheEntry {
+
+    private final Object key;
+    private final Object value;
+    private final int weight;
+    private final long expiredAt;
+
+    // 아래 필드는 ExpiringConcurrentMapCache의 evictionLock 안에서만 읽고 쓴다.
+    private AccessOrderDeque deque;
+    private CacheEntry previous;
+    private CacheEntry next;
+    private boolean inExpiration;
+    private CacheEntry previousInExpiration;
+    private CacheEntry nextInExpiration;
+
+    CacheEntry(final Object key, final Object value, final int weight, final long expiredAt) {
+        this.key = key;
+        this.value = value;
+        this.weight = weight;
+        this.expiredAt = expiredAt;
+    }
+
+    boolean isExpiredAt(final long now) {
+        return now - expiredAt >= 0;
+    }
+
+    boolean isLinked() {
+        return deque != null;
+    }
+
+    Object getKey() {
+        return key;
+    }
+
+    Object getValue() {
+        return value;
+    }
+
+    int getWeight() {
+        return weight;
+    }
+
+    long getExpiredAt() {
+        return expiredAt;
+    }
+
+    AccessOrderDeque getDeque() {
+        return deque;
+    }
+
+    void setDeque(final AccessOrderDeque deque) {
+        this.deque = deque;
+    }
+
+    CacheEntry getPrevious() {
+        return previous;
+    }
+
+    void setPrevious(final CacheEntry previous) {
+        this.previous = previous;
+    }
+
+    CacheEntry getNext() {
+        return next;
+    }
+
+    void setNext(final CacheEntry next) {
+        this.next = next;
+    }
+
+    boolean isInExpiration() {
+        return inExpiration;
+    }
+
+    void setInExpiration(final boolean inExpiration) {
+        this.inExpiration = inExpiration;
+    }
+
+    CacheEntry getPreviousInExpiration() {
+        return previousInExpiration;
+    }
+
+    void setPreviousInExpiration(final CacheEntry previousInExpiration) {
+        this.previousInExpiration = previousInExpiration;
+    }
+
+    CacheEntry getNextInExpiration() {
+        return nextInExpiration;
+    }
+
+    void setNextInExpiration(final CacheEntry nextInExpiration) {
+        this.nextInExpiration = nextInExpiration;
+    }
+}
@@ -0,0 +1,67 @@
+package com.allog.dallog.global.config.cache;
+
+/**
+ * 만료 시각이 이른 항목이 앞에 오는 이중 연결 리스트. 동기화하지 않으므로 호출하는 쪽에서 잠금을 잡아야 한다.
+ *
+ * <p>캐시의 만료 시간이 고정되어 있어 항목은 대부분 끝에 붙는다. 동시에 쓰인 항목이 잠금을 얻는 순서가 뒤바뀐 경우에만 끝에서부터
+ * 자리를 찾아 끼워 넣는다.
+ */
+class ExpirationQueue {
+
+    private CacheEntry first;
+    private CacheEntry last;
+
+    void link(final CacheEntry entry) {
+        CacheEntry previous = last;
+        while (previous != null && previous.getExpiredAt() - entry.getExpiredAt() > 0) {
+            previous = previous.getPreviousInExpiration();
+        }
+
+        CacheEntry next = previous == null ? first : previous.getNextInExpiration();
+        entry.setInExpiration(true);
+        entry.setPreviousInExpiration(previous);
+        entry.setNextInExpiration(next);
+        if (previous == null) {
+            first = entry;
+        } else {
+            previous.setNextInExpiration(entry);
+        }
+        if (next == null) {
+            last = entry;
+        } else {
+            next.setPreviousInExpiration(entry);
+        }
+    }
+
+    void unlink(final CacheEntry entry) {
+        if (!entry.isInExpiration()) {
+            return;
+        }
+
+        CacheEntry previous = entry.getPreviousInExpiration();
+        CacheEntry next = entry.getNextInExpiration();
+        if (previous == null) {
+            first = next;
+        } else {
+            previous.setNextInExpiration(next);
+        }
+        if (next == null) {
+            last = previous;
+        } else {
+            next.setPreviousInExpiration(previous);
+        }
+        entry.setInExpiration(false);
+        entry.setPreviousInExpiration(null);
+        entry.setNextInExpiration(null);
+    }
+
+    CacheEntry peekFirst() {
+        return first;
+    }
+
+    void clear() {
+        while (first != null) {
+            unlink(first);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.allog.dallog.global.config.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExpiredCacheSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpiredCacheSweeper.class);
+
+    private final CacheManager cacheManager;
+
+    public ExpiredCacheSweeper(final CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Scheduled(fixedDelayString = "${cache.expiration.sweep-interval:60000}")
+    public void sweep() {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache instanceof ExpiringConcurrentMapCache) {
+                int expired = ((ExpiringConcurrentMapCache) cache).evictAllExpired();
+                log.debug("만료된 캐시 항목을 정리했습니다. (cache: {}, count: {})", cacheName, expired);
+            }
+        }
+    }
+}
@@ -1,53 +1,373 @@
 package com.allog.dallog.global.config.cache;
 
-import java.time.LocalDateTime;
-import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
 
-public class ExpiringConcurrentMapCache extends ConcurrentMapCache {
+/**
+ * 항목 수와 가중치 합에 상한이 있는 만료 캐시.
+ *
+ * <p>새 항목은 작은 윈도우 영역에 들어갔다가 밀려나면 메인 영역의 가장 오래된 항목과 접근 빈도를 겨뤄 살아남은 쪽만 남는다
+ * (W-TinyLFU). 항목은 만료 시각 순으로도 줄을 세워 두므로, 만료된 항목을 정리할 때는 큐의 앞쪽만 확인하면 된다.
+ * 만료된 항목은 조회할 때 지우고, 쓰기마다 몇 개씩, 그리고 {@link #evictAllExpired()}가 호출될 때 남김없이 정리한다.
+ *
+ * <p>정책 잠금을 잡은 채로 저장소의 버킷 잠금을 잡을 수는 있지만, 그 반대 순서로는 잡지 않는다.
+ */
+public class ExpiringConcurrentMapCache extends AbstractValueAdaptingCache {
 
-    private final Map<Object, LocalDateTime> expires = new ConcurrentHashMap<>();
-    private final long expireAfter;
+    private static final double WINDOW_RATIO = 0.01;
+    private static final int EXPIRATION_BUDGET_PER_WRITE = 4;
+    private static final int EXPIRATION_BATCH_SIZE = 256;
 
-    public ExpiringConcurrentMapCache(final String name, final long expireAfter) {
-        super(name);
+    private final String name;
+    private final ConcurrentMap<Object, CacheEntry> store = new ConcurrentHashMap<>();
+    private final long expireAfterNanos;
+    private final long maximumSize;
+    private final long maximumWeight;
+    private final long windowMaximumSize;
+    private final ToIntFunction<Object> weigher;
+    private final LongSupplier ticker;
 
-        this.expireAfter = expireAfter;
+    private final Lock evictionLock = new ReentrantLock();
+    private final AccessOrderDeque window = new AccessOrderDeque();
+    private final AccessOrderDeque main = new AccessOrderDeque();
+    private final ExpirationQueue expirations = new ExpirationQueue();
+    private final FrequencySketch sketch;
+    private volatile long weightedSize;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder putCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+
+    public ExpiringConcurrentMapCache(final String name, final long expireAfter, final long maximumSize,
+                                      final long maximumWeight, final ToIntFunction<Object> weigher) {
+        this(name, expireAfter, maximumSize, maximumWeight, weigher, System::nanoTime);
+    }
+
+    ExpiringConcurrentMapCache(final String name, final long expireAfter, final long maximumSize,
+                               final long maximumWeight, final ToIntFunction<Object> weigher,
+                               final LongSupplier ticker) {
+        super(true);
+        this.name = name;
+        this.expireAfterNanos = TimeUnit.SECONDS.toNanos(expireAfter);
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+        this.windowMaximumSize = Math.max(1, (long) (maximumSize * WINDOW_RATIO));
+        this.weigher = weigher;
+        this.ticker = ticker;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public ConcurrentMap<Object, ?> getNativeCache() {
+        return store;
     }
 
     @Override
     protected Object lookup(final Object key) {
-        LocalDateTime expiredDate = expires.get(key);
-        if (Objects.isNull(expiredDate) || isCacheValid(expiredDate)) {
-            return super.lookup(key);
+        CacheEntry entry = store.get(key);
+        if (Objects.isNull(entry)) {
+            missCount.increment();
+            return null;
         }
 
-        expires.remove(key);
-        super.evict(key);
-        return null;
+        if (entry.isExpiredAt(ticker.getAsLong())) {
+            removeEntry(entry);
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        afterRead(entry);
+        return entry.getValue();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (!Objects.isNull(cached)) {
+            return (T) cached.get();
+        }
+
+        CacheEntry[] replaced = new CacheEntry[1];
+        CacheEntry[] loaded = new CacheEntry[1];
+        CacheEntry current = store.compute(key, (k, existing) -> {
+            if (!Objects.isNull(existing) && !existing.isExpiredAt(ticker.getAsLong())) {
+                return existing;
+            }
+            replaced[0] = existing;
+            loaded[0] = load(k, valueLoader);
+            return loaded[0];
+        });
+
+        if (current == loaded[0]) {
+            putCount.increment();
+            afterWrite(current, replaced[0]);
+        }
+        return (T) fromStoreValue(current.getValue());
+    }
+
+    private CacheEntry load(final Object key, final Callable<?> valueLoader) {
+        long startedAt = ticker.getAsLong();
+        try {
+            return newEntry(key, valueLoader.call());
+        } catch (final Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            loadCount.increment();
+            totalLoadTime.add(ticker.getAsLong() - startedAt);
+        }
     }
 
     @Override
     public void put(final Object key, final Object value) {
-        LocalDateTime expiredAt = LocalDateTime.now().plusSeconds(expireAfter);
-        expires.put(key, expiredAt);
+        CacheEntry entry = newEntry(key, value);
+        CacheEntry replaced = store.put(key, entry);
 
-        super.put(key, value);
+        putCount.increment();
+        afterWrite(entry, replaced);
     }
 
-    public void evictAllExpired() {
-        ConcurrentMap<Object, Object> nativeCache = getNativeCache();
+    @Override
+    public ValueWrapper putIfAbsent(final Object key, final Object value) {
+        CacheEntry entry = newEntry(key, value);
+        CacheEntry[] replaced = new CacheEntry[1];
+        CacheEntry current = store.compute(key, (k, existing) -> {
+            if (!Objects.isNull(existing) && !existing.isExpiredAt(ticker.getAsLong())) {
+                return existing;
+            }
+            replaced[0] = existing;
+            return entry;
+        });
+
+        if (current != entry) {
+            return toValueWrapper(current.getValue());
+        }
+        putCount.increment();
+        afterWrite(entry, replaced[0]);
+        return null;
+    }
+
+    private CacheEntry newEntry(final Object key, final Object value) {
+        return new CacheEntry(key, toStoreValue(value), weigher.applyAsInt(value),
+                ticker.getAsLong() + expireAfterNanos);
+    }
+
+    @Override
+    public void evict(final Object key) {
+        evictIfPresent(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(final Object key) {
+        CacheEntry removed = store.remove(key);
+        if (Objects.isNull(removed)) {
+            return false;
+        }
+
+        evictionLock.lock();
+        try {
+            unlink(removed);
+        } finally {
+            evictionLock.unlock();
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            store.clear();
+            window.clear();
+            main.clear();
+            expirations.clear();
+            weightedSize = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = !store.isEmpty();
+        clear();
+        return notEmpty;
+    }
+
+    public int evictAllExpired() {
+        long now = ticker.getAsLong();
+        int expired = 0;
+        int batch;
+        // 한 번에 오래 잠금을 쥐고 있지 않도록 나누어 정리한다.
+        do {
+            evictionLock.lock();
+            try {
+                batch = expireEntries(now, EXPIRATION_BATCH_SIZE);
+            } finally {
+                evictionLock.unlock();
+            }
+            expired += batch;
+        } while (batch == EXPIRATION_BATCH_SIZE);
+        return expired;
+    }
+
+    private void removeEntry(final CacheEntry entry) {
+        if (!store.remove(entry.getKey(), entry)) {
+            return;
+        }
+
+        evictionLock.lock();
+        try {
+            unlink(entry);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void afterRead(final CacheEntry entry) {
+        // 읽기마다 잠금을 기다리지 않도록, 잠금을 바로 얻지 못하면 이번 접근 기록은 버린다.
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            sketch.increment(entry.getKey());
+            if (entry.isLinked()) {
+                entry.getDeque().moveToLast(entry);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void afterWrite(final CacheEntry entry, final CacheEntry replaced) {
+        evictionLock.lock();
+        try {
+            if (!Objects.isNull(replaced)) {
+                unlink(replaced);
+            }
+            sketch.increment(entry.getKey());
+
+            // 잠금을 얻기 전에 다른 스레드가 같은 키를 덮어쓰거나 지웠다면 연결하지 않는다.
+            if (store.get(entry.getKey()) == entry) {
+                window.linkLast(entry);
+                expirations.link(entry);
+                weightedSize += entry.getWeight();
+            }
+
+            expireEntries(ticker.getAsLong(), EXPIRATION_BUDGET_PER_WRITE);
+            evictEntries();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private int expireEntries(final long now, final int budget) {
+        for (int i = 0; i < budget; i++) {
+            CacheEntry oldest = expirations.peekFirst();
+            if (Objects.isNull(oldest) || !oldest.isExpiredAt(now)) {
+                return i;
+            }
+            evictEntry(oldest);
+        }
+        return budget;
+    }
+
+    private void evictEntries() {
+        int candidates = 0;
+        while (window.size() > windowMaximumSize) {
+            main.linkLast(window.pollFirst());
+            candidates++;
+        }
+
+        while (isOverflowed() && !(window.isEmpty() && main.isEmpty())) {
+            CacheEntry victim = main.peekFirst();
+            if (Objects.isNull(victim)) {
+                evictEntry(window.peekFirst());
+                continue;
+            }
+
+            CacheEntry candidate = main.peekLast();
+            if (candidates == 0 || candidate == victim) {
+                evictEntry(victim);
+                candidates = Math.max(0, candidates - 1);
+                continue;
+            }
+
+            // 윈도우에서 밀려난 후보가 메인 영역의 가장 오래된 항목보다 자주 쓰였을 때만 자리를 내준다.
+            if (sketch.frequency(candidate.getKey()) > sketch.frequency(victim.getKey())) {
+                evictEntry(victim);
+            } else {
+                evictEntry(candidate);
+                candidates--;
+            }
+        }
+    }
+
+    private boolean isOverflowed() {
+        return window.size() + main.size() > maximumSize || weightedSize > maximumWeight;
+    }
+
+    private void evictEntry(final CacheEntry entry) {
+        unlink(entry);
+        store.remove(entry.getKey(), entry);
+        evictionCount.increment();
+    }
+
+    private void unlink(final CacheEntry entry) {
+        if (entry.isLinked()) {
+            entry.getDeque().unlink(entry);
+            expirations.unlink(entry);
+            weightedSize -= entry.getWeight();
+        }
+    }
+
+    public long estimatedSize() {
+        return store.size();
+    }
+
+    public long getWeightedSize() {
+        return weightedSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getPutCount() {
+        return putCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
 
-        nativeCache.keySet()
-                .stream()
-                .filter(cacheKey -> !isCacheValid(expires.get(cacheKey)))
-                .forEach(super::evict);
+    public long getLoadCount() {
+        return loadCount.sum();
     }
 
-    private boolean isCacheValid(final LocalDateTime expiredDate) {
-        return LocalDateTime.now().isBefore(expiredDate);
+    public long getTotalLoadTimeInNanos() {
+        return totalLoadTime.sum();
     }
 }
@@ -0,0 +1,14 @@
+package com.allog.dallog.global.config.cache;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+
+public class ExpiringConcurrentMapCacheMeterBinderProvider
+        implements CacheMeterBinderProvider<ExpiringConcurrentMapCache> {
+
+    @Override
+    public MeterBinder getMeterBinder(final ExpiringConcurrentMapCache cache, final Iterable<Tag> tags) {
+        return new ExpiringConcurrentMapCacheMetrics(cache, tags);
+    }
+}
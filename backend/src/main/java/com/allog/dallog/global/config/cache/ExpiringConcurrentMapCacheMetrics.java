@@ -0,0 +1,60 @@
+package com.allog.dallog.global.config.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import java.util.concurrent.TimeUnit;
+
+public class ExpiringConcurrentMapCacheMetrics extends CacheMeterBinder<ExpiringConcurrentMapCache> {
+
+    public ExpiringConcurrentMapCacheMetrics(final ExpiringConcurrentMapCache cache, final Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    @Override
+    protected Long size() {
+        return getCache().estimatedSize();
+    }
+
+    @Override
+    protected long hitCount() {
+        return getCache().getHitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        return getCache().getMissCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        return getCache().getEvictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        return getCache().getPutCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(final MeterRegistry registry) {
+        Gauge.builder("cache.weight", getCache(), ExpiringConcurrentMapCache::getWeightedSize)
+                .tags(getTagsWithCacheName())
+                .description("캐시에 담긴 항목의 가중치 합")
+                .register(registry);
+
+        FunctionTimer.builder("cache.load.duration", getCache(), ExpiringConcurrentMapCache::getLoadCount,
+                        ExpiringConcurrentMapCache::getTotalLoadTimeInNanos, TimeUnit.NANOSECONDS)
+                .tags(getTagsWithCacheName())
+                .description("캐시에 없는 값을 불러오는 데 걸린 시간")
+                .register(registry);
+
+        FunctionCounter.builder("cache.loads", getCache(), ExpiringConcurrentMapCache::getLoadCount)
+                .tags(getTagsWithCacheName())
+                .description("캐시에 없는 값을 불러온 횟수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,74 @@
+package com.allog.dallog.global.config.cache;
+
+/**
+ * 키의 최근 접근 빈도를 근사하는 Count-Min Sketch. 일정 횟수만큼 기록하면 모든 빈도를 절반으로 줄여 오래된 인기도를 잊는다.
+ * 동기화하지 않으므로 호출하는 쪽에서 잠금을 잡아야 한다.
+ */
+class FrequencySketch {
+
+    private static final int[] SEEDS = {0x97CB3127, 0xB7B8A2E5, 0x8F5A7F13, 0xC2B2AE35};
+    private static final int MAXIMUM_FREQUENCY = 15;
+    private static final int MINIMUM_TABLE_SIZE = 16;
+    private static final int MAXIMUM_TABLE_SIZE = 1 << 24;
+    private static final int SAMPLE_SIZE_MULTIPLIER = 10;
+
+    private final byte[] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(final long expectedSize) {
+        int tableSize = tableSizeFor(expectedSize);
+        this.table = new byte[tableSize];
+        this.mask = tableSize - 1;
+        this.sampleSize = tableSize * SAMPLE_SIZE_MULTIPLIER;
+    }
+
+    private static int tableSizeFor(final long expectedSize) {
+        long bounded = Math.max(MINIMUM_TABLE_SIZE, Math.min(expectedSize, MAXIMUM_TABLE_SIZE));
+        return Integer.highestOneBit((int) (bounded - 1)) << 1;
+    }
+
+    void increment(final Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int seed : SEEDS) {
+            int index = indexOf(hash, seed);
+            if (table[index] < MAXIMUM_FREQUENCY) {
+                table[index]++;
+                added = true;
+            }
+        }
+
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    int frequency(final Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAXIMUM_FREQUENCY;
+        for (int seed : SEEDS) {
+            frequency = Math.min(frequency, table[indexOf(hash, seed)]);
+        }
+        return frequency;
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (byte) (table[i] >>> 1);
+        }
+        additions /= 2;
+    }
+
+    private int indexOf(final int hash, final int seed) {
+        int index = (hash ^ seed) * 0x9E3779B9;
+        index ^= index >>> 16;
+        return index & mask;
+    }
+
+    private int spread(final int hashCode) {
+        int hash = hashCode * 0x85EBCA6B;
+        return hash ^ (hash >>> 13);
+    }
+}
@@ -0,0 +1,9 @@
+package com.allog.dallog.global.config.cache;
+
+/**
+ * 캐시에 담을 때 무게를 스스로 알려 주는 값이다. 무게로 제한하는 캐시는 이 값을 먼저 따른다.
+ */
+public interface Weighable {
+
+    int getWeight();
+}
@@ -0,0 +1,38 @@
+package com.allog.dallog.global.config.executor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    public static final String EXTERNAL_CALENDAR_EXECUTOR = "externalCalendarExecutor";
+    private static final String EXTERNAL_CALENDAR_THREAD_NAME_PREFIX = "external-calendar-";
+
+    private final int poolSize;
+    private final int queueCapacity;
+
+    public ExecutorConfig(@Value("${external-calendar.fetch.pool-size:16}") final int poolSize,
+                          @Value("${external-calendar.fetch.queue-capacity:64}") final int queueCapacity) {
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Bean(EXTERNAL_CALENDAR_EXECUTOR)
+    public Executor externalCalendarExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(EXTERNAL_CALENDAR_THREAD_NAME_PREFIX);
+        // 큐가 가득 차면 요청 스레드가 외부 요청을 대신 보내며 붙잡히지 않도록 작업을 거절한다. 거절된 캘린더는 실패로 응답한다.
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,136 @@
+package com.allog.dallog.global.config.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * 외부 API 호출이 함께 쓰는 커넥션 풀. {@code RestTemplateBuilder}로 만든 모든 {@code RestTemplate}에 적용된다.
+ *
+ * <p>응답을 기다리며 스레드를 붙잡지 않아야 하는 호출은 JDK의 {@link HttpClient}를 쓴다. HTTP/2를 먼저 시도하고, 연결은
+ * 클라이언트 안에서 재사용한다.
+ *
+ * <p>요청 지연 시간은 actuator의 {@code http.client.requests}가 호스트별로 기록하고, 여기서는 풀 전체와 upstream별 커넥션
+ * 사용량을 기록한다.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    private static final String POOL_NAME = "outbound";
+    private static final String USER_AGENT = "dallog (gzip)";
+    private static final int HTTPS_PORT = 443;
+    private static final int VALIDATE_AFTER_INACTIVITY = 2000;
+
+    private final int maxTotal;
+    private final int maxPerRoute;
+    private final int connectTimeout;
+    private final int readTimeout;
+    private final int connectionRequestTimeout;
+    private final long idleTimeout;
+    private final List<String> upstreams;
+
+    public HttpClientConfig(@Value("${http-client.max-total:100}") final int maxTotal,
+                            @Value("${http-client.max-per-route:20}") final int maxPerRoute,
+                            @Value("${http-client.connect-timeout:3000}") final int connectTimeout,
+                            @Value("${http-client.read-timeout:5000}") final int readTimeout,
+                            @Value("${http-client.connection-request-timeout:1000}") final int connectionRequestTimeout,
+                            @Value("${http-client.idle-timeout:30000}") final long idleTimeout,
+                            @Value("${http-client.upstreams:www.googleapis.com,oauth2.googleapis.com}") final List<String> upstreams) {
+        this.maxTotal = maxTotal;
+        this.maxPerRoute = maxPerRoute;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.connectionRequestTimeout = connectionRequestTimeout;
+        this.idleTimeout = idleTimeout;
+        this.upstreams = upstreams;
+    }
+
+    @Bean
+    public PoolingHttpClientConnectionManager outboundConnectionManager() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        // 서버가 먼저 끊은 keep-alive 커넥션을 꺼내 쓰지 않도록, 한동안 쉬었던 커넥션은 빌려주기 전에 확인한다.
+        connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient outboundHttpClient(final PoolingHttpClientConnectionManager outboundConnectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setSocketTimeout(readTimeout)
+                .setConnectionRequestTimeout(connectionRequestTimeout)
+                .build();
+
+        // 응답 압축 해제는 기본으로 켜져 있고, 구글 API는 User-Agent에 gzip이 있어야 압축해서 보낸다.
+        return HttpClients.custom()
+                .setConnectionManager(outboundConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setUserAgent(USER_AGENT)
+                .evictExpiredConnections()
+                .evictIdleConnections(idleTimeout, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Bean
+    public RestTemplateCustomizer outboundRestTemplateCustomizer(final CloseableHttpClient outboundHttpClient) {
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(
+                outboundHttpClient);
+        return restTemplate -> restTemplate.setRequestFactory(requestFactory);
+    }
+
+    @Bean
+    public HttpClient asyncOutboundHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeout))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    @Bean
+    public MeterBinder outboundConnectionPoolMetrics(final PoolingHttpClientConnectionManager outboundConnectionManager) {
+        return registry -> {
+            new PoolingHttpClientConnectionManagerMetricsBinder(outboundConnectionManager, POOL_NAME).bindTo(registry);
+            for (String upstream : upstreams) {
+                HttpRoute route = new HttpRoute(new HttpHost(upstream, HTTPS_PORT, "https"), null, true);
+                Tags tags = Tags.of("pool", POOL_NAME, "upstream", upstream);
+                registerRouteGauge(registry, "leased", tags, outboundConnectionManager, route, PoolStats::getLeased);
+                registerRouteGauge(registry, "available", tags, outboundConnectionManager, route,
+                        PoolStats::getAvailable);
+                registerRouteGauge(registry, "pending", tags, outboundConnectionManager, route, PoolStats::getPending);
+            }
+        };
+    }
+
+    private void registerRouteGauge(final MeterRegistry registry, final String state,
+                                    final Tags tags, final PoolingHttpClientConnectionManager connectionManager,
+                                    final HttpRoute route, final ToDoubleFunction<PoolStats> value) {
+        Gauge.builder("httpcomponents.httpclient.pool.route", connectionManager,
+                        manager -> value.applyAsDouble(manager.getStats(route)))
+                .description("upstream별 커넥션 수")
+                .tags(tags)
+                .tag("state", state)
+                .register(registry);
+    }
+}
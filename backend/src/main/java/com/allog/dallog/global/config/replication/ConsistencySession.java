@@ -0,0 +1,25 @@
+package com.allog.dallog.global.config.replication;
+
+/**
+ * 요청 스레드에 지금 요청한 회원을 묶어 둔다. {@link RoutingDataSource}는 이 회원이 방금 쓴 데이터를 읽을 때 아직 따라오지 못한
+ * 레플리카로 보내지 않는다.
+ */
+public final class ConsistencySession {
+
+    private static final ThreadLocal<Long> MEMBER_ID = new ThreadLocal<>();
+
+    private ConsistencySession() {
+    }
+
+    public static void bind(final Long memberId) {
+        MEMBER_ID.set(memberId);
+    }
+
+    public static Long getMemberId() {
+        return MEMBER_ID.get();
+    }
+
+    public static void clear() {
+        MEMBER_ID.remove();
+    }
+}
@@ -1,32 +1,65 @@
 package com.allog.dallog.global.config.replication;
 
-import static com.allog.dallog.global.config.replication.DataSourceKey.KeyName.REPLICA_1_NAME;
-import static com.allog.dallog.global.config.replication.DataSourceKey.KeyName.REPLICA_2_NAME;
 import static com.allog.dallog.global.config.replication.DataSourceKey.KeyName.SOURCE_NAME;
-import static com.allog.dallog.global.config.replication.DataSourceKey.REPLICA_1;
-import static com.allog.dallog.global.config.replication.DataSourceKey.REPLICA_2;
 import static com.allog.dallog.global.config.replication.DataSourceKey.SOURCE;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.HashMap;
 import java.util.Map;
 import javax.sql.DataSource;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
 import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 @Configuration
 @Profile({"prod", "dev"})
 public class DataSourceConfiguration {
 
+    private final Environment environment;
+    private final String selectionStrategy;
+    private final long maxLagSeconds;
+    private final double latencySmoothingFactor;
+    private final int failureThreshold;
+    private final int healthCheckTimeout;
+    private final long readYourWritesWindow;
+    private final DataSourcePoolCustomizer poolCustomizer;
+
+    public DataSourceConfiguration(final Environment environment,
+                                   @Value("${replication.selection-strategy:power-of-two}") final String selectionStrategy,
+                                   @Value("${replication.max-lag-seconds:5}") final long maxLagSeconds,
+                                   @Value("${replication.latency-smoothing-factor:0.3}") final double latencySmoothingFactor,
+                                   @Value("${replication.failure-threshold:2}") final int failureThreshold,
+                                   @Value("${replication.health-check.timeout:1}") final int healthCheckTimeout,
+                                   @Value("${replication.read-your-writes.window:5000}") final long readYourWritesWindow,
+                                   final MeterRegistry meterRegistry,
+                                   @Value("${datasource.pool.maximum-pool-size:10}") final int maximumPoolSize,
+                                   @Value("${datasource.pool.connection-timeout:3000}") final long connectionTimeout,
+                                   @Value("${datasource.pool.leak-detection-threshold:20000}") final long leakDetectionThreshold,
+                                   @Value("${datasource.pool.prepared-statement-cache-size:250}") final int preparedStatementCacheSize) {
+        this.environment = environment;
+        this.selectionStrategy = selectionStrategy;
+        this.maxLagSeconds = maxLagSeconds;
+        this.latencySmoothingFactor = latencySmoothingFactor;
+        this.failureThreshold = failureThreshold;
+        this.healthCheckTimeout = healthCheckTimeout;
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.poolCustomizer = new DataSourcePoolCustomizer(meterRegistry, maximumPoolSize, connectionTimeout,
+                leakDetectionThreshold, preparedStatementCacheSize);
+    }
+
     @Bean
     @Primary
     public DataSource dataSource() {
-        DataSource determinedDataSource = routingDataSource(sourceDataSource(), replica1DataSource(),
-                replica2DataSource());
+        DataSource determinedDataSource = routingDataSource(sourceDataSource(), replicaDataSources());
         return new LazyConnectionDataSourceProxy(determinedDataSource);
     }
 
@@ -34,40 +67,64 @@ public class DataSourceConfiguration {
     @Qualifier(SOURCE_NAME)
     @ConfigurationProperties(prefix = "spring.datasource.source")
     public DataSource sourceDataSource() {
-        return DataSourceBuilder.create()
-                .build();
-    }
-
-    @Bean
-    @Qualifier(REPLICA_1_NAME)
-    @ConfigurationProperties(prefix = "spring.datasource.replica1")
-    public DataSource replica1DataSource() {
-        return DataSourceBuilder.create()
-                .build();
+        return poolCustomizer.create(SOURCE);
     }
 
-    @Bean
-    @Qualifier(REPLICA_2_NAME)
-    @ConfigurationProperties(prefix = "spring.datasource.replica2")
-    public DataSource replica2DataSource() {
-        return DataSourceBuilder.create()
-                .build();
+    @Bean(destroyMethod = "close")
+    public ReplicaDataSources replicaDataSources() {
+        return ReplicaDataSources.bind(Binder.get(environment), poolCustomizer);
     }
 
     @Bean
     public DataSource routingDataSource(
             @Qualifier(SOURCE_NAME) DataSource sourceDataSource,
-            @Qualifier(REPLICA_1_NAME) DataSource replica1DataSource,
-            @Qualifier(REPLICA_2_NAME) DataSource replica2DataSource
+            ReplicaDataSources replicaDataSources
     ) {
-        Map<Object, Object> dataSources = Map.of(
-                SOURCE, sourceDataSource, REPLICA_1, replica1DataSource, REPLICA_2, replica2DataSource
-        );
+        Map<Object, Object> dataSources = new HashMap<>(replicaDataSources.getDataSources());
+        dataSources.put(SOURCE, sourceDataSource);
 
-        RoutingDataSource routingDataSource = new RoutingDataSource();
+        RoutingDataSource routingDataSource = new RoutingDataSource(replicaSelector(), recentWrites());
         routingDataSource.setTargetDataSources(dataSources);
         routingDataSource.setDefaultTargetDataSource(sourceDataSource);
 
         return routingDataSource;
     }
+
+    @Bean
+    public ReplicaSelector replicaSelector() {
+        return new ReplicaSelector(replicaDataSources().getKeys(), selectionStrategy, maxLagSeconds,
+                latencySmoothingFactor, failureThreshold);
+    }
+
+    @Bean
+    public RecentWrites recentWrites() {
+        return new RecentWrites(readYourWritesWindow);
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker() {
+        return new ReplicaHealthChecker(replicaDataSources().getDataSources(), replicaSelector(), healthCheckTimeout);
+    }
+
+    @Bean
+    public MeterBinder replicaMetrics() {
+        ReplicaSelector replicaSelector = replicaSelector();
+        return registry -> {
+            for (DataSourceKey replica : replicaSelector.getReplicas()) {
+                Gauge.builder("replication.replica.available", replicaSelector,
+                                selector -> selector.isAvailable(replica) ? 1 : 0)
+                        .tag("replica", replica.getKey())
+                        .register(registry);
+                Gauge.builder("replication.replica.lag", replicaSelector, selector -> selector.getLagSeconds(replica))
+                        .tag("replica", replica.getKey())
+                        .baseUnit("seconds")
+                        .register(registry);
+                Gauge.builder("replication.replica.latency", replicaSelector,
+                                selector -> selector.getLatencyNanos(replica) / 1_000_000)
+                        .tag("replica", replica.getKey())
+                        .baseUnit("milliseconds")
+                        .register(registry);
+            }
+        };
+    }
 }
@@ -1,32 +1,57 @@
 package com.allog.dallog.global.config.replication;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
-public enum DataSourceKey {
-    SOURCE(KeyName.SOURCE_NAME, false),
-    REPLICA_1(KeyName.REPLICA_1_NAME, true),
-    REPLICA_2(KeyName.REPLICA_2_NAME, true);
+public final class DataSourceKey {
+
+    public static final DataSourceKey SOURCE = new DataSourceKey(KeyName.SOURCE_NAME, false);
+    private static final String REPLICA_PREFIX = "REPLICA_";
 
     private final String key;
     private final boolean isReplica;
 
-    DataSourceKey(final String key, final boolean isReplica) {
+    private DataSourceKey(final String key, final boolean isReplica) {
         this.key = key;
         this.isReplica = isReplica;
     }
 
-    public static List<DataSourceKey> getReplicas() {
-        return Arrays.stream(values())
-                .filter(key -> key.isReplica)
-                .collect(Collectors.toList());
+    // 레플리카는 설정에 적힌 순서대로 1부터 번호를 붙인다.
+    public static DataSourceKey replica(final int order) {
+        return new DataSourceKey(REPLICA_PREFIX + order, true);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public boolean isReplica() {
+        return isReplica;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DataSourceKey that = (DataSourceKey) o;
+        return Objects.equals(key, that.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key);
+    }
+
+    @Override
+    public String toString() {
+        return key;
     }
 
     // 어노테이션에서도 참조할 수 있도록 중첩 클래스에 상수 선언
     public static class KeyName {
         public static final String SOURCE_NAME = "SOURCE";
-        public static final String REPLICA_1_NAME = "REPLICA_1";
-        public static final String REPLICA_2_NAME = "REPLICA_2";
     }
 }
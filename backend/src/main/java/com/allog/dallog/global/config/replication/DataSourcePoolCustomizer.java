@@ -0,0 +1,56 @@
+package com.allog.dallog.global.config.replication;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 소스와 레플리카 커넥션 풀에 같은 기본값을 적용한다. 설정 파일에 적은 값은 이 기본값을 덮어쓴다.
+ *
+ * <p>풀 이름을 {@link DataSourceKey}로 지으므로 {@code hikaricp.connections.*} 지표의 {@code pool} 태그로 어느 레플리카의
+ * 풀이 가득 찼는지 볼 수 있다.
+ */
+public class DataSourcePoolCustomizer {
+
+    private final MeterRegistry meterRegistry;
+    private final int maximumPoolSize;
+    private final long connectionTimeout;
+    private final long leakDetectionThreshold;
+    private final int preparedStatementCacheSize;
+
+    public DataSourcePoolCustomizer(final MeterRegistry meterRegistry, final int maximumPoolSize,
+                                    final long connectionTimeout, final long leakDetectionThreshold,
+                                    final int preparedStatementCacheSize) {
+        this.meterRegistry = meterRegistry;
+        this.maximumPoolSize = maximumPoolSize;
+        this.connectionTimeout = connectionTimeout;
+        this.leakDetectionThreshold = leakDetectionThreshold;
+        this.preparedStatementCacheSize = preparedStatementCacheSize;
+    }
+
+    public HikariDataSource create(final DataSourceKey key) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(key.getKey());
+
+        // 풀 크기를 고정하여 트래픽이 몰릴 때 커넥션을 새로 맺느라 지연되지 않게 한다.
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMinimumIdle(maximumPoolSize);
+        dataSource.setConnectionTimeout(connectionTimeout);
+        dataSource.setLeakDetectionThreshold(leakDetectionThreshold);
+
+        // MySQL 드라이버가 서버 측 prepared statement를 재사용하고, 배치 INSERT를 한 문장으로 합쳐 보내게 한다.
+        dataSource.addDataSourceProperty("useServerPrepStmts", "true");
+        dataSource.addDataSourceProperty("cachePrepStmts", "true");
+        dataSource.addDataSourceProperty("prepStmtCacheSize", String.valueOf(preparedStatementCacheSize));
+        dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+        dataSource.addDataSourceProperty("cacheResultSetMetadata", "true");
+        dataSource.addDataSourceProperty("cacheServerConfiguration", "true");
+        dataSource.addDataSourceProperty("useLocalSessionState", "true");
+        dataSource.addDataSourceProperty("elideSetAutoCommits", "true");
+        dataSource.addDataSourceProperty("maintainTimeStats", "false");
+
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
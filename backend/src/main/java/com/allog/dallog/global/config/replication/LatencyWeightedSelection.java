@@ -0,0 +1,44 @@
+package com.allog.dallog.global.config.replication;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 최근 응답 시간의 역수를 가중치로 삼아 무작위로 고른다.
+ */
+class LatencyWeightedSelection implements ReplicaSelectionStrategy {
+
+    // 응답 시간이 0에 가까운 레플리카가 가중치를 독차지하지 않도록 하한을 둔다.
+    private static final double MIN_LATENCY_NANOS = 100_000;
+
+    @Override
+    public ReplicaStatus select(final List<ReplicaStatus> replicas, final long maxLagSeconds) {
+        double totalWeight = 0;
+        for (ReplicaStatus replica : replicas) {
+            if (replica.isAvailable(maxLagSeconds)) {
+                totalWeight += weightOf(replica);
+            }
+        }
+        if (totalWeight == 0) {
+            return null;
+        }
+
+        double point = ThreadLocalRandom.current().nextDouble(totalWeight);
+        ReplicaStatus selected = null;
+        for (ReplicaStatus replica : replicas) {
+            if (!replica.isAvailable(maxLagSeconds)) {
+                continue;
+            }
+            selected = replica;
+            point -= weightOf(replica);
+            if (point < 0) {
+                break;
+            }
+        }
+        return selected;
+    }
+
+    private double weightOf(final ReplicaStatus replica) {
+        return 1 / Math.max(replica.getLatencyNanos(), MIN_LATENCY_NANOS);
+    }
+}
@@ -0,0 +1,51 @@
+package com.allog.dallog.global.config.replication;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 레플리카 두 개를 무작위로 뽑아 최근 응답 시간이 짧은 쪽을 고른다. 모든 레플리카를 훑지 않고도 느린 레플리카를 피하고, 가장 빠른
+ * 레플리카 하나에 몰리지도 않는다.
+ */
+class PowerOfTwoChoicesSelection implements ReplicaSelectionStrategy {
+
+    @Override
+    public ReplicaStatus select(final List<ReplicaStatus> replicas, final long maxLagSeconds) {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = size == 1 ? first : (first + 1 + random.nextInt(size - 1)) % size;
+        ReplicaStatus selected = faster(replicas.get(first), replicas.get(second), maxLagSeconds);
+        if (selected != null) {
+            return selected;
+        }
+
+        // 뽑은 둘 다 쓸 수 없으면 뽑은 자리부터 차례로 찾는다.
+        for (int offset = 1; offset < size; offset++) {
+            ReplicaStatus replica = replicas.get((first + offset) % size);
+            if (replica.isAvailable(maxLagSeconds)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private ReplicaStatus faster(final ReplicaStatus first, final ReplicaStatus second, final long maxLagSeconds) {
+        boolean firstAvailable = first.isAvailable(maxLagSeconds);
+        boolean secondAvailable = second.isAvailable(maxLagSeconds);
+        if (firstAvailable && secondAvailable) {
+            return first.getLatencyNanos() <= second.getLatencyNanos() ? first : second;
+        }
+        if (firstAvailable) {
+            return first;
+        }
+        if (secondAvailable) {
+            return second;
+        }
+        return null;
+    }
+}
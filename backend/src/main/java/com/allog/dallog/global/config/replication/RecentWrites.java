@@ -0,0 +1,45 @@
+package com.allog.dallog.global.config.replication;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 회원마다 마지막으로 쓰기 트랜잭션을 커밋한 시각을 잠시 기억한다. 기억하는 동안 그 회원의 읽기는 쓴 시각 이후까지 따라온 레플리카나
+ * 소스로만 보낸다.
+ *
+ * <p>인스턴스마다 따로 기억하므로, 쓴 직후의 읽기가 다른 인스턴스로 가면 지켜 주지 못한다.
+ */
+public class RecentWrites {
+
+    public static final long NONE = -1;
+
+    private final Map<Long, Long> writtenAt = new ConcurrentHashMap<>();
+    private final long windowInMillis;
+
+    public RecentWrites(final long windowInMillis) {
+        this.windowInMillis = windowInMillis;
+    }
+
+    public void record(final Long memberId, final long now) {
+        writtenAt.merge(memberId, now, Math::max);
+    }
+
+    public long getWrittenAt(final Long memberId, final long now) {
+        Long lastWrittenAt = writtenAt.get(memberId);
+        if (lastWrittenAt == null || lastWrittenAt + windowInMillis <= now) {
+            return NONE;
+        }
+        return lastWrittenAt;
+    }
+
+    @Scheduled(fixedDelayString = "${replication.read-your-writes.window:5000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        writtenAt.values().removeIf(lastWrittenAt -> lastWrittenAt + windowInMillis <= now);
+    }
+
+    public int size() {
+        return writtenAt.size();
+    }
+}
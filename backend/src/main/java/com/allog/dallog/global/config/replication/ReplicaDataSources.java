@@ -0,0 +1,101 @@
+package com.allog.dallog.global.config.replication;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+
+/**
+ * {@code spring.datasource.replicas} 목록에 적힌 만큼 레플리카 데이터 소스를 만든다. 레플리카를 늘릴 때 설정만 고치면 된다.
+ *
+ * <pre>
+ * spring.datasource.replicas[0].jdbc-url=jdbc:mysql://replica1/dallog
+ * spring.datasource.replicas[0].username=...
+ * spring.datasource.replicas[1].jdbc-url=jdbc:mysql://replica2/dallog
+ * </pre>
+ *
+ * <p>목록이 비어 있으면 예전 설정 키인 {@code spring.datasource.replica1}, {@code spring.datasource.replica2}... 를
+ * 차례로 레플리카 1, 2... 로 읽는다.</p>
+ */
+public class ReplicaDataSources implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaDataSources.class);
+    private static final String PREFIX = "spring.datasource.replicas";
+    private static final String LEGACY_PREFIX = "spring.datasource.replica";
+
+    private final Map<DataSourceKey, DataSource> dataSources;
+
+    public ReplicaDataSources(final Map<DataSourceKey, DataSource> dataSources) {
+        this.dataSources = Collections.unmodifiableMap(new LinkedHashMap<>(dataSources));
+    }
+
+    public static ReplicaDataSources bind(final Binder binder, final DataSourcePoolCustomizer poolCustomizer) {
+        Map<DataSourceKey, DataSource> dataSources = new LinkedHashMap<>();
+        int number = 1;
+        while (bindReplica(binder, poolCustomizer, PREFIX + "[" + (number - 1) + "]", number, dataSources)) {
+            number++;
+        }
+        if (!dataSources.isEmpty()) {
+            return new ReplicaDataSources(dataSources);
+        }
+
+        number = 1;
+        while (bindReplica(binder, poolCustomizer, LEGACY_PREFIX + number, number, dataSources)) {
+            number++;
+        }
+        if (dataSources.isEmpty()) {
+            log.warn("레플리카 설정이 없어 모든 조회를 소스 데이터베이스로 보냅니다. ({} 목록을 확인하세요.)", PREFIX);
+        } else {
+            log.warn("예전 레플리카 설정 키({}N)를 읽었습니다. {} 목록으로 옮겨주세요.", LEGACY_PREFIX, PREFIX);
+        }
+        return new ReplicaDataSources(dataSources);
+    }
+
+    private static boolean bindReplica(final Binder binder, final DataSourcePoolCustomizer poolCustomizer,
+                                       final String name, final int number,
+                                       final Map<DataSourceKey, DataSource> dataSources) {
+        DataSourceKey key = DataSourceKey.replica(number);
+        HikariDataSource dataSource = poolCustomizer.create(key);
+        boolean bound = binder.bind(name, Bindable.ofInstance(dataSource))
+                .isBound();
+        if (!bound) {
+            dataSource.close();
+            return false;
+        }
+        dataSources.put(key, dataSource);
+        return true;
+    }
+
+    public List<DataSourceKey> getKeys() {
+        return List.copyOf(dataSources.keySet());
+    }
+
+    public Map<DataSourceKey, DataSource> getDataSources() {
+        return dataSources;
+    }
+
+    @Override
+    public void close() {
+        for (Map.Entry<DataSourceKey, DataSource> entry : dataSources.entrySet()) {
+            if (entry.getValue() instanceof Closeable) {
+                closeQuietly(entry.getKey(), (Closeable) entry.getValue());
+            }
+        }
+    }
+
+    private void closeQuietly(final DataSourceKey key, final Closeable dataSource) {
+        try {
+            dataSource.close();
+        } catch (final IOException e) {
+            log.warn("레플리카 데이터 소스를 닫지 못했습니다. (replica: {})", key, e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.allog.dallog.global.config.replication;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 레플리카마다 복제 상태를 조회하여 응답 시간과 복제 지연을 {@link ReplicaSelector}에 기록한다.
+ *
+ * <p>복제가 멈춰 지연을 알 수 없는 레플리카는 지연이 무한한 것으로 본다. 레플리카로 설정되지 않은 DB는 지연이 없는 것으로 본다.
+ */
+public class ReplicaHealthChecker {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaHealthChecker.class);
+    private static final String REPLICA_STATUS_QUERY = "SHOW SLAVE STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Master";
+
+    private final Map<DataSourceKey, DataSource> replicaDataSources;
+    private final ReplicaSelector replicaSelector;
+    private final int timeoutInSeconds;
+
+    public ReplicaHealthChecker(final Map<DataSourceKey, DataSource> replicaDataSources,
+                                final ReplicaSelector replicaSelector, final int timeoutInSeconds) {
+        this.replicaDataSources = Map.copyOf(replicaDataSources);
+        this.replicaSelector = replicaSelector;
+        this.timeoutInSeconds = timeoutInSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${replication.health-check.interval:5000}")
+    public void check() {
+        replicaDataSources.forEach(this::check);
+    }
+
+    private void check(final DataSourceKey replica, final DataSource dataSource) {
+        long startedAt = System.nanoTime();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(timeoutInSeconds);
+            long lagSeconds = queryLagSeconds(statement);
+            replicaSelector.recordSuccess(replica, System.nanoTime() - startedAt, lagSeconds);
+        } catch (final SQLException e) {
+            replicaSelector.recordFailure(replica);
+            log.warn("레플리카 상태를 확인할 수 없습니다. (replica: {})", replica, e);
+        }
+    }
+
+    private long queryLagSeconds(final Statement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(REPLICA_STATUS_QUERY)) {
+            if (!resultSet.next()) {
+                return 0;
+            }
+            long lagSeconds = resultSet.getLong(LAG_COLUMN);
+            if (resultSet.wasNull()) {
+                return ReplicaStatus.UNKNOWN_LAG;
+            }
+            return lagSeconds;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.allog.dallog.global.config.replication;
+
+import java.util.List;
+
+/**
+ * 쓸 수 있는 레플리카 중 하나를 고르는 방법. 여러 요청 스레드가 동시에 부르므로 잠금 없이 고른다.
+ */
+interface ReplicaSelectionStrategy {
+
+    /**
+     * @return 고른 레플리카. 쓸 수 있는 레플리카가 없으면 {@code null}
+     */
+    ReplicaStatus select(List<ReplicaStatus> replicas, long maxLagSeconds);
+
+    static ReplicaSelectionStrategy of(final String name) {
+        switch (name) {
+            case "round-robin":
+                return new RoundRobinSelection();
+            case "power-of-two":
+                return new PowerOfTwoChoicesSelection();
+            case "latency-weighted":
+                return new LatencyWeightedSelection();
+            default:
+                throw new IllegalArgumentException("지원하지 않는 레플리카 선택 방식입니다. (" + name + ")");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.allog.dallog.global.config.replication;
+
+import static com.allog.dallog.global.config.replication.DataSourceKey.SOURCE;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 읽기 전용 트랜잭션이 쓸 레플리카를 고른다. 살아 있고 지연이 허용 범위 안인 레플리카 중에서 설정한 방식으로 고르고, 쓸 수 있는
+ * 레플리카가 없으면 소스로 보낸다.
+ */
+public class ReplicaSelector {
+
+    private final List<ReplicaStatus> replicas;
+    private final Map<DataSourceKey, ReplicaStatus> statuses;
+    private final ReplicaSelectionStrategy selectionStrategy;
+    private final long maxLagSeconds;
+
+    public ReplicaSelector(final List<DataSourceKey> replicas, final String selectionStrategy,
+                           final long maxLagSeconds, final double smoothingFactor, final int failureThreshold) {
+        List<ReplicaStatus> statuses = new ArrayList<>();
+        for (DataSourceKey replica : replicas) {
+            statuses.add(new ReplicaStatus(replica, smoothingFactor, failureThreshold));
+        }
+        this.replicas = List.copyOf(statuses);
+        this.statuses = toMap(this.replicas);
+        this.selectionStrategy = ReplicaSelectionStrategy.of(selectionStrategy);
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    private static Map<DataSourceKey, ReplicaStatus> toMap(final List<ReplicaStatus> replicas) {
+        Map<DataSourceKey, ReplicaStatus> statuses = new HashMap<>();
+        for (ReplicaStatus replica : replicas) {
+            statuses.put(replica.getKey(), replica);
+        }
+        return Map.copyOf(statuses);
+    }
+
+    public DataSourceKey select() {
+        ReplicaStatus selected = selectionStrategy.select(replicas, maxLagSeconds);
+        if (Objects.isNull(selected)) {
+            return SOURCE;
+        }
+        return selected.getKey();
+    }
+
+    /**
+     * 주어진 시각에 커밋한 쓰기를 이미 받은 레플리카 중에서 고른다. 그런 레플리카가 없으면 소스로 보낸다.
+     */
+    public DataSourceKey selectCaughtUpWith(final long writtenAt) {
+        List<ReplicaStatus> caughtUp = new ArrayList<>();
+        for (ReplicaStatus replica : replicas) {
+            if (replica.isCaughtUpWith(writtenAt)) {
+                caughtUp.add(replica);
+            }
+        }
+        ReplicaStatus selected = selectionStrategy.select(caughtUp, maxLagSeconds);
+        if (Objects.isNull(selected)) {
+            return SOURCE;
+        }
+        return selected.getKey();
+    }
+
+    public void recordSuccess(final DataSourceKey replica, final long latencyNanos, final long lagSeconds) {
+        statuses.get(replica).recordSuccess(latencyNanos, lagSeconds, System.currentTimeMillis());
+    }
+
+    public void recordFailure(final DataSourceKey replica) {
+        statuses.get(replica).recordFailure();
+    }
+
+    public boolean isAvailable(final DataSourceKey replica) {
+        return statuses.get(replica).isAvailable(maxLagSeconds);
+    }
+
+    public double getLatencyNanos(final DataSourceKey replica) {
+        return statuses.get(replica).getLatencyNanos();
+    }
+
+    public long getLagSeconds(final DataSourceKey replica) {
+        return statuses.get(replica).getLagSeconds();
+    }
+
+    public List<DataSourceKey> getReplicas() {
+        List<DataSourceKey> keys = new ArrayList<>();
+        for (ReplicaStatus replica : replicas) {
+            keys.add(replica.getKey());
+        }
+        return keys;
+    }
+}
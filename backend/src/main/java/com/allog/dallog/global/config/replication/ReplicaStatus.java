@@ -0,0 +1,68 @@
+package com.allog.dallog.global.config.replication;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 레플리카 하나의 상태. 헬스 체크 스레드가 쓰고 요청 스레드가 읽으므로 잠금 없이 원자 변수로만 갱신한다.
+ */
+class ReplicaStatus {
+
+    static final long UNKNOWN_LAG = Long.MAX_VALUE;
+
+    private final DataSourceKey key;
+    private final double smoothingFactor;
+    private final int failureThreshold;
+    private final AtomicLong latencyNanosBits = new AtomicLong(Double.doubleToLongBits(0));
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long lagSeconds;
+    private volatile long checkedAt;
+
+    ReplicaStatus(final DataSourceKey key, final double smoothingFactor, final int failureThreshold) {
+        this.key = key;
+        this.smoothingFactor = smoothingFactor;
+        this.failureThreshold = failureThreshold;
+    }
+
+    void recordSuccess(final long latencyNanos, final long lagSeconds, final long checkedAt) {
+        this.lagSeconds = lagSeconds;
+        this.checkedAt = checkedAt;
+        consecutiveFailures.set(0);
+        latencyNanosBits.updateAndGet(bits -> {
+            double previous = Double.longBitsToDouble(bits);
+            if (previous == 0) {
+                return Double.doubleToLongBits(latencyNanos);
+            }
+            return Double.doubleToLongBits(previous + smoothingFactor * (latencyNanos - previous));
+        });
+    }
+
+    void recordFailure() {
+        consecutiveFailures.incrementAndGet();
+    }
+
+    boolean isAvailable(final long maxLagSeconds) {
+        return consecutiveFailures.get() < failureThreshold && lagSeconds <= maxLagSeconds;
+    }
+
+    // 지연은 초 단위로 버림하여 오므로 1초를 더해, 마지막 확인 시점에 이 레플리카가 어느 시각까지 따라왔는지 보수적으로 본다.
+    boolean isCaughtUpWith(final long writtenAt) {
+        long lag = lagSeconds;
+        if (lag == UNKNOWN_LAG) {
+            return false;
+        }
+        return checkedAt - (lag + 1) * 1000 >= writtenAt;
+    }
+
+    DataSourceKey getKey() {
+        return key;
+    }
+
+    double getLatencyNanos() {
+        return Double.longBitsToDouble(latencyNanosBits.get());
+    }
+
+    long getLagSeconds() {
+        return lagSeconds;
+    }
+}
@@ -0,0 +1,29 @@
+package com.allog.dallog.global.config.replication;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 레플리카를 돌아가며 고른다. 차례인 레플리카를 쓸 수 없으면 다음 레플리카로 넘어간다.
+ */
+class RoundRobinSelection implements ReplicaSelectionStrategy {
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Override
+    public ReplicaStatus select(final List<ReplicaStatus> replicas, final long maxLagSeconds) {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+
+        int start = Math.floorMod(sequence.getAndIncrement(), size);
+        for (int offset = 0; offset < size; offset++) {
+            ReplicaStatus replica = replicas.get((start + offset) % size);
+            if (replica.isAvailable(maxLagSeconds)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+}
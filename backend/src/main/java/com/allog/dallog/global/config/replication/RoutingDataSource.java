@@ -2,21 +2,82 @@ package com.allog.dallog.global.config.replication;
 
 import static com.allog.dallog.global.config.replication.DataSourceKey.SOURCE;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class RoutingDataSource extends AbstractRoutingDataSource {
 
-    private final RandomReplicaKeys randomReplicaKeys = new RandomReplicaKeys();
+    private static final Logger log = LoggerFactory.getLogger(RoutingDataSource.class);
+
+    private final ReplicaSelector replicaSelector;
+    private final RecentWrites recentWrites;
+
+    public RoutingDataSource(final ReplicaSelector replicaSelector, final RecentWrites recentWrites) {
+        this.replicaSelector = replicaSelector;
+        this.recentWrites = recentWrites;
+    }
 
     @Override
     protected Object determineCurrentLookupKey() {
         boolean isReadOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        Long memberId = ConsistencySession.getMemberId();
 
         if (isReadOnly) {
-            return randomReplicaKeys.next();
+            return selectReplica(memberId);
         }
 
+        recordWriteOnCommit(memberId);
         return SOURCE;
     }
+
+    // 방금 쓴 회원의 읽기는 그 쓰기를 받은 레플리카나 소스로만 보낸다.
+    private DataSourceKey selectReplica(final Long memberId) {
+        if (Objects.isNull(memberId)) {
+            return replicaSelector.select();
+        }
+
+        long writtenAt = recentWrites.getWrittenAt(memberId, System.currentTimeMillis());
+        if (writtenAt == RecentWrites.NONE) {
+            return replicaSelector.select();
+        }
+        return replicaSelector.selectCaughtUpWith(writtenAt);
+    }
+
+    private void recordWriteOnCommit(final Long memberId) {
+        if (Objects.isNull(memberId) || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWrites.record(memberId, System.currentTimeMillis());
+            }
+        });
+    }
+
+    // 고른 레플리카에 연결하지 못하면 다음 헬스 체크를 기다리지 않고 실패를 기록한 뒤 소스로 보낸다.
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        DataSource dataSource = getResolvedDataSources().get(key);
+        if (SOURCE.equals(key) || dataSource == null) {
+            return getResolvedDefaultDataSource().getConnection();
+        }
+
+        try {
+            return dataSource.getConnection();
+        } catch (final SQLException e) {
+            replicaSelector.recordFailure((DataSourceKey) key);
+            log.warn("레플리카에 연결할 수 없어 소스로 보냅니다. (replica: {})", key, e);
+            return getResolvedDefaultDataSource().getConnection();
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package com.allog.dallog.global.config.resilience;
+
+import com.allog.dallog.infrastructure.oauth.exception.OAuthServerException;
+import com.allog.dallog.infrastructure.resilience.Bulkhead;
+import com.allog.dallog.infrastructure.resilience.CircuitBreaker;
+import com.allog.dallog.infrastructure.resilience.JitteredBackoff;
+import com.allog.dallog.infrastructure.resilience.UpstreamGuard;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 업스트림마다 하나씩 {@link UpstreamGuard}를 둔다. 지금은 구글 캘린더 API 하나다.
+ */
+@Configuration
+public class ResilienceConfig {
+
+    private static final String GOOGLE_CALENDAR = "google-calendar";
+
+    private final int failureRateThreshold;
+    private final int slidingWindowSize;
+    private final int minimumNumberOfCalls;
+    private final long waitDurationInOpenState;
+    private final int permittedCallsInHalfOpenState;
+    private final int maxConcurrentCalls;
+    private final int maxAttempts;
+    private final long initialBackoff;
+    private final long maxBackoff;
+
+    public ResilienceConfig(
+            @Value("${resilience.google-calendar.failure-rate-threshold:50}") final int failureRateThreshold,
+            @Value("${resilience.google-calendar.sliding-window-size:20}") final int slidingWindowSize,
+            @Value("${resilience.google-calendar.minimum-number-of-calls:10}") final int minimumNumberOfCalls,
+            @Value("${resilience.google-calendar.wait-duration-in-open-state:30000}") final long waitDurationInOpenState,
+            @Value("${resilience.google-calendar.permitted-calls-in-half-open-state:3}") final int permittedCallsInHalfOpenState,
+            @Value("${resilience.google-calendar.max-concurrent-calls:32}") final int maxConcurrentCalls,
+            @Value("${resilience.google-calendar.max-attempts:3}") final int maxAttempts,
+            @Value("${resilience.google-calendar.initial-backoff:100}") final long initialBackoff,
+            @Value("${resilience.google-calendar.max-backoff:1000}") final long maxBackoff) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.slidingWindowSize = slidingWindowSize;
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+        this.waitDurationInOpenState = waitDurationInOpenState;
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Bean
+    public UpstreamGuard googleCalendarGuard() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(GOOGLE_CALENDAR, failureRateThreshold, slidingWindowSize,
+                minimumNumberOfCalls, Duration.ofMillis(waitDurationInOpenState), permittedCallsInHalfOpenState,
+                Clock.systemUTC());
+        Bulkhead bulkhead = new Bulkhead(GOOGLE_CALENDAR, maxConcurrentCalls);
+        JitteredBackoff backoff = new JitteredBackoff(Duration.ofMillis(initialBackoff), Duration.ofMillis(maxBackoff));
+
+        return new UpstreamGuard(circuitBreaker, bulkhead, backoff, maxAttempts,
+                e -> e instanceof OAuthServerException,
+                e -> e instanceof OAuthServerException && ((OAuthServerException) e).isRetryable());
+    }
+
+    @Bean
+    public MeterBinder googleCalendarGuardMetrics(final UpstreamGuard googleCalendarGuard) {
+        return registry -> bindTo(registry, googleCalendarGuard);
+    }
+
+    private void bindTo(final MeterRegistry registry, final UpstreamGuard upstreamGuard) {
+        CircuitBreaker circuitBreaker = upstreamGuard.getCircuitBreaker();
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            Gauge.builder("dallog.resilience.circuit-breaker.state", circuitBreaker,
+                            breaker -> breaker.getState() == state ? 1 : 0)
+                    .description("서킷 브레이커 상태")
+                    .tag("name", circuitBreaker.getName())
+                    .tag("state", state.name().toLowerCase())
+                    .register(registry);
+        }
+
+        Bulkhead bulkhead = upstreamGuard.getBulkhead();
+        Gauge.builder("dallog.resilience.bulkhead.available-concurrent-calls", bulkhead,
+                        Bulkhead::getAvailableConcurrentCalls)
+                .description("벌크헤드에 남은 동시 요청 자리 수")
+                .tag("name", bulkhead.getName())
+                .register(registry);
+    }
+}
@@ -1,6 +1,7 @@
 package com.allog.dallog.global.error;
 
 import com.allog.dallog.auth.exception.EmptyAuthorizationHeaderException;
+import com.allog.dallog.auth.exception.InvalidOAuthAccessTokenException;
 import com.allog.dallog.auth.exception.InvalidTokenException;
 import com.allog.dallog.auth.exception.NoPermissionException;
 import com.allog.dallog.auth.exception.NoSuchOAuthTokenException;
@@ -23,6 +24,7 @@ import com.allog.dallog.subscription.exception.NotAbleToUnsubscribeException;
 import com.allog.dallog.global.error.dto.ErrorReportRequest;
 import com.allog.dallog.global.error.dto.ErrorResponse;
 import com.allog.dallog.infrastructure.oauth.exception.OAuthException;
+import com.allog.dallog.infrastructure.resilience.CallNotPermittedException;
 import javax.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -118,13 +120,23 @@ public class ControllerAdvice {
         return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(errorResponse);
     }
 
-    @ExceptionHandler(OAuthException.class)
+    @ExceptionHandler({
+            OAuthException.class,
+            InvalidOAuthAccessTokenException.class
+    })
     public ResponseEntity<ErrorResponse> handleOAuthException(final RuntimeException e) {
         log.error(e.getMessage(), e);
         ErrorResponse errorResponse = new ErrorResponse(e.getMessage());
         return ResponseEntity.internalServerError().body(errorResponse);
     }
 
+    @ExceptionHandler(CallNotPermittedException.class)
+    public ResponseEntity<ErrorResponse> handleCallNotPermitted(final CallNotPermittedException e) {
+        log.warn(e.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleUnexpectedException(final Exception e,
                                                                    final HttpServletRequest request) {
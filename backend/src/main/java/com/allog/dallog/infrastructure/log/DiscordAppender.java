@@ -11,18 +11,33 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.HttpClients;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 public class DiscordAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
 
     private static final String TITLE_FORMAT = "[%s] %s";
     private static final String DESCRIPTION_FORMAT = "%s: %s";
+    private static final int TIMEOUT = 3000;
+    private static final int MAX_CONNECTIONS = 2;
     private static final RestTemplate CLIENT;
 
+    // 로그백이 스프링보다 먼저 만들기 때문에 공용 커넥션 풀을 쓰지 못하고, 같은 설정으로 작은 풀을 따로 둔다.
     static {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(3000);
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(TIMEOUT)
+                .setSocketTimeout(TIMEOUT)
+                .setConnectionRequestTimeout(TIMEOUT)
+                .build();
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(
+                HttpClients.custom()
+                        .setMaxConnTotal(MAX_CONNECTIONS)
+                        .setMaxConnPerRoute(MAX_CONNECTIONS)
+                        .setDefaultRequestConfig(requestConfig)
+                        .evictExpiredConnections()
+                        .build());
         CLIENT = new RestTemplate(factory);
     }
 
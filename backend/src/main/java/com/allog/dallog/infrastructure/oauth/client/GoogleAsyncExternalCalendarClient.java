@@ -0,0 +1,175 @@
+package com.allog.dallog.infrastructure.oauth.client;
+
+import com.allog.dallog.auth.exception.InvalidOAuthAccessTokenException;
+import com.allog.dallog.externalcalendar.application.AsyncExternalCalendarClient;
+import com.allog.dallog.infrastructure.oauth.dto.GoogleCalendarEventsPage;
+import com.allog.dallog.infrastructure.oauth.exception.OAuthException;
+import com.allog.dallog.infrastructure.oauth.exception.OAuthServerException;
+import com.allog.dallog.infrastructure.resilience.UpstreamGuard;
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GoogleAsyncExternalCalendarClient implements AsyncExternalCalendarClient {
+
+    private static final String USER_AGENT = "dallog (gzip)";
+    private static final String GZIP = "gzip";
+
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+    private final MeterRegistry meterRegistry;
+    private final UpstreamGuard googleCalendarGuard;
+    private final GoogleCalendarEventsParser googleCalendarEventsParser = new GoogleCalendarEventsParser();
+
+    public GoogleAsyncExternalCalendarClient(final HttpClient asyncOutboundHttpClient,
+                                             @Value("${http-client.read-timeout:5000}") final long readTimeout,
+                                             final MeterRegistry meterRegistry,
+                                             final UpstreamGuard googleCalendarGuard) {
+        this.httpClient = asyncOutboundHttpClient;
+        this.readTimeout = Duration.ofMillis(readTimeout);
+        this.meterRegistry = meterRegistry;
+        this.googleCalendarGuard = googleCalendarGuard;
+    }
+
+    @Override
+    public CompletableFuture<List<IntegrationSchedule>> getExternalCalendarSchedules(final String accessToken,
+                                                                                     final Long internalCategoryId,
+                                                                                     final String externalCalendarId,
+                                                                                     final String startDateTime,
+                                                                                     final String endDateTime) {
+        Map<String, String> conditions = GoogleCalendarEventsUri.rangeConditions(startDateTime, endDateTime);
+        return fetchAllPages(accessToken, internalCategoryId, externalCalendarId, conditions, null, new ArrayList<>());
+    }
+
+    private CompletableFuture<List<IntegrationSchedule>> fetchAllPages(final String accessToken,
+                                                                       final Long internalCategoryId,
+                                                                       final String externalCalendarId,
+                                                                       final Map<String, String> conditions,
+                                                                       final String pageToken,
+                                                                       final List<IntegrationSchedule> schedules) {
+        URI uri = GoogleCalendarEventsUri.of(externalCalendarId, conditions, pageToken);
+        return googleCalendarGuard.callAsync(() -> fetchPage(accessToken, uri, internalCategoryId))
+                .thenCompose(page -> {
+                    schedules.addAll(page.getSchedules());
+                    if (!page.hasNextPage()) {
+                        return CompletableFuture.completedFuture(schedules);
+                    }
+                    return fetchAllPages(accessToken, internalCategoryId, externalCalendarId, conditions,
+                            page.getNextPageToken(), schedules);
+                });
+    }
+
+    private CompletableFuture<GoogleCalendarEventsPage> fetchPage(final String accessToken, final URI uri,
+                                                                  final Long internalCategoryId) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(readTimeout)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT_ENCODING, GZIP)
+                .header(HttpHeaders.USER_AGENT, USER_AGENT)
+                .GET()
+                .build();
+
+        long startedAt = System.nanoTime();
+        return httpClient.sendAsync(request, BodyHandlers.ofByteArray())
+                .handle((response, throwable) -> {
+                    record(uri, response, throwable, System.nanoTime() - startedAt);
+                    if (!Objects.isNull(throwable)) {
+                        throw new OAuthServerException("외부 일정을 가져올 수 없습니다.", unwrap(throwable), false);
+                    }
+                    return toPage(response, internalCategoryId);
+                });
+    }
+
+    private GoogleCalendarEventsPage toPage(final HttpResponse<byte[]> response, final Long internalCategoryId) {
+        HttpStatus status = HttpStatus.resolve(response.statusCode());
+        if (status == HttpStatus.UNAUTHORIZED) {
+            throw new InvalidOAuthAccessTokenException(new IllegalStateException("구글 캘린더 응답 상태: 401"));
+        }
+        if (status == HttpStatus.TOO_MANY_REQUESTS || Objects.isNull(status) || status.is5xxServerError()) {
+            throw new OAuthServerException("외부 일정을 가져올 수 없습니다.",
+                    new IllegalStateException("구글 캘린더 응답 상태: " + response.statusCode()), true);
+        }
+        if (!status.is2xxSuccessful()) {
+            throw new OAuthException("외부 일정에 대한 권한이 없습니다.",
+                    new IllegalStateException("구글 캘린더 응답 상태: " + response.statusCode()));
+        }
+
+        try (InputStream body = decode(response)) {
+            return googleCalendarEventsParser.parse(body, internalCategoryId);
+        } catch (final IOException e) {
+            throw new OAuthServerException("외부 일정을 가져올 수 없습니다.", e, false);
+        }
+    }
+
+    // JDK HttpClient는 압축을 풀어 주지 않으므로 직접 푼다.
+    private InputStream decode(final HttpResponse<byte[]> response) throws IOException {
+        InputStream body = new ByteArrayInputStream(response.body());
+        boolean gzipped = response.headers()
+                .firstValue(HttpHeaders.CONTENT_ENCODING)
+                .map(GZIP::equalsIgnoreCase)
+                .orElse(false);
+        if (gzipped) {
+            return new GZIPInputStream(body);
+        }
+        return body;
+    }
+
+    private void record(final URI uri, final HttpResponse<byte[]> response, final Throwable throwable,
+                        final long elapsedNanos) {
+        String status = Objects.isNull(response) ? "CLIENT_ERROR" : String.valueOf(response.statusCode());
+        String exception = Objects.isNull(throwable) ? "none" : unwrap(throwable).getClass().getSimpleName();
+        String outcome = Objects.isNull(response) ? "UNKNOWN" : toOutcome(response.statusCode());
+        Timer.builder("http.client.requests")
+                .tag("clientName", uri.getHost())
+                .tag("method", "GET")
+                .tag("uri", "none")
+                .tag("status", status)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private String toOutcome(final int statusCode) {
+        HttpStatus.Series series = HttpStatus.Series.resolve(statusCode);
+        if (Objects.isNull(series)) {
+            return "UNKNOWN";
+        }
+        return series.name();
+    }
+
+    private Exception unwrap(final Throwable throwable) {
+        Throwable cause = throwable;
+        if (cause instanceof CompletionException && !Objects.isNull(cause.getCause())) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof Exception) {
+            return (Exception) cause;
+        }
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,141 @@
+package com.allog.dallog.infrastructure.oauth.client;
+
+import static com.allog.dallog.category.domain.CategoryType.GOOGLE;
+
+import com.allog.dallog.infrastructure.oauth.dto.GoogleCalendarEventsPage;
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 구글 캘린더 일정 목록 응답 한 페이지를 스트리밍으로 읽어, 중간 객체 없이 바로 {@link IntegrationSchedule}로 만든다.
+ */
+public class GoogleCalendarEventsParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String CANCELLED = "cancelled";
+    private static final int DATE_TIME_LENGTH = 19;
+
+    public GoogleCalendarEventsPage parse(final InputStream body, final Long internalCategoryId) throws IOException {
+        List<IntegrationSchedule> schedules = new ArrayList<>();
+        List<String> cancelledScheduleIds = new ArrayList<>();
+        String nextPageToken = null;
+        String nextSyncToken = null;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("구글 캘린더 일정 응답이 JSON 객체가 아닙니다.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case "items":
+                        parseItems(parser, internalCategoryId, schedules, cancelledScheduleIds);
+                        break;
+                    case "nextPageToken":
+                        nextPageToken = parser.getValueAsString();
+                        break;
+                    case "nextSyncToken":
+                        nextSyncToken = parser.getValueAsString();
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        }
+        return new GoogleCalendarEventsPage(schedules, cancelledScheduleIds, nextPageToken, nextSyncToken);
+    }
+
+    private void parseItems(final JsonParser parser, final Long internalCategoryId,
+                            final List<IntegrationSchedule> schedules, final List<String> cancelledScheduleIds)
+            throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            parseItem(parser, internalCategoryId, schedules, cancelledScheduleIds);
+        }
+    }
+
+    private void parseItem(final JsonParser parser, final Long internalCategoryId,
+                           final List<IntegrationSchedule> schedules, final List<String> cancelledScheduleIds)
+            throws IOException {
+        String id = null;
+        String status = null;
+        String summary = null;
+        String description = null;
+        LocalDateTime startDateTime = null;
+        LocalDateTime endDateTime = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case "id":
+                    id = parser.getValueAsString();
+                    break;
+                case "status":
+                    status = parser.getValueAsString();
+                    break;
+                case "summary":
+                    summary = parser.getValueAsString();
+                    break;
+                case "description":
+                    description = parser.getValueAsString();
+                    break;
+                case "start":
+                    startDateTime = parseDateTime(parser);
+                    break;
+                case "end":
+                    endDateTime = parseDateTime(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        if (CANCELLED.equals(status)) {
+            cancelledScheduleIds.add(id);
+            return;
+        }
+        schedules.add(new IntegrationSchedule(id, internalCategoryId, Objects.requireNonNullElse(summary, ""),
+                startDateTime, endDateTime, Objects.requireNonNullElse(description, ""), GOOGLE));
+    }
+
+    // 종일 일정은 date, 시간이 있는 일정은 dateTime으로 온다. dateTime의 시간대 오프셋은 버린다.
+    private LocalDateTime parseDateTime(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        String date = null;
+        String dateTime = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if ("date".equals(fieldName)) {
+                date = parser.getValueAsString();
+            } else if ("dateTime".equals(fieldName)) {
+                dateTime = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (Objects.isNull(date)) {
+            return LocalDateTime.parse(dateTime.substring(0, DATE_TIME_LENGTH));
+        }
+        return LocalDate.parse(date).atStartOfDay();
+    }
+}
@@ -0,0 +1,42 @@
+package com.allog.dallog.infrastructure.oauth.client;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.web.util.UriComponentsBuilder;
+
+final class GoogleCalendarEventsUri {
+
+    private static final String CALENDAR_EVENTS_REQUEST_URI = "https://www.googleapis.com/calendar/v3/calendars/{calendarId}/events";
+    private static final String EVENTS_FIELDS = "items(id,status,summary,description,start,end),nextPageToken,nextSyncToken";
+    private static final int MAX_RESULTS_PER_PAGE = 2500;
+
+    private GoogleCalendarEventsUri() {
+    }
+
+    static URI of(final String externalCalendarId, final Map<String, String> conditions, final String pageToken) {
+        Map<String, Object> uriVariables = new HashMap<>(conditions);
+        uriVariables.put("calendarId", externalCalendarId);
+        uriVariables.put("fields", EVENTS_FIELDS);
+
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(CALENDAR_EVENTS_REQUEST_URI)
+                .queryParam("singleEvents", true)
+                .queryParam("maxResults", MAX_RESULTS_PER_PAGE)
+                .queryParam("fields", "{fields}");
+        for (String conditionName : conditions.keySet()) {
+            builder.queryParam(conditionName, "{" + conditionName + "}");
+        }
+        if (!Objects.isNull(pageToken)) {
+            builder.queryParam("pageToken", "{pageToken}");
+            uriVariables.put("pageToken", pageToken);
+        }
+        return builder.encode()
+                .buildAndExpand(uriVariables)
+                .toUri();
+    }
+
+    static Map<String, String> rangeConditions(final String startDateTime, final String endDateTime) {
+        return Map.of("timeMin", startDateTime + "Z", "timeMax", endDateTime + "Z");
+    }
+}
@@ -1,17 +1,22 @@
 package com.allog.dallog.infrastructure.oauth.client;
 
+import com.allog.dallog.auth.exception.InvalidOAuthAccessTokenException;
 import com.allog.dallog.externalcalendar.application.ExternalCalendarClient;
 import com.allog.dallog.externalcalendar.dto.ExternalCalendar;
+import com.allog.dallog.externalcalendar.dto.ExternalScheduleChanges;
+import com.allog.dallog.externalcalendar.exception.ExpiredSyncTokenException;
 import com.allog.dallog.schedule.domain.IntegrationSchedule;
-import com.allog.dallog.global.config.cache.CacheConfig;
-import com.allog.dallog.infrastructure.oauth.dto.GoogleCalendarEventsResponse;
+import com.allog.dallog.infrastructure.oauth.dto.GoogleCalendarEventsPage;
 import com.allog.dallog.infrastructure.oauth.dto.GoogleCalendarListResponse;
 import com.allog.dallog.infrastructure.oauth.exception.OAuthException;
+import com.allog.dallog.infrastructure.oauth.exception.OAuthServerException;
+import com.allog.dallog.infrastructure.resilience.UpstreamGuard;
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -19,6 +24,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
@@ -26,19 +32,23 @@ import org.springframework.web.client.RestTemplate;
 public class GoogleExternalCalendarClient implements ExternalCalendarClient {
 
     private static final String CALENDAR_LIST_REQUEST_URI = "https://www.googleapis.com/calendar/v3/users/me/calendarList";
-    private static final String CALENDAR_EVENTS_REQUEST_URI = "https://www.googleapis.com/calendar/v3/calendars/{calendarId}/events?singleEvents=true&timeMax={timeMax}&timeMin={timeMin}";
     private static final String ACCEPT_HEADER_NAME = "Accept";
 
     private final RestTemplate restTemplate;
+    private final UpstreamGuard googleCalendarGuard;
+    private final GoogleCalendarEventsParser googleCalendarEventsParser = new GoogleCalendarEventsParser();
 
-    public GoogleExternalCalendarClient(final RestTemplateBuilder restTemplateBuilder) {
+    public GoogleExternalCalendarClient(final RestTemplateBuilder restTemplateBuilder,
+                                        final UpstreamGuard googleCalendarGuard) {
         this.restTemplate = restTemplateBuilder.build();
+        this.googleCalendarGuard = googleCalendarGuard;
     }
 
     @Override
     public List<ExternalCalendar> getExternalCalendars(final String accessToken) {
         HttpEntity<Void> request = new HttpEntity<>(generateCalendarRequestHeaders(accessToken));
-        GoogleCalendarListResponse response = fetchGoogleCalendarList(request).getBody();
+        GoogleCalendarListResponse response = googleCalendarGuard.call(() -> fetchGoogleCalendarList(request))
+                .getBody();
 
         return response.getItems()
                 .stream()
@@ -50,29 +60,68 @@ public class GoogleExternalCalendarClient implements ExternalCalendarClient {
         try {
             return restTemplate.exchange(CALENDAR_LIST_REQUEST_URI, HttpMethod.GET, request,
                     GoogleCalendarListResponse.class);
+        } catch (final HttpClientErrorException.Unauthorized e) {
+            throw new InvalidOAuthAccessTokenException(e);
+        } catch (final HttpClientErrorException.TooManyRequests | HttpServerErrorException e) {
+            throw new OAuthServerException("외부 캘린더를 가져올 수 없습니다.", e, true);
         } catch (final HttpClientErrorException e) {
             throw new OAuthException("외부 캘린더에 대한 권한이 없습니다.", e);
         } catch (final RestClientException e) {
-            throw new OAuthException("외부 캘린더를 가져올 수 없습니다.", e);
+            throw new OAuthServerException("외부 캘린더를 가져올 수 없습니다.", e, false);
         }
     }
 
     @Override
-    @Cacheable(value = CacheConfig.GOOGLE_CALENDAR, key = "#internalCategoryId+#externalCalendarId+#startDateTime+#endDateTime")
     public List<IntegrationSchedule> getExternalCalendarSchedules(final String accessToken,
                                                                   final Long internalCategoryId,
                                                                   final String externalCalendarId,
                                                                   final String startDateTime,
                                                                   final String endDateTime) {
-        HttpEntity<Void> request = new HttpEntity<>(generateCalendarRequestHeaders(accessToken));
-        Map<String, String> uriVariables = generateEventsVariables(externalCalendarId, startDateTime, endDateTime);
+        return fetchAllGoogleCalendarEvents(accessToken, internalCategoryId, externalCalendarId,
+                GoogleCalendarEventsUri.rangeConditions(startDateTime, endDateTime)).getChangedSchedules();
+    }
 
-        GoogleCalendarEventsResponse response = fetchGoogleCalendarEvents(request, uriVariables).getBody();
+    @Override
+    public ExternalScheduleChanges syncExternalCalendarSchedules(final String accessToken,
+                                                                 final Long internalCategoryId,
+                                                                 final String externalCalendarId,
+                                                                 final String startDateTime,
+                                                                 final String endDateTime) {
+        return fetchAllGoogleCalendarEvents(accessToken, internalCategoryId, externalCalendarId,
+                GoogleCalendarEventsUri.rangeConditions(startDateTime, endDateTime));
+    }
 
-        return response.getItems()
-                .stream()
-                .map(event -> event.toIntegrationSchedule(internalCategoryId))
-                .collect(Collectors.toList());
+    @Override
+    public ExternalScheduleChanges syncExternalCalendarScheduleChanges(final String accessToken,
+                                                                       final Long internalCategoryId,
+                                                                       final String externalCalendarId,
+                                                                       final String syncToken) {
+        return fetchAllGoogleCalendarEvents(accessToken, internalCategoryId, externalCalendarId,
+                Map.of("syncToken", syncToken));
+    }
+
+    private ExternalScheduleChanges fetchAllGoogleCalendarEvents(final String accessToken,
+                                                                 final Long internalCategoryId,
+                                                                 final String externalCalendarId,
+                                                                 final Map<String, String> conditions) {
+        HttpHeaders headers = generateCalendarRequestHeaders(accessToken);
+        List<IntegrationSchedule> changedSchedules = new ArrayList<>();
+        List<String> cancelledScheduleIds = new ArrayList<>();
+
+        String pageToken = null;
+        while (true) {
+            URI uri = GoogleCalendarEventsUri.of(externalCalendarId, conditions, pageToken);
+            GoogleCalendarEventsPage page = googleCalendarGuard.call(
+                    () -> fetchGoogleCalendarEvents(headers, uri, internalCategoryId));
+            changedSchedules.addAll(page.getSchedules());
+            cancelledScheduleIds.addAll(page.getCancelledScheduleIds());
+
+            // 동기화 토큰은 마지막 페이지에만 담겨 온다.
+            if (!page.hasNextPage()) {
+                return new ExternalScheduleChanges(changedSchedules, cancelledScheduleIds, page.getNextSyncToken());
+            }
+            pageToken = page.getNextPageToken();
+        }
     }
 
     private HttpHeaders generateCalendarRequestHeaders(final String accessToken) {
@@ -82,24 +131,21 @@ public class GoogleExternalCalendarClient implements ExternalCalendarClient {
         return headers;
     }
 
-    private Map<String, String> generateEventsVariables(final String externalCalendarId, final String startDateTime,
-                                                        final String endDateTime) {
-        return Map.of(
-                "calendarId", externalCalendarId,
-                "timeMax", endDateTime + "Z",
-                "timeMin", startDateTime + "Z"
-        );
-    }
-
-    private ResponseEntity<GoogleCalendarEventsResponse> fetchGoogleCalendarEvents(
-            final HttpEntity<Void> request, final Map<String, String> uriVariables) {
+    private GoogleCalendarEventsPage fetchGoogleCalendarEvents(final HttpHeaders headers, final URI uri,
+                                                               final Long internalCategoryId) {
         try {
-            return restTemplate.exchange(CALENDAR_EVENTS_REQUEST_URI, HttpMethod.GET, request,
-                    GoogleCalendarEventsResponse.class, uriVariables);
+            return restTemplate.execute(uri, HttpMethod.GET, request -> request.getHeaders().addAll(headers),
+                    response -> googleCalendarEventsParser.parse(response.getBody(), internalCategoryId));
+        } catch (final HttpClientErrorException.Unauthorized e) {
+            throw new InvalidOAuthAccessTokenException(e);
+        } catch (final HttpClientErrorException.Gone e) {
+            throw new ExpiredSyncTokenException(e);
+        } catch (final HttpClientErrorException.TooManyRequests | HttpServerErrorException e) {
+            throw new OAuthServerException("외부 일정을 가져올 수 없습니다.", e, true);
         } catch (final HttpClientErrorException e) {
             throw new OAuthException("외부 일정에 대한 권한이 없습니다.", e);
         } catch (final RestClientException e) {
-            throw new OAuthException("외부 일정을 가져올 수 없습니다.", e);
+            throw new OAuthServerException("외부 일정을 가져올 수 없습니다.", e, false);
         }
     }
 }
@@ -0,0 +1,40 @@
+package com.allog.dallog.infrastructure.oauth.dto;
+
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import java.util.List;
+
+public class GoogleCalendarEventsPage {
+
+    private final List<IntegrationSchedule> schedules;
+    private final List<String> cancelledScheduleIds;
+    private final String nextPageToken;
+    private final String nextSyncToken;
+
+    public GoogleCalendarEventsPage(final List<IntegrationSchedule> schedules, final List<String> cancelledScheduleIds,
+                                    final String nextPageToken, final String nextSyncToken) {
+        this.schedules = schedules;
+        this.cancelledScheduleIds = cancelledScheduleIds;
+        this.nextPageToken = nextPageToken;
+        this.nextSyncToken = nextSyncToken;
+    }
+
+    public boolean hasNextPage() {
+        return nextPageToken != null;
+    }
+
+    public List<IntegrationSchedule> getSchedules() {
+        return schedules;
+    }
+
+    public List<String> getCancelledScheduleIds() {
+        return cancelledScheduleIds;
+    }
+
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    public String getNextSyncToken() {
+        return nextSyncToken;
+    }
+}
@@ -0,0 +1,18 @@
+package com.allog.dallog.infrastructure.oauth.exception;
+
+/**
+ * 요청이 잘못되어서가 아니라 외부 서버 쪽 문제(5xx, 429, 연결 실패)로 실패했을 때 던진다.
+ */
+public class OAuthServerException extends OAuthException {
+
+    private final boolean retryable;
+
+    public OAuthServerException(final String message, final Exception e, final boolean retryable) {
+        super(message, e);
+        this.retryable = retryable;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
@@ -0,0 +1,39 @@
+package com.allog.dallog.infrastructure.resilience;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * 한 업스트림으로 동시에 나가는 요청 수를 제한한다. 자리가 없으면 기다리지 않고 바로 거절한다.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final Semaphore semaphore;
+
+    public Bulkhead(final String name, final int maxConcurrentCalls) {
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.semaphore = new Semaphore(maxConcurrentCalls);
+    }
+
+    public boolean tryAcquirePermission() {
+        return semaphore.tryAcquire();
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    public int getAvailableConcurrentCalls() {
+        return semaphore.availablePermits();
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,8 @@
+package com.allog.dallog.infrastructure.resilience;
+
+public class CallNotPermittedException extends RuntimeException {
+
+    public CallNotPermittedException(final String message) {
+        super(message);
+    }
+}
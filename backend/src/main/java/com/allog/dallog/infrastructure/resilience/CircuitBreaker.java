@@ -0,0 +1,131 @@
+package com.allog.dallog.infrastructure.resilience;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 최근 호출 결과를 일정 개수만큼 기억하다가, 실패율이 기준을 넘으면 한동안 호출을 막는다.
+ *
+ * <p>막는 시간이 지나면 몇 번의 시험 호출만 허용하고, 모두 성공하면 다시 열어 주고 하나라도 실패하면 다시 막는다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureRateThreshold;
+    private final int minimumNumberOfCalls;
+    private final Duration waitDurationInOpenState;
+    private final int permittedCallsInHalfOpenState;
+    private final Clock clock;
+
+    private final boolean[] outcomes;
+    private int recordedCalls;
+    private int failedCalls;
+    private int cursor;
+
+    private State state = State.CLOSED;
+    private Instant openedAt;
+    private int halfOpenCalls;
+    private int halfOpenSucceededCalls;
+
+    public CircuitBreaker(final String name, final int failureRateThreshold, final int slidingWindowSize,
+                          final int minimumNumberOfCalls, final Duration waitDurationInOpenState,
+                          final int permittedCallsInHalfOpenState, final Clock clock) {
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+        this.waitDurationInOpenState = waitDurationInOpenState;
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+        this.clock = clock;
+        this.outcomes = new boolean[slidingWindowSize];
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.instant().isBefore(openedAt.plus(waitDurationInOpenState))) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenCalls >= permittedCallsInHalfOpenState) {
+                return false;
+            }
+            halfOpenCalls++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenSucceededCalls++;
+            if (halfOpenSucceededCalls >= permittedCallsInHalfOpenState) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (recordedCalls >= minimumNumberOfCalls && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    // 업스트림 실패로 보지 않는 결과(잘못된 토큰 등)는 시험 호출 자리만 돌려준다.
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenCalls > 0) {
+            halfOpenCalls--;
+        }
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(waitDurationInOpenState))) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void record(final boolean failed) {
+        if (recordedCalls == outcomes.length) {
+            if (outcomes[cursor]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[cursor] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        cursor = (cursor + 1) % outcomes.length;
+    }
+
+    private void transitionTo(final State next) {
+        state = next;
+        halfOpenCalls = 0;
+        halfOpenSucceededCalls = 0;
+        if (next == State.OPEN) {
+            openedAt = clock.instant();
+        }
+        if (next == State.CLOSED) {
+            recordedCalls = 0;
+            failedCalls = 0;
+            cursor = 0;
+        }
+    }
+}
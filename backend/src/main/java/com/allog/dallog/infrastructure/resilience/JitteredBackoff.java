@@ -0,0 +1,28 @@
+package com.allog.dallog.infrastructure.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 재시도 간격을 지수적으로 늘리되, 0부터 그 값 사이에서 무작위로 고른다(full jitter).
+ *
+ * <p>여러 요청이 같은 순간에 실패해도 재시도가 한꺼번에 몰리지 않는다.
+ */
+public class JitteredBackoff {
+
+    private final long initialIntervalInMillis;
+    private final long maxIntervalInMillis;
+
+    public JitteredBackoff(final Duration initialInterval, final Duration maxInterval) {
+        this.initialIntervalInMillis = initialInterval.toMillis();
+        this.maxIntervalInMillis = maxInterval.toMillis();
+    }
+
+    public long nextIntervalInMillis(final int attempt) {
+        long ceiling = Math.min(maxIntervalInMillis, initialIntervalInMillis << Math.min(attempt, 30));
+        if (ceiling <= 0) {
+            return 0;
+        }
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
@@ -0,0 +1,154 @@
+package com.allog.dallog.infrastructure.resilience;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 한 업스트림으로 나가는 요청을 서킷 브레이커, 벌크헤드, 재시도로 감싼다.
+ *
+ * <p>매 시도마다 서킷과 벌크헤드의 허락을 받고, 업스트림 장애로 본 예외만 서킷의 실패로 기록한다. 재시도할 수 있는 예외면
+ * 지터를 준 간격만큼 쉬었다가 다시 시도한다. 허락을 받지 못하면 기다리지 않고 {@link CallNotPermittedException}을 던진다.
+ */
+public class UpstreamGuard {
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final JitteredBackoff backoff;
+    private final int maxAttempts;
+    private final Predicate<Throwable> upstreamFailure;
+    private final Predicate<Throwable> retryable;
+
+    public UpstreamGuard(final CircuitBreaker circuitBreaker, final Bulkhead bulkhead, final JitteredBackoff backoff,
+                         final int maxAttempts, final Predicate<Throwable> upstreamFailure,
+                         final Predicate<Throwable> retryable) {
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.backoff = backoff;
+        this.maxAttempts = maxAttempts;
+        this.upstreamFailure = upstreamFailure;
+        this.retryable = retryable;
+    }
+
+    public <T> T call(final Supplier<T> supplier) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return callOnce(supplier);
+            } catch (final RuntimeException e) {
+                if (attempt >= maxAttempts || !retryable.test(e)) {
+                    throw e;
+                }
+                sleep(backoff.nextIntervalInMillis(attempt), e);
+            }
+        }
+    }
+
+    public <T> CompletableFuture<T> callAsync(final Supplier<CompletableFuture<T>> supplier) {
+        return callAsync(supplier, 1);
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public Bulkhead getBulkhead() {
+        return bulkhead;
+    }
+
+    private <T> T callOnce(final Supplier<T> supplier) {
+        acquirePermission();
+        try {
+            T result = supplier.get();
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (final RuntimeException e) {
+            onError(e);
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private <T> CompletableFuture<T> callAsync(final Supplier<CompletableFuture<T>> supplier, final int attempt) {
+        return callOnceAsync(supplier)
+                .handle((result, throwable) -> {
+                    if (Objects.isNull(throwable)) {
+                        return CompletableFuture.completedFuture(result);
+                    }
+                    Throwable cause = unwrap(throwable);
+                    if (attempt >= maxAttempts || !retryable.test(cause)) {
+                        return CompletableFuture.<T>failedFuture(cause);
+                    }
+                    Executor delayed = CompletableFuture.delayedExecutor(backoff.nextIntervalInMillis(attempt),
+                            TimeUnit.MILLISECONDS);
+                    return CompletableFuture.runAsync(() -> {
+                    }, delayed).thenCompose(ignored -> callAsync(supplier, attempt + 1));
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private <T> CompletableFuture<T> callOnceAsync(final Supplier<CompletableFuture<T>> supplier) {
+        try {
+            acquirePermission();
+        } catch (final CallNotPermittedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<T> future;
+        try {
+            future = supplier.get();
+        } catch (final RuntimeException e) {
+            bulkhead.release();
+            onError(e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, throwable) -> {
+            bulkhead.release();
+            if (Objects.isNull(throwable)) {
+                circuitBreaker.onSuccess();
+                return;
+            }
+            onError(unwrap(throwable));
+        });
+    }
+
+    private void acquirePermission() {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new CallNotPermittedException(circuitBreaker.getName() + " 서킷이 열려 있어 요청하지 않습니다.");
+        }
+        if (!bulkhead.tryAcquirePermission()) {
+            circuitBreaker.onIgnored();
+            throw new CallNotPermittedException(bulkhead.getName() + " 동시 요청 수가 가득 찼습니다.");
+        }
+    }
+
+    // 업스트림이 정상적으로 거절한 요청(잘못된 토큰 등)은 업스트림이 살아났다는 증거도 아니므로 실패율에도 넣지 않고 시험 호출 자리만 돌려준다.
+    private void onError(final Throwable throwable) {
+        if (upstreamFailure.test(throwable)) {
+            circuitBreaker.onFailure();
+            return;
+        }
+        circuitBreaker.onIgnored();
+    }
+
+    private void sleep(final long millis, final RuntimeException cause) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    private Throwable unwrap(final Throwable throwable) {
+        if (throwable instanceof CompletionException && !Objects.isNull(throwable.getCause())) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+}
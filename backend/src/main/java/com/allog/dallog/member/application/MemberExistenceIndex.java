@@ -0,0 +1,113 @@
+package com.allog.dallog.member.application;
+
+import com.allog.dallog.auth.event.MemberSavedEvent;
+import com.allog.dallog.member.domain.MemberRepository;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 존재하는 회원 id를 비트 하나씩으로 기억하여, 인증할 때마다 회원 테이블을 조회하지 않도록 한다.
+ *
+ * <p>회원 id는 1부터 차례로 늘어나므로 비트셋이 가장 작다. 100만 명이어도 125KB 남짓이다. 애플리케이션이 뜰 때 전체 id를 읽어 오고,
+ * 이후 가입한 회원은 {@link MemberSavedEvent}로 더한다. 색인에 없는 id는 다른 서버에서 막 가입했을 수 있으므로 DB에 한 번 더 묻고,
+ * 있으면 색인에 더한다.
+ *
+ * <p>조회는 잠금 없이 하고, 쓰기와 배열을 늘리는 일만 동기화한다. 늘리는 중에 조회하면 이전 배열을 보고 없다고 답할 수 있지만, 그
+ * 경우에도 DB로 확인하므로 결과는 틀리지 않는다.
+ *
+ * <p>아직 회원을 지우는 기능이 없어서 {@link #remove(Long)}를 부르는 곳도 없다. 색인에 남은 id는 DB에 묻지 않고 통과시키므로, 회원
+ * 탈퇴를 만들 때는 지운 트랜잭션이 커밋된 뒤 {@link #remove(Long)}를 불러 색인에서도 빼야 한다.
+ */
+@Component
+public class MemberExistenceIndex {
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private static final long MAX_INDEXABLE_ID = ((long) Integer.MAX_VALUE << ADDRESS_BITS_PER_WORD) - 1;
+    private static final int INITIAL_WORDS = 1024;
+
+    private final MemberRepository memberRepository;
+    private volatile AtomicLongArray words = new AtomicLongArray(INITIAL_WORDS);
+
+    public MemberExistenceIndex(final MemberRepository memberRepository) {
+        this.memberRepository = memberRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (Long memberId : memberRepository.findAllIds()) {
+            add(memberId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberSaved(final MemberSavedEvent event) {
+        add(event.getMemberId());
+    }
+
+    public void validateExists(final Long memberId) {
+        if (contains(memberId)) {
+            return;
+        }
+        memberRepository.validateExistsById(memberId);
+        add(memberId);
+    }
+
+    public boolean contains(final Long memberId) {
+        if (!isIndexable(memberId)) {
+            return false;
+        }
+        AtomicLongArray current = words;
+        int wordIndex = wordIndex(memberId);
+        return wordIndex < current.length() && (current.get(wordIndex) & bit(memberId)) != 0;
+    }
+
+    public synchronized void add(final Long memberId) {
+        if (!isIndexable(memberId)) {
+            return;
+        }
+        int wordIndex = wordIndex(memberId);
+        ensureCapacity(wordIndex);
+        AtomicLongArray current = words;
+        current.set(wordIndex, current.get(wordIndex) | bit(memberId));
+    }
+
+    public synchronized void remove(final Long memberId) {
+        if (!isIndexable(memberId)) {
+            return;
+        }
+        AtomicLongArray current = words;
+        int wordIndex = wordIndex(memberId);
+        if (wordIndex < current.length()) {
+            current.set(wordIndex, current.get(wordIndex) & ~bit(memberId));
+        }
+    }
+
+    private void ensureCapacity(final int wordIndex) {
+        AtomicLongArray current = words;
+        if (wordIndex < current.length()) {
+            return;
+        }
+        int length = (int) Math.min(Integer.MAX_VALUE, Math.max((long) current.length() * 2, wordIndex + 1L));
+        AtomicLongArray grown = new AtomicLongArray(length);
+        for (int i = 0; i < current.length(); i++) {
+            grown.set(i, current.get(i));
+        }
+        words = grown;
+    }
+
+    private boolean isIndexable(final Long memberId) {
+        return !Objects.isNull(memberId) && memberId >= 0 && memberId <= MAX_INDEXABLE_ID;
+    }
+
+    private int wordIndex(final long memberId) {
+        return (int) (memberId >>> ADDRESS_BITS_PER_WORD);
+    }
+
+    private long bit(final long memberId) {
+        return 1L << memberId;
+    }
+}
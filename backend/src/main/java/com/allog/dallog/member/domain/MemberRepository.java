@@ -1,8 +1,10 @@
 package com.allog.dallog.member.domain;
 
 import com.allog.dallog.member.exception.NoSuchMemberException;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
@@ -10,6 +12,9 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     boolean existsByEmail(final String email);
 
+    @Query("SELECT m.id FROM Member m")
+    List<Long> findAllIds();
+
     default Member getById(final Long id) {
         return findById(id)
                 .orElseThrow(NoSuchMemberException::new);
@@ -1,80 +1,61 @@
 package com.allog.dallog.schedule.application;
 
-import com.allog.dallog.auth.application.OAuthClient;
-import com.allog.dallog.auth.dto.response.OAuthAccessTokenResponse;
-import com.allog.dallog.category.domain.ExternalCategoryDetail;
-import com.allog.dallog.category.domain.Category;
-import com.allog.dallog.externalcalendar.application.ExternalCalendarClient;
+import com.allog.dallog.auth.application.OAuthAccessTokenCache;
 import com.allog.dallog.schedule.domain.IntegrationSchedule;
 import com.allog.dallog.schedule.domain.TypedSchedules;
+import com.allog.dallog.schedule.dto.CheckedSchedules;
+import com.allog.dallog.schedule.dto.ExternalSchedules;
 import com.allog.dallog.schedule.dto.MaterialToFindSchedules;
 import com.allog.dallog.schedule.dto.request.DateRangeRequest;
 import com.allog.dallog.schedule.dto.response.IntegrationScheduleResponses;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.stereotype.Component;
 
 @Component
 public class CheckedSchedulesFinder {
 
-    private static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss";
-
     private final ScheduleService scheduleService;
-    private final OAuthClient oAuthClient;
-    private final ExternalCalendarClient externalCalendarClient;
+    private final OAuthAccessTokenCache oAuthAccessTokenCache;
+    private final ExternalSchedulesFetcher externalSchedulesFetcher;
 
-    public CheckedSchedulesFinder(final ScheduleService scheduleService, final OAuthClient oAuthClient,
-                                  final ExternalCalendarClient externalCalendarClient) {
+    public CheckedSchedulesFinder(final ScheduleService scheduleService,
+                                  final OAuthAccessTokenCache oAuthAccessTokenCache,
+                                  final ExternalSchedulesFetcher externalSchedulesFetcher) {
         this.scheduleService = scheduleService;
-        this.oAuthClient = oAuthClient;
-        this.externalCalendarClient = externalCalendarClient;
+        this.oAuthAccessTokenCache = oAuthAccessTokenCache;
+        this.externalSchedulesFetcher = externalSchedulesFetcher;
     }
 
-    public IntegrationScheduleResponses findMyCheckedSchedules(final Long memberId, final DateRangeRequest request) {
-        MaterialToFindSchedules material = scheduleService.findInternalByMemberIdAndDateRange(memberId, request);
-
-        List<IntegrationSchedule> schedules = material.getSchedules();
-
-        String refreshToken = material.getRefreshToken();
-        String accessToken = toAccessToken(refreshToken);
-
-        List<IntegrationSchedule> externalSchedules = toExternalSchedules(request, material, accessToken);
-        schedules.addAll(externalSchedules);
-
-        return new IntegrationScheduleResponses(material.getSubscriptions(), new TypedSchedules(schedules));
+    public CompletableFuture<IntegrationScheduleResponses> findMyCheckedSchedules(final Long memberId,
+                                                                                final DateRangeRequest request) {
+        return findMyTypedSchedules(memberId, request)
+                .thenApply(IntegrationScheduleResponses::new);
     }
 
-    private String toAccessToken(final String refreshToken) {
-        OAuthAccessTokenResponse oAuthToken = oAuthClient.getAccessToken(refreshToken);
-        return oAuthToken.getAccessToken();
-    }
+    // 응답 객체로 옮겨 담지 않고 정렬된 일정을 그대로 돌려주므로, 받은 쪽에서 바로 응답 본문에 쓸 수 있다.
+    public CompletableFuture<CheckedSchedules> findMyTypedSchedules(final Long memberId,
+                                                                    final DateRangeRequest request) {
+        MaterialToFindSchedules material = scheduleService.findMaterialByMemberId(memberId);
 
-    private List<IntegrationSchedule> toExternalSchedules(final DateRangeRequest request,
-                                                          final MaterialToFindSchedules material,
-                                                          final String accessToken) {
-        List<ExternalCategoryDetail> externalCategoryDetails = material.getExternalCategoryDetails();
-        if (externalCategoryDetails.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        return externalCategoryDetails.stream()
-                .map(externalCategoryDetail -> findExternalSchedules(request, accessToken, externalCategoryDetail))
-                .flatMap(Collection::stream)
-                .collect(Collectors.toList());
-    }
-
-    private List<IntegrationSchedule> findExternalSchedules(final DateRangeRequest request, final String accessToken,
-                                                            final ExternalCategoryDetail externalCategoryDetail) {
-        String startDateTime = request.getStartDateTime().format(DateTimeFormatter.ofPattern(DATE_FORMAT));
-        String endDateTime = request.getEndDateTime().format(DateTimeFormatter.ofPattern(DATE_FORMAT));
-
-        Category externalCategory = externalCategoryDetail.getCategory();
-        String externalId = externalCategoryDetail.getExternalId();
-
-        return externalCalendarClient.getExternalCalendarSchedules(
-                accessToken, externalCategory.getId(), externalId, startDateTime, endDateTime);
+        String refreshToken = material.getRefreshToken();
+        String accessToken = oAuthAccessTokenCache.getAccessToken(memberId, refreshToken);
+
+        // 외부 일정을 기다리는 동안 요청 스레드에서 내부 일정을 조회한다.
+        CompletableFuture<ExternalSchedules> externalSchedulesFuture = externalSchedulesFetcher.fetch(accessToken,
+                material.getExternalCategoryDetails(), request);
+        List<IntegrationSchedule> schedules = new ArrayList<>(
+                scheduleService.findInternalBySubscriptionsAndDateRange(material.getSubscriptions(), request));
+
+        return externalSchedulesFuture.thenApply(externalSchedules -> {
+            if (externalSchedules.isAccessTokenRejected()) {
+                oAuthAccessTokenCache.evict(memberId, accessToken);
+            }
+            schedules.addAll(externalSchedules.getSchedules());
+
+            return new CheckedSchedules(material.getSubscriptions(), new TypedSchedules(schedules),
+                    externalSchedules.getFailedCategoryIds());
+        });
     }
 }
@@ -0,0 +1,145 @@
+package com.allog.dallog.schedule.application;
+
+import com.allog.dallog.auth.exception.InvalidOAuthAccessTokenException;
+import com.allog.dallog.category.domain.ExternalCategoryDetail;
+import com.allog.dallog.externalcalendar.application.ExternalCalendarSyncStore;
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import com.allog.dallog.schedule.dto.ExternalSchedules;
+import com.allog.dallog.schedule.dto.request.DateRangeRequest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExternalSchedulesFetcher {
+
+    private static final Logger log = LoggerFactory.getLogger(ExternalSchedulesFetcher.class);
+
+    private final ExternalCalendarSyncStore externalCalendarSyncStore;
+    private final long timeoutInNanos;
+    private final DistributionSummary fanOutWidth;
+    private final Timer slowestLeg;
+
+    public ExternalSchedulesFetcher(final ExternalCalendarSyncStore externalCalendarSyncStore,
+                                    @Value("${external-calendar.fetch.timeout:3000}") final long timeoutInMilliseconds,
+                                    final MeterRegistry meterRegistry) {
+        this.externalCalendarSyncStore = externalCalendarSyncStore;
+        this.timeoutInNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMilliseconds);
+        this.fanOutWidth = DistributionSummary.builder("dallog.external-calendar.fan-out.width")
+                .description("한 번의 일정 조회에서 동시에 요청한 외부 캘린더 수")
+                .register(meterRegistry);
+        this.slowestLeg = Timer.builder("dallog.external-calendar.fan-out.slowest-leg")
+                .description("한 번의 일정 조회에서 가장 오래 걸린 외부 캘린더 요청 시간")
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<ExternalSchedules> fetch(final String accessToken,
+                                                      final List<ExternalCategoryDetail> externalCategoryDetails,
+                                                      final DateRangeRequest request) {
+        if (externalCategoryDetails.isEmpty()) {
+            return CompletableFuture.completedFuture(ExternalSchedules.empty());
+        }
+
+        LongAccumulator slowestLegInNanos = new LongAccumulator(Long::max, 0);
+        Map<Long, CompletableFuture<List<IntegrationSchedule>>> futures = requestAll(accessToken,
+                externalCategoryDetails, request, slowestLegInNanos);
+        fanOutWidth.record(futures.size());
+
+        AtomicBoolean accessTokenRejected = new AtomicBoolean();
+        Map<Long, CompletableFuture<List<IntegrationSchedule>>> legs = new LinkedHashMap<>();
+        futures.forEach((categoryId, future) -> legs.put(categoryId, future.handle((result, throwable) -> {
+            if (Objects.isNull(throwable)) {
+                return result;
+            }
+            Throwable cause = unwrap(throwable);
+            if (cause instanceof TimeoutException) {
+                log.warn("외부 일정 조회 시간이 초과되었습니다. (categoryId: {})", categoryId);
+                return null;
+            }
+            if (cause instanceof InvalidOAuthAccessTokenException) {
+                accessTokenRejected.set(true);
+            }
+            log.warn("외부 일정을 가져올 수 없습니다. (categoryId: {})", categoryId, cause);
+            return null;
+        })));
+
+        return CompletableFuture.allOf(legs.values().toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    slowestLeg.record(slowestLegInNanos.get(), TimeUnit.NANOSECONDS);
+                    return collect(legs, accessTokenRejected.get());
+                });
+    }
+
+    // 실패한 요청은 null로 끝나므로, 카테고리 순서대로 성공한 일정과 실패한 카테고리를 나눠 담는다.
+    private ExternalSchedules collect(final Map<Long, CompletableFuture<List<IntegrationSchedule>>> legs,
+                                      final boolean accessTokenRejected) {
+        List<IntegrationSchedule> schedules = new ArrayList<>();
+        List<Long> failedCategoryIds = new ArrayList<>();
+        for (Map.Entry<Long, CompletableFuture<List<IntegrationSchedule>>> entry : legs.entrySet()) {
+            List<IntegrationSchedule> result = entry.getValue().join();
+            if (Objects.isNull(result)) {
+                failedCategoryIds.add(entry.getKey());
+                continue;
+            }
+            schedules.addAll(result);
+        }
+        return new ExternalSchedules(schedules, failedCategoryIds, accessTokenRejected);
+    }
+
+    private Map<Long, CompletableFuture<List<IntegrationSchedule>>> requestAll(
+            final String accessToken, final List<ExternalCategoryDetail> externalCategoryDetails,
+            final DateRangeRequest request, final LongAccumulator slowestLegInNanos) {
+        LocalDateTime startDateTime = request.getStartDateTime();
+        LocalDateTime endDateTime = request.getEndDateTime();
+
+        Map<Long, CompletableFuture<List<IntegrationSchedule>>> futures = new LinkedHashMap<>();
+        for (ExternalCategoryDetail externalCategoryDetail : externalCategoryDetails) {
+            // 지연 로딩 프록시는 요청 스레드에서만 접근하도록 식별자를 미리 꺼내둔다.
+            Long categoryId = externalCategoryDetail.getCategory().getId();
+            String externalId = externalCategoryDetail.getExternalId();
+
+            long startedAt = System.nanoTime();
+            CompletableFuture<List<IntegrationSchedule>> future = request(accessToken, categoryId, externalId,
+                    startDateTime, endDateTime)
+                    .orTimeout(timeoutInNanos, TimeUnit.NANOSECONDS)
+                    .whenComplete((result, throwable) -> slowestLegInNanos.accumulate(System.nanoTime() - startedAt));
+            futures.put(categoryId, future);
+        }
+        return futures;
+    }
+
+    private CompletableFuture<List<IntegrationSchedule>> request(final String accessToken, final Long categoryId,
+                                                                 final String externalId,
+                                                                 final LocalDateTime startDateTime,
+                                                                 final LocalDateTime endDateTime) {
+        try {
+            return externalCalendarSyncStore.getSchedules(accessToken, categoryId, externalId, startDateTime,
+                    endDateTime);
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private Throwable unwrap(final Throwable throwable) {
+        if (throwable instanceof CompletionException && !Objects.isNull(throwable.getCause())) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+}
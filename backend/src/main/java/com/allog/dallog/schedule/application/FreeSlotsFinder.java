@@ -0,0 +1,139 @@
+package com.allog.dallog.schedule.application;
+
+import static com.allog.dallog.global.config.executor.ExecutorConfig.EXTERNAL_CALENDAR_EXECUTOR;
+
+import com.allog.dallog.auth.application.OAuthAccessTokenCache;
+import com.allog.dallog.category.domain.ExternalCategoryDetail;
+import com.allog.dallog.schedule.domain.Period;
+import com.allog.dallog.schedule.domain.scheduler.FreeSlotFinder;
+import com.allog.dallog.schedule.dto.ExternalSchedules;
+import com.allog.dallog.schedule.dto.MaterialToFindFreeSlots;
+import com.allog.dallog.schedule.dto.request.DateRangeRequest;
+import com.allog.dallog.schedule.dto.request.FreeSlotRequest;
+import com.allog.dallog.schedule.dto.response.FreeSlotsResponse;
+import com.allog.dallog.schedule.exception.InvalidScheduleException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 회원과 카테고리가 모두 비어 있는 시간을 찾는다.
+ *
+ * <p>요청한 회원이 구독하거나 역할을 가진 카테고리만 세며, 내부 일정은 참여자 전체의 카테고리를 모아 한 번에 시작 시각 순으로 읽는다.
+ * 외부 일정은 요청한 회원이 만든 외부 카테고리만 그 회원의 토큰으로 읽고, 읽지 못한 카테고리는 빼고 계산한 뒤 응답에 알린다.
+ */
+@Component
+public class FreeSlotsFinder {
+
+    private static final Logger log = LoggerFactory.getLogger(FreeSlotsFinder.class);
+
+    private final ScheduleService scheduleService;
+    private final OAuthAccessTokenCache oAuthAccessTokenCache;
+    private final ExternalSchedulesFetcher externalSchedulesFetcher;
+    private final Executor executor;
+    private final int maxParticipants;
+    private final Duration maxRange;
+
+    public FreeSlotsFinder(final ScheduleService scheduleService,
+                           final OAuthAccessTokenCache oAuthAccessTokenCache,
+                           final ExternalSchedulesFetcher externalSchedulesFetcher,
+                           @Qualifier(EXTERNAL_CALENDAR_EXECUTOR) final Executor executor,
+                           @Value("${free-slot.max-participants:100}") final int maxParticipants,
+                           @Value("${free-slot.max-range-days:93}") final long maxRangeInDays) {
+        this.scheduleService = scheduleService;
+        this.oAuthAccessTokenCache = oAuthAccessTokenCache;
+        this.externalSchedulesFetcher = externalSchedulesFetcher;
+        this.executor = executor;
+        this.maxParticipants = maxParticipants;
+        this.maxRange = Duration.ofDays(maxRangeInDays);
+    }
+
+    public CompletableFuture<FreeSlotsResponse> findFreeSlots(final Long memberId, final FreeSlotRequest request) {
+        Set<Long> memberIds = new LinkedHashSet<>(request.getMemberIds());
+        memberIds.add(memberId);
+        validateParticipants(memberIds.size() + request.getCategoryIds().size());
+        DateRangeRequest dateRange = request.getDateRange();
+        validateRange(dateRange);
+
+        FreeSlotFinder freeSlotFinder = new FreeSlotFinder(request.toWorkingHours(), request.getMinimumDuration());
+        MaterialToFindFreeSlots material = scheduleService.findMaterialToFindFreeSlots(memberId,
+                new ArrayList<>(memberIds), request.getCategoryIds(), dateRange);
+
+        return fetchExternalSchedules(memberId, material.getRefreshToken(), material.getExternalCategoryDetails(),
+                dateRange)
+                .thenApply(externalSchedules -> {
+                    List<Period> freeSlots = freeSlotFinder.find(
+                            List.of(material.getInternalSchedules(), externalSchedules.getSchedules()),
+                            dateRange.getStartDateTime(), dateRange.getEndDateTime());
+                    return new FreeSlotsResponse(freeSlots, externalSchedules.getFailedCategoryIds());
+                });
+    }
+
+    private void validateParticipants(final int participants) {
+        if (participants > maxParticipants) {
+            throw new InvalidScheduleException("빈 시간은 최대 " + maxParticipants + "명(개)까지 함께 찾을 수 있습니다.");
+        }
+    }
+
+    private void validateRange(final DateRangeRequest dateRange) {
+        Duration range = Duration.between(dateRange.getStartDateTime(), dateRange.getEndDateTime());
+        if (range.isNegative() || range.isZero()) {
+            throw new InvalidScheduleException("조회 시작 일시는 조회 종료 일시보다 이전이어야 합니다.");
+        }
+        if (range.compareTo(maxRange) > 0) {
+            throw new InvalidScheduleException("빈 시간은 최대 " + maxRange.toDays() + "일 범위에서 찾을 수 있습니다.");
+        }
+    }
+
+    // 토큰 재발급은 요청 스레드를 붙잡지 않도록 외부 캘린더 스레드에서 하고, 실패하면 외부 카테고리만 빼고 계산한다.
+    private CompletableFuture<ExternalSchedules> fetchExternalSchedules(final Long memberId, final String refreshToken,
+                                                                        final List<ExternalCategoryDetail> details,
+                                                                        final DateRangeRequest dateRange) {
+        if (details.isEmpty()) {
+            return CompletableFuture.completedFuture(ExternalSchedules.empty());
+        }
+        List<Long> categoryIds = details.stream()
+                .map(detail -> detail.getCategory().getId())
+                .collect(Collectors.toList());
+        if (Objects.isNull(refreshToken)) {
+            return CompletableFuture.completedFuture(new ExternalSchedules(List.of(), categoryIds, false));
+        }
+
+        CompletableFuture<String> issuingAccessToken;
+        try {
+            issuingAccessToken = CompletableFuture.supplyAsync(
+                    () -> oAuthAccessTokenCache.getAccessToken(memberId, refreshToken), executor);
+        } catch (final RejectedExecutionException e) {
+            log.warn("토큰 재발급 작업이 거절되어 외부 일정을 빈 시간 계산에서 제외합니다. (memberId: {})", memberId);
+            return CompletableFuture.completedFuture(new ExternalSchedules(List.of(), categoryIds, false));
+        }
+
+        return issuingAccessToken
+                .thenCompose(accessToken -> externalSchedulesFetcher.fetch(accessToken, details, dateRange)
+                        .thenApply(externalSchedules -> {
+                            if (externalSchedules.isAccessTokenRejected()) {
+                                oAuthAccessTokenCache.evict(memberId, accessToken);
+                            }
+                            return externalSchedules;
+                        }))
+                .handle((externalSchedules, throwable) -> {
+                    if (Objects.isNull(throwable)) {
+                        return externalSchedules;
+                    }
+                    log.warn("외부 일정을 가져올 수 없어 빈 시간 계산에서 제외합니다. (memberId: {})", memberId, throwable);
+                    return new ExternalSchedules(List.of(), categoryIds, false);
+                });
+    }
+}
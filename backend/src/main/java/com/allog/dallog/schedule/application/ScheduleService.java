@@ -2,17 +2,22 @@ package com.allog.dallog.schedule.application;
 
 import com.allog.dallog.auth.domain.OAuthToken;
 import com.allog.dallog.auth.domain.OAuthTokenRepository;
+import com.allog.dallog.auth.exception.NoPermissionException;
 import com.allog.dallog.categoryrole.domain.CategoryAuthority;
 import com.allog.dallog.category.domain.Category;
 import com.allog.dallog.category.domain.CategoryRepository;
 import com.allog.dallog.category.domain.ExternalCategoryDetail;
 import com.allog.dallog.category.domain.ExternalCategoryDetailRepository;
+import com.allog.dallog.category.exception.NoSuchCategoryException;
 import com.allog.dallog.categoryrole.domain.CategoryRole;
 import com.allog.dallog.categoryrole.domain.CategoryRoleRepository;
+import com.allog.dallog.member.domain.MemberRepository;
+import com.allog.dallog.member.exception.NoSuchMemberException;
 import com.allog.dallog.schedule.domain.IntegrationSchedule;
 import com.allog.dallog.schedule.domain.Schedule;
 import com.allog.dallog.schedule.domain.ScheduleRepository;
 import com.allog.dallog.schedule.domain.TypedSchedules;
+import com.allog.dallog.schedule.dto.MaterialToFindFreeSlots;
 import com.allog.dallog.schedule.dto.MaterialToFindSchedules;
 import com.allog.dallog.schedule.dto.request.DateRangeRequest;
 import com.allog.dallog.schedule.dto.request.ScheduleCreateRequest;
@@ -21,10 +26,17 @@ import com.allog.dallog.schedule.dto.response.IntegrationScheduleResponses;
 import com.allog.dallog.schedule.dto.response.ScheduleResponse;
 import com.allog.dallog.subscription.application.ColorPicker;
 import com.allog.dallog.subscription.domain.Color;
+import com.allog.dallog.subscription.domain.Subscription;
 import com.allog.dallog.subscription.domain.SubscriptionRepository;
 import com.allog.dallog.subscription.domain.Subscriptions;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +50,7 @@ public class ScheduleService {
     private final SubscriptionRepository subscriptionRepository;
     private final OAuthTokenRepository oAuthTokenRepository;
     private final ExternalCategoryDetailRepository externalCategoryDetailRepository;
+    private final MemberRepository memberRepository;
     private final ColorPicker colorPicker;
 
     public ScheduleService(final ScheduleRepository scheduleRepository, final CategoryRepository categoryRepository,
@@ -45,13 +58,14 @@ public class ScheduleService {
                            final SubscriptionRepository subscriptionRepository,
                            final OAuthTokenRepository oAuthTokenRepository,
                            final ExternalCategoryDetailRepository externalCategoryDetailRepository,
-                           final ColorPicker colorPicker) {
+                           final MemberRepository memberRepository, final ColorPicker colorPicker) {
         this.scheduleRepository = scheduleRepository;
         this.categoryRepository = categoryRepository;
         this.categoryRoleRepository = categoryRoleRepository;
         this.subscriptionRepository = subscriptionRepository;
         this.oAuthTokenRepository = oAuthTokenRepository;
         this.externalCategoryDetailRepository = externalCategoryDetailRepository;
+        this.memberRepository = memberRepository;
         this.colorPicker = colorPicker;
     }
 
@@ -74,16 +88,127 @@ public class ScheduleService {
 
     public MaterialToFindSchedules findInternalByMemberIdAndDateRange(final Long memberId,
                                                                       final DateRangeRequest request) {
+        MaterialToFindSchedules material = findMaterialByMemberId(memberId);
+        List<IntegrationSchedule> schedules = findInternalBySubscriptionsAndDateRange(material.getSubscriptions(),
+                request);
+
+        return new MaterialToFindSchedules(material.getSubscriptions(), schedules, material.getRefreshToken(),
+                material.getExternalCategoryDetails());
+    }
+
+    public MaterialToFindSchedules findMaterialByMemberId(final Long memberId) {
         Subscriptions subscriptions = new Subscriptions(subscriptionRepository.findByMemberId(memberId));
+        String refreshToken = toRefreshToken(memberId);
+        List<ExternalCategoryDetail> externalCategoryDetails = toCategoryDetails(subscriptions);
+
+        return new MaterialToFindSchedules(subscriptions, refreshToken, externalCategoryDetails);
+    }
+
+    public List<IntegrationSchedule> findInternalBySubscriptionsAndDateRange(final Subscriptions subscriptions,
+                                                                            final DateRangeRequest request) {
         List<Category> categories = subscriptions.findInternalCategory();
         LocalDateTime startDateTime = request.getStartDateTime();
         LocalDateTime endDateTime = request.getEndDateTime();
-        List<IntegrationSchedule> schedules = toIntegrationSchedules(categories, startDateTime, endDateTime);
+        return toIntegrationSchedules(categories, startDateTime, endDateTime);
+    }
 
-        String refreshToken = toRefreshToken(memberId);
-        List<ExternalCategoryDetail> externalCategoryDetails = toCategoryDetails(subscriptions);
+    // 여러 회원이 같은 카테고리를 구독해도 빈 시간 계산에는 한 번만 있으면 되므로, 카테고리를 모은 뒤 한 번에 조회한다.
+    // 요청한 회원이 구독하거나 역할을 가진 카테고리만 세므로, 외부 카테고리는 모두 요청한 회원의 것이고 그 회원의 토큰으로만 읽는다.
+    public MaterialToFindFreeSlots findMaterialToFindFreeSlots(final Long memberId, final List<Long> memberIds,
+                                                               final List<Long> categoryIds,
+                                                               final DateRangeRequest request) {
+        Map<Long, Category> sharedCategories = findSharedCategories(memberId);
+
+        Map<Long, Category> categories = new LinkedHashMap<>();
+        for (Category category : findCheckedCategories(memberId, memberIds, sharedCategories)) {
+            categories.putIfAbsent(category.getId(), category);
+        }
+        for (Category category : findCategories(categoryIds, sharedCategories)) {
+            categories.putIfAbsent(category.getId(), category);
+        }
+
+        List<Category> internalCategories = new ArrayList<>();
+        List<Category> externalCategories = new ArrayList<>();
+        for (Category category : categories.values()) {
+            if (category.isExternal()) {
+                externalCategories.add(category);
+                continue;
+            }
+            internalCategories.add(category);
+        }
+
+        List<IntegrationSchedule> internalSchedules = scheduleRepository.getSortedByCategoriesAndBetween(
+                internalCategories, request.getStartDateTime(), request.getEndDateTime());
+        if (externalCategories.isEmpty()) {
+            return new MaterialToFindFreeSlots(internalSchedules, null, List.of());
+        }
+
+        String refreshToken = oAuthTokenRepository.findByMemberId(memberId)
+                .map(OAuthToken::getRefreshToken)
+                .orElse(null);
+        return new MaterialToFindFreeSlots(internalSchedules, refreshToken,
+                externalCategoryDetailRepository.findByCategoryIn(externalCategories));
+    }
+
+    // 다른 회원의 개인 카테고리와 외부 카테고리는 구독하거나 역할을 가졌더라도 함께 세지 않는다.
+    private Map<Long, Category> findSharedCategories(final Long memberId) {
+        Map<Long, Category> sharedCategories = new LinkedHashMap<>();
+        for (Subscription subscription : subscriptionRepository.findByMemberId(memberId)) {
+            putIfShared(sharedCategories, subscription.getCategory(), memberId);
+        }
+        for (CategoryRole categoryRole : categoryRoleRepository.findByMemberId(memberId)) {
+            putIfShared(sharedCategories, categoryRole.getCategory(), memberId);
+        }
+        return sharedCategories;
+    }
+
+    private void putIfShared(final Map<Long, Category> sharedCategories, final Category category,
+                             final Long memberId) {
+        if (category.isNormal() || category.isCreatorId(memberId)) {
+            sharedCategories.putIfAbsent(category.getId(), category);
+        }
+    }
+
+    private List<Category> findCheckedCategories(final Long memberId, final List<Long> memberIds,
+                                                 final Map<Long, Category> sharedCategories) {
+        Set<Long> distinctMemberIds = new LinkedHashSet<>(memberIds);
+        distinctMemberIds.add(memberId);
+        if (memberRepository.findAllById(distinctMemberIds).size() != distinctMemberIds.size()) {
+            throw new NoSuchMemberException();
+        }
+
+        Set<Long> sharingMemberIds = new HashSet<>();
+        sharingMemberIds.add(memberId);
+        List<Category> categories = new ArrayList<>();
+        for (Subscription subscription : subscriptionRepository.findByMemberIdIn(
+                new ArrayList<>(distinctMemberIds))) {
+            if (!sharedCategories.containsKey(subscription.getCategory().getId())) {
+                continue;
+            }
+            sharingMemberIds.add(subscription.getMember().getId());
+            if (subscription.isChecked()) {
+                categories.add(subscription.getCategory());
+            }
+        }
+
+        if (!sharingMemberIds.containsAll(distinctMemberIds)) {
+            throw new NoPermissionException("함께 구독하는 카테고리가 없는 회원과는 빈 시간을 찾을 수 없습니다.");
+        }
+        return categories;
+    }
 
-        return new MaterialToFindSchedules(subscriptions, schedules, refreshToken, externalCategoryDetails);
+    private List<Category> findCategories(final List<Long> categoryIds, final Map<Long, Category> sharedCategories) {
+        List<Long> distinctCategoryIds = new ArrayList<>(new LinkedHashSet<>(categoryIds));
+        List<Category> categories = categoryRepository.findAllById(distinctCategoryIds);
+        if (categories.size() != distinctCategoryIds.size()) {
+            throw new NoSuchCategoryException();
+        }
+        for (Category category : categories) {
+            if (!sharedCategories.containsKey(category.getId())) {
+                throw new NoPermissionException("구독하거나 역할을 가진 카테고리로만 빈 시간을 찾을 수 있습니다.");
+            }
+        }
+        return categories;
     }
 
     private String toRefreshToken(final Long memberId) {
@@ -7,8 +7,6 @@ import java.util.Objects;
 
 public class IntegrationSchedule {
 
-    private static final int ONE_DAY = 1;
-
     private final String id;
     private final Long categoryId;
     private final String title;
@@ -43,22 +41,23 @@ public class IntegrationSchedule {
     }
 
     public boolean isLongTerms() {
-        return !isAllDays()
-                && period.calculateDayDifference() >= ONE_DAY;
+        return ScheduleType.from(this) == ScheduleType.LONG_TERMS;
     }
 
     public boolean isAllDays() {
-        return period.calculateDayDifference() == ONE_DAY
-                && period.isMidnightToMidnight();
+        return ScheduleType.from(this) == ScheduleType.ALL_DAYS;
     }
 
     public boolean isFewHours() {
-        return period.calculateDayDifference() < ONE_DAY;
+        return ScheduleType.from(this) == ScheduleType.FEW_HOURS;
     }
 
-    public boolean isSameCategory(final Category category) {
-        Long categoryId = category.getId();
-        return this.categoryId.equals(categoryId);
+    // 외부 캘린더의 timeMin, timeMax와 같은 기준으로 구간에 겹치는지 판단한다.
+    public boolean isOverlapped(final LocalDateTime startDateTime, final LocalDateTime endDateTime) {
+        LocalDateTime scheduleStartDateTime = period.getStartDateTime();
+        LocalDateTime scheduleEndDateTime = period.getEndDateTime();
+        return scheduleStartDateTime.isBefore(endDateTime)
+                && (scheduleEndDateTime.isAfter(startDateTime) || scheduleStartDateTime.equals(startDateTime));
     }
 
     public String getId() {
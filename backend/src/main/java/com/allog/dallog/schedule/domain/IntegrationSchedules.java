@@ -1,6 +1,7 @@
 package com.allog.dallog.schedule.domain;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class IntegrationSchedules {
@@ -8,17 +9,27 @@ public class IntegrationSchedules {
     private static final IntegrationScheduleComparator COMPARATOR = new IntegrationScheduleComparator();
 
     private final List<IntegrationSchedule> values;
+    private boolean sorted;
 
     public IntegrationSchedules() {
-        this.values = new ArrayList<>();
+        this(0);
+    }
+
+    public IntegrationSchedules(final int expectedSize) {
+        this.values = new ArrayList<>(expectedSize);
     }
 
     public void add(final IntegrationSchedule integrationSchedule) {
         values.add(integrationSchedule);
+        sorted = false;
     }
 
+    // 한 번 정렬한 뒤에는 다시 정렬하지 않고, 복사하지 않은 읽기 전용 목록을 돌려준다.
     public List<IntegrationSchedule> getSortedValues() {
-        values.sort(COMPARATOR);
-        return List.copyOf(values);
+        if (!sorted) {
+            values.sort(COMPARATOR);
+            sorted = true;
+        }
+        return Collections.unmodifiableList(values);
     }
 }
@@ -21,14 +21,14 @@ public class Period {
     }
 
     public long calculateDayDifference() {
-        LocalDate startDate = LocalDate.from(startDateTime);
-        LocalDate endDate = LocalDate.from(endDateTime);
+        LocalDate startDate = startDateTime.toLocalDate();
+        LocalDate endDate = endDateTime.toLocalDate();
         return ChronoUnit.DAYS.between(startDate, endDate);
     }
 
     public boolean isMidnightToMidnight() {
-        LocalTime startTime = LocalTime.from(startDateTime);
-        LocalTime endTime = LocalTime.from(endDateTime);
+        LocalTime startTime = startDateTime.toLocalTime();
+        LocalTime endTime = endDateTime.toLocalTime();
         return startTime.equals(MIDNIGHT) && endTime.equals(MIDNIGHT);
     }
 
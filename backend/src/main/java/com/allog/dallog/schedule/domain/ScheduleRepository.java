@@ -22,6 +22,17 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     List<Schedule> findByCategoriesAndBetween(final List<Category> categories, final LocalDateTime startDate,
                                               final LocalDateTime endDate);
 
+    @Query("SELECT s "
+            + "FROM Schedule s "
+            + "JOIN s.category c "
+            + "WHERE c IN :categories "
+            + "AND s.startDateTime <= :endDate "
+            + "AND s.endDateTime >= :startDate "
+            + "ORDER BY s.startDateTime")
+    List<Schedule> findByCategoriesAndBetweenOrderByStartDateTime(final List<Category> categories,
+                                                                  final LocalDateTime startDate,
+                                                                  final LocalDateTime endDate);
+
     default Schedule getById(final Long id) {
         return this.findById(id)
                 .orElseThrow(NoSuchScheduleException::new);
@@ -39,4 +50,18 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
                 .map(IntegrationSchedule::new)
                 .collect(Collectors.toList());
     }
+
+    default List<IntegrationSchedule> getSortedByCategoriesAndBetween(final List<Category> categories,
+                                                                      final LocalDateTime startDateTime,
+                                                                      final LocalDateTime endDateTime) {
+        if (categories.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Schedule> schedules = findByCategoriesAndBetweenOrderByStartDateTime(categories, startDateTime,
+                endDateTime);
+        return schedules.stream()
+                .map(IntegrationSchedule::new)
+                .collect(Collectors.toList());
+    }
 }
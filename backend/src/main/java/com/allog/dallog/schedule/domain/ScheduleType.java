@@ -1,27 +1,30 @@
 package com.allog.dallog.schedule.domain;
 
-import java.util.Arrays;
-import java.util.function.Predicate;
-
 public enum ScheduleType {
 
-    LONG_TERMS("longTerms", IntegrationSchedule::isLongTerms),
-    ALL_DAYS("allDays", IntegrationSchedule::isAllDays),
-    FEW_HOURS("fewHours", IntegrationSchedule::isFewHours);
+    LONG_TERMS("longTerms"),
+    ALL_DAYS("allDays"),
+    FEW_HOURS("fewHours");
+
+    private static final int ONE_DAY = 1;
 
     private final String name;
-    private final Predicate<IntegrationSchedule> isMatch;
 
-    ScheduleType(final String name, final Predicate<IntegrationSchedule> isMatch) {
+    ScheduleType(final String name) {
         this.name = name;
-        this.isMatch = isMatch;
     }
 
+    // 날짜 차이와 자정 여부를 한 번씩만 계산해 분류한다.
     public static ScheduleType from(final IntegrationSchedule integrationSchedule) {
-        return Arrays.stream(values())
-                .filter(type -> type.isMatch.test(integrationSchedule))
-                .findAny()
-                .orElseThrow(() -> new IllegalArgumentException("일치하는 일정 종류가 존재하지 않습니다."));
+        Period period = integrationSchedule.getPeriod();
+        long dayDifference = period.calculateDayDifference();
+        if (dayDifference < ONE_DAY) {
+            return FEW_HOURS;
+        }
+        if (dayDifference == ONE_DAY && period.isMidnightToMidnight()) {
+            return ALL_DAYS;
+        }
+        return LONG_TERMS;
     }
 
     public String getName() {
@@ -1,26 +1,34 @@
 package com.allog.dallog.schedule.domain;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
 public class TypedSchedules {
 
-    private Map<ScheduleType, IntegrationSchedules> values;
+    private static final ScheduleType[] SCHEDULE_TYPES = ScheduleType.values();
 
+    private final Map<ScheduleType, IntegrationSchedules> values = new EnumMap<>(ScheduleType.class);
+
+    // 일정마다 종류를 한 번만 구해 두고, 종류별 개수만큼 미리 잡은 목록에 나눠 담는다.
     public TypedSchedules(final List<IntegrationSchedule> integrationSchedules) {
-        initializeValues();
+        ScheduleType[] scheduleTypes = new ScheduleType[integrationSchedules.size()];
+        int[] counts = new int[SCHEDULE_TYPES.length];
+
+        int index = 0;
         for (IntegrationSchedule integrationSchedule : integrationSchedules) {
             ScheduleType scheduleType = ScheduleType.from(integrationSchedule);
-            IntegrationSchedules schedules = values.get(scheduleType);
-            schedules.add(integrationSchedule);
+            scheduleTypes[index++] = scheduleType;
+            counts[scheduleType.ordinal()]++;
         }
-    }
 
-    private void initializeValues() {
-        this.values = new HashMap<>();
-        for (ScheduleType type : ScheduleType.values()) {
-            values.put(type, new IntegrationSchedules());
+        for (ScheduleType scheduleType : SCHEDULE_TYPES) {
+            values.put(scheduleType, new IntegrationSchedules(counts[scheduleType.ordinal()]));
+        }
+
+        index = 0;
+        for (IntegrationSchedule integrationSchedule : integrationSchedules) {
+            values.get(scheduleTypes[index++]).add(integrationSchedule);
         }
     }
 
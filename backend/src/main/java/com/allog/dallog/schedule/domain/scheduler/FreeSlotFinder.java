@@ -0,0 +1,139 @@
+package com.allog.dallog.schedule.domain.scheduler;
+
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import com.allog.dallog.schedule.domain.Period;
+import com.allog.dallog.schedule.exception.InvalidScheduleException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * 여러 참여자의 일정 목록에서 모두가 비어 있는 시간을 찾는다.
+ *
+ * <p>참여자별 목록은 시작 시각 순으로 정렬해 두고, 각 목록의 맨 앞 일정만 힙에 올려 k개의 목록을 한 줄로 합치며 훑는다. 전체를 다시
+ * 정렬하지 않으므로 일정이 n개, 참여자가 k명이면 O(n log k)에 끝난다.
+ */
+public class FreeSlotFinder {
+
+    private static final Comparator<IntegrationSchedule> START_DATE_TIME_ORDER = Comparator.comparing(
+            IntegrationSchedule::getStartDateTime);
+
+    private final WorkingHours workingHours;
+    private final Duration minimumDuration;
+
+    public FreeSlotFinder(final WorkingHours workingHours, final Duration minimumDuration) {
+        validateMinimumDuration(minimumDuration);
+        this.workingHours = workingHours;
+        this.minimumDuration = minimumDuration;
+    }
+
+    private void validateMinimumDuration(final Duration minimumDuration) {
+        if (minimumDuration.isNegative() || minimumDuration.isZero()) {
+            throw new InvalidScheduleException("최소 시간은 0보다 커야 합니다.");
+        }
+    }
+
+    public List<Period> find(final List<List<IntegrationSchedule>> participantSchedules,
+                             final LocalDateTime startDateTime, final LocalDateTime endDateTime) {
+        List<Period> freePeriods = Scheduler.sweep(new MergedBusyPeriods(toSortedSchedules(participantSchedules)),
+                startDateTime, endDateTime);
+
+        List<Period> slots = new ArrayList<>();
+        for (Period freePeriod : freePeriods) {
+            for (Period slot : workingHours.clip(freePeriod)) {
+                if (isLongEnough(slot)) {
+                    slots.add(slot);
+                }
+            }
+        }
+        return slots;
+    }
+
+    // 이미 정렬된 목록은 그대로 쓰고, 그렇지 않은 목록만 복사해 정렬한다.
+    private List<List<IntegrationSchedule>> toSortedSchedules(
+            final List<List<IntegrationSchedule>> participantSchedules) {
+        List<List<IntegrationSchedule>> sortedSchedules = new ArrayList<>(participantSchedules.size());
+        for (List<IntegrationSchedule> schedules : participantSchedules) {
+            if (isSorted(schedules)) {
+                sortedSchedules.add(schedules);
+                continue;
+            }
+            List<IntegrationSchedule> copied = new ArrayList<>(schedules);
+            copied.sort(START_DATE_TIME_ORDER);
+            sortedSchedules.add(copied);
+        }
+        return sortedSchedules;
+    }
+
+    private boolean isSorted(final List<IntegrationSchedule> schedules) {
+        for (int i = 1; i < schedules.size(); i++) {
+            if (START_DATE_TIME_ORDER.compare(schedules.get(i - 1), schedules.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isLongEnough(final Period period) {
+        Duration duration = Duration.between(period.getStartDateTime(), period.getEndDateTime());
+        return duration.compareTo(minimumDuration) >= 0;
+    }
+
+    private static class MergedBusyPeriods implements Iterator<Period> {
+
+        private final PriorityQueue<Cursor> cursors;
+
+        private MergedBusyPeriods(final List<List<IntegrationSchedule>> sortedSchedules) {
+            this.cursors = new PriorityQueue<>(Math.max(1, sortedSchedules.size()),
+                    Comparator.comparing(Cursor::current, START_DATE_TIME_ORDER));
+            for (List<IntegrationSchedule> schedules : sortedSchedules) {
+                if (!schedules.isEmpty()) {
+                    cursors.add(new Cursor(schedules));
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !cursors.isEmpty();
+        }
+
+        @Override
+        public Period next() {
+            Cursor cursor = cursors.poll();
+            if (cursor == null) {
+                throw new NoSuchElementException();
+            }
+
+            IntegrationSchedule schedule = cursor.current();
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+            return schedule.getPeriod();
+        }
+    }
+
+    private static class Cursor {
+
+        private final List<IntegrationSchedule> schedules;
+        private int index;
+
+        private Cursor(final List<IntegrationSchedule> schedules) {
+            this.schedules = schedules;
+        }
+
+        private IntegrationSchedule current() {
+            return schedules.get(index);
+        }
+
+        private boolean advance() {
+            index++;
+            return index < schedules.size();
+        }
+    }
+}
@@ -4,10 +4,14 @@ import com.allog.dallog.schedule.domain.IntegrationSchedule;
 import com.allog.dallog.schedule.domain.Period;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 
 public class Scheduler {
 
+    private static final Comparator<Period> START_DATE_TIME_ORDER = Comparator.comparing(Period::getStartDateTime);
+
     private final List<IntegrationSchedule> schedules;
     private final LocalDateTime startDateTime;
     private final LocalDateTime endDateTime;
@@ -20,21 +24,41 @@ public class Scheduler {
     }
 
     public List<Period> getPeriods() {
+        return sweep(sortedBusyPeriods().iterator(), startDateTime, endDateTime);
+    }
+
+    // 일정을 시작 시각 순으로 한 번 훑으며, 지금까지 채워진 구간의 끝(cursor)과 다음 일정의 시작 사이를 빈 기간으로 모은다.
+    static List<Period> sweep(final Iterator<Period> sortedBusyPeriods, final LocalDateTime startDateTime,
+                              final LocalDateTime endDateTime) {
         List<Period> periods = new ArrayList<>();
-        Period initialBasePeriod = new Period(startDateTime, endDateTime);
-        periods.add(initialBasePeriod);
+        LocalDateTime cursor = startDateTime;
 
-        for (IntegrationSchedule schedule : schedules) {
-            slicePeriod(periods, schedule);
+        while (sortedBusyPeriods.hasNext()) {
+            Period busyPeriod = sortedBusyPeriods.next();
+            LocalDateTime busyStartDateTime = busyPeriod.getStartDateTime();
+            if (!busyStartDateTime.isBefore(endDateTime)) {
+                break;
+            }
+            if (cursor.isBefore(busyStartDateTime)) {
+                periods.add(new Period(cursor, busyStartDateTime));
+            }
+            if (cursor.isBefore(busyPeriod.getEndDateTime())) {
+                cursor = busyPeriod.getEndDateTime();
+            }
         }
 
+        if (cursor.isBefore(endDateTime)) {
+            periods.add(new Period(cursor, endDateTime));
+        }
         return periods;
     }
 
-    private void slicePeriod(final List<Period> periods, final IntegrationSchedule schedule) {
-        for (Period period : List.copyOf(periods)) {
-            periods.remove(period);
-            periods.addAll(period.slice(schedule.getPeriod()));
+    private List<Period> sortedBusyPeriods() {
+        List<Period> busyPeriods = new ArrayList<>(schedules.size());
+        for (IntegrationSchedule schedule : schedules) {
+            busyPeriods.add(schedule.getPeriod());
         }
+        busyPeriods.sort(START_DATE_TIME_ORDER);
+        return busyPeriods;
     }
 }
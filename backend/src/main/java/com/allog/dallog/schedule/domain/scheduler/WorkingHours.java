@@ -0,0 +1,73 @@
+package com.allog.dallog.schedule.domain.scheduler;
+
+import static java.time.LocalTime.MIDNIGHT;
+
+import com.allog.dallog.schedule.domain.Period;
+import com.allog.dallog.schedule.exception.InvalidScheduleException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class WorkingHours {
+
+    private static final WorkingHours ALL_DAY = new WorkingHours();
+
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    private WorkingHours() {
+        this.startTime = MIDNIGHT;
+        this.endTime = MIDNIGHT;
+    }
+
+    public WorkingHours(final LocalTime startTime, final LocalTime endTime) {
+        validateTimes(startTime, endTime);
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public static WorkingHours allDay() {
+        return ALL_DAY;
+    }
+
+    private void validateTimes(final LocalTime startTime, final LocalTime endTime) {
+        if (!startTime.isBefore(endTime)) {
+            throw new InvalidScheduleException("근무 시작 시각은 근무 종료 시각보다 이전이어야 합니다.");
+        }
+    }
+
+    // 기간이 걸친 날마다 근무 시간과 겹치는 부분만 남긴다.
+    public List<Period> clip(final Period period) {
+        if (this == ALL_DAY) {
+            return List.of(period);
+        }
+
+        List<Period> periods = new ArrayList<>();
+        LocalDate lastDate = period.getEndDateTime().toLocalDate();
+        for (LocalDate date = period.getStartDateTime().toLocalDate(); !date.isAfter(lastDate);
+             date = date.plusDays(1)) {
+            LocalDateTime startDateTime = latest(period.getStartDateTime(), date.atTime(startTime));
+            LocalDateTime endDateTime = earliest(period.getEndDateTime(), date.atTime(endTime));
+            if (startDateTime.isBefore(endDateTime)) {
+                periods.add(new Period(startDateTime, endDateTime));
+            }
+        }
+        return periods;
+    }
+
+    private LocalDateTime latest(final LocalDateTime dateTime, final LocalDateTime otherDateTime) {
+        if (dateTime.isAfter(otherDateTime)) {
+            return dateTime;
+        }
+        return otherDateTime;
+    }
+
+    private LocalDateTime earliest(final LocalDateTime dateTime, final LocalDateTime otherDateTime) {
+        if (dateTime.isBefore(otherDateTime)) {
+            return dateTime;
+        }
+        return otherDateTime;
+    }
+}
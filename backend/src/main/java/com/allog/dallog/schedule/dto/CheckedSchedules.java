@@ -0,0 +1,43 @@
+package com.allog.dallog.schedule.dto;
+
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import com.allog.dallog.schedule.domain.ScheduleType;
+import com.allog.dallog.schedule.domain.TypedSchedules;
+import com.allog.dallog.subscription.domain.Color;
+import com.allog.dallog.subscription.domain.Subscriptions;
+import java.util.List;
+
+public class CheckedSchedules {
+
+    private final Subscriptions subscriptions;
+    private final TypedSchedules typedSchedules;
+    private final List<Long> failedExternalCategoryIds;
+
+    public CheckedSchedules(final Subscriptions subscriptions, final TypedSchedules typedSchedules,
+                            final List<Long> failedExternalCategoryIds) {
+        this.subscriptions = subscriptions;
+        this.typedSchedules = typedSchedules;
+        this.failedExternalCategoryIds = List.copyOf(failedExternalCategoryIds);
+    }
+
+    public List<IntegrationSchedule> getSortedSchedules(final ScheduleType scheduleType) {
+        return typedSchedules.getSortedSchedules(scheduleType)
+                .getSortedValues();
+    }
+
+    public Color findColor(final IntegrationSchedule schedule) {
+        return subscriptions.findColor(schedule);
+    }
+
+    public Subscriptions getSubscriptions() {
+        return subscriptions;
+    }
+
+    public TypedSchedules getTypedSchedules() {
+        return typedSchedules;
+    }
+
+    public List<Long> getFailedExternalCategoryIds() {
+        return failedExternalCategoryIds;
+    }
+}
@@ -0,0 +1,35 @@
+package com.allog.dallog.schedule.dto;
+
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ExternalSchedules {
+
+    private final List<IntegrationSchedule> schedules;
+    private final List<Long> failedCategoryIds;
+    private final boolean accessTokenRejected;
+
+    public ExternalSchedules(final List<IntegrationSchedule> schedules, final List<Long> failedCategoryIds,
+                             final boolean accessTokenRejected) {
+        this.schedules = new ArrayList<>(schedules);
+        this.failedCategoryIds = new ArrayList<>(failedCategoryIds);
+        this.accessTokenRejected = accessTokenRejected;
+    }
+
+    public static ExternalSchedules empty() {
+        return new ExternalSchedules(List.of(), List.of(), false);
+    }
+
+    public List<IntegrationSchedule> getSchedules() {
+        return schedules;
+    }
+
+    public List<Long> getFailedCategoryIds() {
+        return failedCategoryIds;
+    }
+
+    public boolean isAccessTokenRejected() {
+        return accessTokenRejected;
+    }
+}
@@ -0,0 +1,32 @@
+package com.allog.dallog.schedule.dto;
+
+import com.allog.dallog.category.domain.ExternalCategoryDetail;
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MaterialToFindFreeSlots {
+
+    private final List<IntegrationSchedule> internalSchedules;
+    private final String refreshToken;
+    private final List<ExternalCategoryDetail> externalCategoryDetails;
+
+    public MaterialToFindFreeSlots(final List<IntegrationSchedule> internalSchedules, final String refreshToken,
+                                   final List<ExternalCategoryDetail> externalCategoryDetails) {
+        this.internalSchedules = new ArrayList<>(internalSchedules);
+        this.refreshToken = refreshToken;
+        this.externalCategoryDetails = new ArrayList<>(externalCategoryDetails);
+    }
+
+    public List<IntegrationSchedule> getInternalSchedules() {
+        return internalSchedules;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public List<ExternalCategoryDetail> getExternalCategoryDetails() {
+        return externalCategoryDetails;
+    }
+}
@@ -13,6 +13,11 @@ public class MaterialToFindSchedules {
     private final String refreshToken;
     private final List<ExternalCategoryDetail> externalCategoryDetails;
 
+    public MaterialToFindSchedules(final Subscriptions subscriptions, final String refreshToken,
+                                   final List<ExternalCategoryDetail> externalCategoryDetails) {
+        this(subscriptions, List.of(), refreshToken, externalCategoryDetails);
+    }
+
     public MaterialToFindSchedules(final Subscriptions subscriptions, final List<IntegrationSchedule> schedules,
                                    final String refreshToken,
                                    final List<ExternalCategoryDetail> externalCategoryDetails) {
@@ -0,0 +1,67 @@
+package com.allog.dallog.schedule.dto.request;
+
+import com.allog.dallog.schedule.domain.scheduler.WorkingHours;
+import com.allog.dallog.schedule.exception.InvalidScheduleException;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Objects;
+
+public class FreeSlotRequest {
+
+    private static final String TIME_FORMAT = "HH:mm";
+    private static final int DEFAULT_MINIMUM_MINUTES = 30;
+
+    private final List<Long> memberIds;
+    private final List<Long> categoryIds;
+    private final DateRangeRequest dateRange;
+    private final int minimumMinutes;
+    private final String workStartTime;
+    private final String workEndTime;
+
+    public FreeSlotRequest(final List<Long> memberIds, final List<Long> categoryIds, final String startDateTime,
+                           final String endDateTime, final Integer minimumMinutes, final String workStartTime,
+                           final String workEndTime) {
+        this.memberIds = Objects.requireNonNullElse(memberIds, List.of());
+        this.categoryIds = Objects.requireNonNullElse(categoryIds, List.of());
+        this.dateRange = new DateRangeRequest(startDateTime, endDateTime);
+        this.minimumMinutes = Objects.requireNonNullElse(minimumMinutes, DEFAULT_MINIMUM_MINUTES);
+        this.workStartTime = workStartTime;
+        this.workEndTime = workEndTime;
+    }
+
+    public List<Long> getMemberIds() {
+        return memberIds;
+    }
+
+    public List<Long> getCategoryIds() {
+        return categoryIds;
+    }
+
+    public DateRangeRequest getDateRange() {
+        return dateRange;
+    }
+
+    public Duration getMinimumDuration() {
+        return Duration.ofMinutes(minimumMinutes);
+    }
+
+    public WorkingHours toWorkingHours() {
+        if (Objects.isNull(workStartTime) && Objects.isNull(workEndTime)) {
+            return WorkingHours.allDay();
+        }
+        if (Objects.isNull(workStartTime) || Objects.isNull(workEndTime)) {
+            throw new InvalidScheduleException("근무 시작 시각과 근무 종료 시각은 함께 입력해야 합니다.");
+        }
+
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(TIME_FORMAT);
+        try {
+            return new WorkingHours(LocalTime.parse(workStartTime, formatter),
+                    LocalTime.parse(workEndTime, formatter));
+        } catch (final DateTimeParseException e) {
+            throw new InvalidScheduleException("근무 시각은 " + TIME_FORMAT + " 형식으로 입력해야 합니다.");
+        }
+    }
+}
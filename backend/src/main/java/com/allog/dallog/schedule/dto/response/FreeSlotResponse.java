@@ -0,0 +1,27 @@
+package com.allog.dallog.schedule.dto.response;
+
+import com.allog.dallog.schedule.domain.Period;
+import java.time.LocalDateTime;
+
+public class FreeSlotResponse {
+
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+
+    public FreeSlotResponse(final Period period) {
+        this(period.getStartDateTime(), period.getEndDateTime());
+    }
+
+    public FreeSlotResponse(final LocalDateTime startDateTime, final LocalDateTime endDateTime) {
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+    }
+
+    public LocalDateTime getStartDateTime() {
+        return startDateTime;
+    }
+
+    public LocalDateTime getEndDateTime() {
+        return endDateTime;
+    }
+}
@@ -0,0 +1,26 @@
+package com.allog.dallog.schedule.dto.response;
+
+import com.allog.dallog.schedule.domain.Period;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class FreeSlotsResponse {
+
+    private final List<FreeSlotResponse> freeSlots;
+    private final List<Long> failedExternalCategoryIds;
+
+    public FreeSlotsResponse(final List<Period> periods, final List<Long> failedExternalCategoryIds) {
+        this.freeSlots = periods.stream()
+                .map(FreeSlotResponse::new)
+                .collect(Collectors.toList());
+        this.failedExternalCategoryIds = List.copyOf(failedExternalCategoryIds);
+    }
+
+    public List<FreeSlotResponse> getFreeSlots() {
+        return freeSlots;
+    }
+
+    public List<Long> getFailedExternalCategoryIds() {
+        return failedExternalCategoryIds;
+    }
+}
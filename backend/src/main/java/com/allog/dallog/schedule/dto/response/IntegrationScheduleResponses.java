@@ -1,5 +1,6 @@
 package com.allog.dallog.schedule.dto.response;
 
+import com.allog.dallog.schedule.dto.CheckedSchedules;
 import com.allog.dallog.schedule.domain.ScheduleType;
 import com.allog.dallog.schedule.domain.TypedSchedules;
 import com.allog.dallog.subscription.domain.Color;
@@ -12,6 +13,7 @@ public class IntegrationScheduleResponses {
     private final List<IntegrationScheduleResponse> longTerms;
     private final List<IntegrationScheduleResponse> allDays;
     private final List<IntegrationScheduleResponse> fewHours;
+    private final List<Long> failedExternalCategoryIds;
 
     public IntegrationScheduleResponses(final List<IntegrationScheduleResponse> longTerms,
                                         final List<IntegrationScheduleResponse> allDays,
@@ -19,18 +21,31 @@ public class IntegrationScheduleResponses {
         this.longTerms = longTerms;
         this.allDays = allDays;
         this.fewHours = fewHours;
+        this.failedExternalCategoryIds = List.of();
     }
 
     public IntegrationScheduleResponses(final Subscriptions subscriptions, final TypedSchedules typedSchedules) {
+        this(subscriptions, typedSchedules, List.of());
+    }
+
+    public IntegrationScheduleResponses(final Subscriptions subscriptions, final TypedSchedules typedSchedules,
+                                        final List<Long> failedExternalCategoryIds) {
         this.longTerms = getColoredScheduleResponses(ScheduleType.LONG_TERMS, subscriptions, typedSchedules);
         this.allDays = getColoredScheduleResponses(ScheduleType.ALL_DAYS, subscriptions, typedSchedules);
         this.fewHours = getColoredScheduleResponses(ScheduleType.FEW_HOURS, subscriptions, typedSchedules);
+        this.failedExternalCategoryIds = List.copyOf(failedExternalCategoryIds);
+    }
+
+    public IntegrationScheduleResponses(final CheckedSchedules checkedSchedules) {
+        this(checkedSchedules.getSubscriptions(), checkedSchedules.getTypedSchedules(),
+                checkedSchedules.getFailedExternalCategoryIds());
     }
 
     public IntegrationScheduleResponses(final Color color, final TypedSchedules typedSchedules) {
         this.longTerms = getColoredScheduleResponses(ScheduleType.LONG_TERMS, color, typedSchedules);
         this.allDays = getColoredScheduleResponses(ScheduleType.ALL_DAYS, color, typedSchedules);
         this.fewHours = getColoredScheduleResponses(ScheduleType.FEW_HOURS, color, typedSchedules);
+        this.failedExternalCategoryIds = List.of();
     }
 
     private List<IntegrationScheduleResponse> getColoredScheduleResponses(final ScheduleType scheduleType,
@@ -64,4 +79,8 @@ public class IntegrationScheduleResponses {
     public List<IntegrationScheduleResponse> getFewHours() {
         return fewHours;
     }
+
+    public List<Long> getFailedExternalCategoryIds() {
+        return failedExternalCategoryIds;
+    }
 }
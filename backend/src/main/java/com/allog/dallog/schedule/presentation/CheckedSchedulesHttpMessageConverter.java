@@ -0,0 +1,113 @@
+package com.allog.dallog.schedule.presentation;
+
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import com.allog.dallog.schedule.domain.ScheduleType;
+import com.allog.dallog.schedule.dto.CheckedSchedules;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+// 응답 객체 목록을 만들지 않고, 정렬된 일정을 순회하면서 응답 본문에 바로 쓴다.
+public class CheckedSchedulesHttpMessageConverter extends AbstractHttpMessageConverter<CheckedSchedules> {
+
+    private final ObjectMapper objectMapper;
+
+    public CheckedSchedulesHttpMessageConverter(final ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(final Class<?> clazz) {
+        return CheckedSchedules.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(final MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected CheckedSchedules readInternal(final Class<? extends CheckedSchedules> clazz,
+                                            final HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("일정 조회 결과는 읽을 수 없습니다.", inputMessage);
+    }
+
+    // 색상을 찾지 못하면 아무것도 쓰기 전에 예외가 나야 하므로, 쓰기 전에 일정과 색상을 모두 준비한다.
+    // 응답 스트림은 서블릿 컨테이너가 닫으므로 생성기가 닫지 않게 한다.
+    @Override
+    protected void writeInternal(final CheckedSchedules checkedSchedules, final HttpOutputMessage outputMessage)
+            throws IOException {
+        Map<ScheduleType, List<IntegrationSchedule>> sortedSchedules = new EnumMap<>(ScheduleType.class);
+        Map<Long, String> colorCodes = new HashMap<>();
+        for (ScheduleType scheduleType : ScheduleType.values()) {
+            List<IntegrationSchedule> schedules = checkedSchedules.getSortedSchedules(scheduleType);
+            for (IntegrationSchedule schedule : schedules) {
+                colorCodes.put(schedule.getCategoryId(), checkedSchedules.findColor(schedule).getColorCode());
+            }
+            sortedSchedules.put(scheduleType, schedules);
+        }
+
+        try (JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8)) {
+            generator.setCodec(objectMapper);
+            if (objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
+                generator.useDefaultPrettyPrinter();
+            }
+
+            generator.writeStartObject();
+            for (Map.Entry<ScheduleType, List<IntegrationSchedule>> entry : sortedSchedules.entrySet()) {
+                generator.writeArrayFieldStart(entry.getKey().getName());
+                for (IntegrationSchedule schedule : entry.getValue()) {
+                    writeSchedule(generator, schedule, colorCodes.get(schedule.getCategoryId()));
+                }
+                generator.writeEndArray();
+            }
+
+            generator.writeArrayFieldStart("failedExternalCategoryIds");
+            for (Long failedExternalCategoryId : checkedSchedules.getFailedExternalCategoryIds()) {
+                generator.writeNumber(failedExternalCategoryId);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    // 날짜는 ObjectMapper 설정대로 쓰도록 코덱에 맡겨, IntegrationScheduleResponse를 직렬화한 결과와 같게 한다.
+    private void writeSchedule(final JsonGenerator generator, final IntegrationSchedule schedule,
+                               final String colorCode) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", schedule.getId());
+        generator.writeStringField("title", schedule.getTitle());
+        generator.writeObjectField("startDateTime", schedule.getStartDateTime());
+        generator.writeObjectField("endDateTime", schedule.getEndDateTime());
+        generator.writeStringField("memo", schedule.getMemo());
+        writeNumberField(generator, "categoryId", schedule.getCategoryId());
+        generator.writeStringField("colorCode", colorCode);
+        generator.writeStringField("categoryType", schedule.getCategoryType().name());
+        generator.writeEndObject();
+    }
+
+    private void writeNumberField(final JsonGenerator generator, final String fieldName, final Long value)
+            throws IOException {
+        generator.writeFieldName(fieldName);
+        if (Objects.isNull(value)) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeNumber(value);
+    }
+}
@@ -3,13 +3,18 @@ package com.allog.dallog.schedule.presentation;
 import com.allog.dallog.auth.dto.LoginMember;
 import com.allog.dallog.auth.presentation.AuthenticationPrincipal;
 import com.allog.dallog.schedule.application.CheckedSchedulesFinder;
+import com.allog.dallog.schedule.application.FreeSlotsFinder;
 import com.allog.dallog.schedule.application.ScheduleService;
+import com.allog.dallog.schedule.dto.CheckedSchedules;
 import com.allog.dallog.schedule.dto.request.DateRangeRequest;
+import com.allog.dallog.schedule.dto.request.FreeSlotRequest;
 import com.allog.dallog.schedule.dto.request.ScheduleCreateRequest;
 import com.allog.dallog.schedule.dto.request.ScheduleUpdateRequest;
+import com.allog.dallog.schedule.dto.response.FreeSlotsResponse;
 import com.allog.dallog.schedule.dto.response.IntegrationScheduleResponses;
 import com.allog.dallog.schedule.dto.response.ScheduleResponse;
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 import javax.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -28,11 +33,14 @@ public class ScheduleController {
 
     private final ScheduleService scheduleService;
     private final CheckedSchedulesFinder checkedSchedulesFinder;
+    private final FreeSlotsFinder freeSlotsFinder;
 
     public ScheduleController(final ScheduleService scheduleService,
-                              final CheckedSchedulesFinder checkedSchedulesFinder) {
+                              final CheckedSchedulesFinder checkedSchedulesFinder,
+                              final FreeSlotsFinder freeSlotsFinder) {
         this.scheduleService = scheduleService;
         this.checkedSchedulesFinder = checkedSchedulesFinder;
+        this.freeSlotsFinder = freeSlotsFinder;
     }
 
     @PostMapping("/categories/{categoryId}/schedules")
@@ -44,11 +52,10 @@ public class ScheduleController {
     }
 
     @GetMapping("/members/me/schedules")
-    public ResponseEntity<IntegrationScheduleResponses> findMyCheckedSchedules(
+    public CompletableFuture<ResponseEntity<CheckedSchedules>> findMyCheckedSchedules(
             @AuthenticationPrincipal final LoginMember loginMember, @ModelAttribute DateRangeRequest request) {
-        IntegrationScheduleResponses response = checkedSchedulesFinder.findMyCheckedSchedules(loginMember.getId(),
-                request);
-        return ResponseEntity.ok(response);
+        return checkedSchedulesFinder.findMyTypedSchedules(loginMember.getId(), request)
+                .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/categories/{categoryId}/schedules")
@@ -58,6 +65,13 @@ public class ScheduleController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/schedules/free-slots")
+    public CompletableFuture<ResponseEntity<FreeSlotsResponse>> findFreeSlots(
+            @AuthenticationPrincipal final LoginMember loginMember, @ModelAttribute final FreeSlotRequest request) {
+        return freeSlotsFinder.findFreeSlots(loginMember.getId(), request)
+                .thenApply(ResponseEntity::ok);
+    }
+
     @GetMapping("/schedules/{scheduleId}")
     public ResponseEntity<ScheduleResponse> findById(@PathVariable final Long scheduleId) {
         ScheduleResponse response = scheduleService.findById(scheduleId);
@@ -3,15 +3,21 @@ package com.allog.dallog.subscription.domain;
 import com.allog.dallog.category.exception.NoSuchCategoryException;
 import com.allog.dallog.category.domain.Category;
 import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 public class Subscriptions {
 
     private final List<Subscription> subscriptions;
+    private final Map<Long, Color> colors;
 
     public Subscriptions(final List<Subscription> subscriptions) {
         this.subscriptions = subscriptions;
+        this.colors = toColors(subscriptions);
     }
 
     public List<Category> findInternalCategory() {
@@ -31,10 +37,19 @@ public class Subscriptions {
     }
 
     public Color findColor(final IntegrationSchedule schedule) {
-        return subscriptions.stream()
-                .filter(subscription -> schedule.isSameCategory(subscription.getCategory()))
-                .findAny()
-                .orElseThrow(() -> new NoSuchCategoryException("구독하지 않은 카테고리 입니다."))
-                .getColor();
+        Color color = colors.get(schedule.getCategoryId());
+        if (Objects.isNull(color)) {
+            throw new NoSuchCategoryException("구독하지 않은 카테고리 입니다.");
+        }
+        return color;
+    }
+
+    // 일정마다 구독 목록을 훑지 않도록, 카테고리 ID별 색상을 미리 모아 둔다.
+    private static Map<Long, Color> toColors(final List<Subscription> subscriptions) {
+        Map<Long, Color> colors = new HashMap<>();
+        for (Subscription subscription : subscriptions) {
+            colors.putIfAbsent(subscription.getCategory().getId(), subscription.getColor());
+        }
+        return Collections.unmodifiableMap(colors);
     }
 }
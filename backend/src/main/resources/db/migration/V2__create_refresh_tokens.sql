@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    members_id BIGINT NOT NULL,
+    token VARCHAR(512) NOT NULL,
+    expired_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (members_id),
+    INDEX idx_refresh_tokens_expired_at (expired_at)
+);
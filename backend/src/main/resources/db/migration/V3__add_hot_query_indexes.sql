@@ -0,0 +1,18 @@
+-- 일정 조회: categories_id IN (...) AND start_date_time <= ? AND end_date_time >= ?
+-- 카테고리로 좁힌 뒤 시작 시각 범위를 인덱스로 읽고, 종료 시각은 인덱스 안에서 거른다.
+CREATE INDEX idx_schedules_categories_id_start_end
+    ON schedules (categories_id, start_date_time, end_date_time);
+
+-- 회원의 구독 목록, 회원이 카테고리를 구독했는지 확인
+CREATE INDEX idx_subscriptions_members_id_categories_id
+    ON subscriptions (members_id, categories_id);
+
+-- 회원의 카테고리 권한 조회
+CREATE INDEX idx_category_roles_members_id_categories_id
+    ON category_roles (members_id, categories_id);
+
+-- oauth_tokens(members_id)는 외래 키를 만들 때 생긴 인덱스로 조회하므로 따로 만들지 않는다.
+
+-- 로그인 시 이메일로 회원 조회
+CREATE INDEX idx_members_email
+    ON members (email);
@@ -1,3 +1,5 @@
+-- 스키마 변경은 db/migration의 버전 마이그레이션으로 관리한다.
+
 CREATE TABLE IF NOT EXISTS members (
   id BIGINT AUTO_INCREMENT,
   email VARCHAR(255) NOT NULL,
@@ -77,3 +79,11 @@ CREATE TABLE IF NOT EXISTS category_roles (
     FOREIGN KEY (categories_id) REFERENCES categories (id),
     FOREIGN KEY (members_id) REFERENCES members (id)
 );
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    members_id BIGINT NOT NULL,
+    token VARCHAR(512) NOT NULL,
+    expired_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (members_id),
+    INDEX idx_refresh_tokens_expired_at (expired_at)
+);
@@ -2,8 +2,11 @@ package com.allog.dallog.auth.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
+import com.allog.dallog.auth.domain.VerifiedToken;
 import com.allog.dallog.auth.exception.InvalidTokenException;
+import java.time.Instant;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -50,6 +53,22 @@ class JwtTokenProviderTest {
         assertThat(actual).isEqualTo(PAYLOAD);
     }
 
+    @DisplayName("토큰을 한 번 검증하여 Payload와 만료 시각을 가져온다.")
+    @Test
+    void 토큰을_한_번_검증하여_Payload와_만료_시각을_가져온다() {
+        // given
+        String token = jwtTokenProvider.createAccessToken(PAYLOAD);
+
+        // when
+        VerifiedToken actual = jwtTokenProvider.verify(token);
+
+        // then
+        assertAll(() -> {
+            assertThat(actual.getPayload()).isEqualTo(PAYLOAD);
+            assertThat(actual.isUsableAt(Instant.now().minusSeconds(1))).isTrue();
+        });
+    }
+
     @DisplayName("엑세스 토큰을 검증하여 만료된 경우 예외를 던진다.")
     @Test
     void 엑세스_토큰을_검증하여_만료된_경우_예외를_던진다() {
@@ -0,0 +1,227 @@
+package com.allog.dallog.auth.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.allog.dallog.auth.dto.OAuthMember;
+import com.allog.dallog.auth.dto.response.OAuthAccessTokenResponse;
+import com.allog.dallog.infrastructure.oauth.exception.OAuthException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OAuthAccessTokenCacheTest {
+
+    private static final long 갱신_여유_시간 = 60;
+    private static final String REFRESH_TOKEN = "refresh token";
+
+    @DisplayName("만료되지 않은 엑세스 토큰은 재발급하지 않고 재사용한다.")
+    @Test
+    void 만료되지_않은_엑세스_토큰은_재발급하지_않고_재사용한다() {
+        // given
+        CountingOAuthClient oAuthClient = new CountingOAuthClient(3599);
+        OAuthAccessTokenCache oAuthAccessTokenCache = new OAuthAccessTokenCache(oAuthClient, 갱신_여유_시간);
+
+        // when
+        String first = oAuthAccessTokenCache.getAccessToken(1L, REFRESH_TOKEN);
+        String second = oAuthAccessTokenCache.getAccessToken(1L, REFRESH_TOKEN);
+
+        // then
+        assertAll(() -> {
+            assertThat(second).isEqualTo(first);
+            assertThat(oAuthClient.getCallCount()).isEqualTo(1);
+        });
+    }
+
+    @DisplayName("회원마다 엑세스 토큰을 따로 발급한다.")
+    @Test
+    void 회원마다_엑세스_토큰을_따로_발급한다() {
+        // given
+        CountingOAuthClient oAuthClient = new CountingOAuthClient(3599);
+        OAuthAccessTokenCache oAuthAccessTokenCache = new OAuthAccessTokenCache(oAuthClient, 갱신_여유_시간);
+
+        // when
+        oAuthAccessTokenCache.getAccessToken(1L, REFRESH_TOKEN);
+        oAuthAccessTokenCache.getAccessToken(2L, REFRESH_TOKEN);
+
+        // then
+        assertThat(oAuthClient.getCallCount()).isEqualTo(2);
+    }
+
+    @DisplayName("만료 직전의 엑세스 토큰은 미리 재발급한다.")
+    @Test
+    void 만료_직전의_엑세스_토큰은_미리_재발급한다() {
+        // given
+        CountingOAuthClient oAuthClient = new CountingOAuthClient(갱신_여유_시간);
+        OAuthAccessTokenCache oAuthAccessTokenCache = new OAuthAccessTokenCache(oAuthClient, 갱신_여유_시간);
+
+        // when
+        oAuthAccessTokenCache.getAccessToken(1L, REFRESH_TOKEN);
+        oAuthAccessTokenCache.getAccessToken(1L, REFRESH_TOKEN);
+
+        // then
+        assertThat(oAuthClient.getCallCount()).isEqualTo(2);
+    }
+
+    @DisplayName("만료된 엑세스 토큰만 주기적으로 지운다.")
+    @Test
+    void 만료된_엑세스_토큰만_주기적으로_지운다() {
+        // given
+        OAuthAccessTokenCache oAuthAccessTokenCache = new OAuthAccessTokenCache(new CountingOAuthClient(3599),
+                갱신_여유_시간);
+        OAuthAccessTokenCache expiredAccessTokenCache = new OAuthAccessTokenCache(
+                new CountingOAuthClient(갱신_여유_시간), 갱신_여유_시간);
+        oAuthAccessTokenCache.getAccessToken(1L, REFRESH_TOKEN);
+        expiredAccessTokenCache.getAccessToken(1L, REFRESH_TOKEN);
+        expiredAccessTokenCache.getAccessToken(2L, REFRESH_TOKEN);
+
+        // when
+        oAuthAccessTokenCache.deleteAllExpired();
+        expiredAccessTokenCache.deleteAllExpired();
+
+        // then
+        assertAll(() -> {
+            assertThat(oAuthAccessTokenCache.size()).isEqualTo(1);
+            assertThat(expiredAccessTokenCache.size()).isZero();
+        });
+    }
+
+    @DisplayName("엑세스 토큰을 제거하면 다음 요청에서 재발급한다.")
+    @Test
+    void 엑세스_토큰을_제거하면_다음_요청에서_재발급한다() {
+        // given
+        CountingOAuthClient oAuthClient = new CountingOAuthClient(3599);
+        OAuthAccessTokenCache oAuthAccessTokenCache = new OAuthAccessTokenCache(oAuthClient, 갱신_여유_시간);
+        String accessToken = oAuthAccessTokenCache.getAccessToken(1L, REFRESH_TOKEN);
+
+        // when
+        oAuthAccessTokenCache.evict(1L, accessToken);
+        oAuthAccessTokenCache.getAccessToken(1L, REFRESH_TOKEN);
+
+        // then
+        assertThat(oAuthClient.getCallCount()).isEqualTo(2);
+    }
+
+    @DisplayName("이미 새로 발급받은 엑세스 토큰은 지난 토큰이 거절되어도 제거하지 않는다.")
+    @Test
+    void 이미_새로_발급받은_엑세스_토큰은_지난_토큰이_거절되어도_제거하지_않는다() {
+        // given
+        CountingOAuthClient oAuthClient = new CountingOAuthClient(3599);
+        OAuthAccessTokenCache oAuthAccessTokenCache = new OAuthAccessTokenCache(oAuthClient, 갱신_여유_시간);
+        String 지난_토큰 = oAuthAccessTokenCache.getAccessToken(1L, REFRESH_TOKEN);
+        oAuthAccessTokenCache.evict(1L, 지난_토큰);
+        String 새_토큰 = oAuthAccessTokenCache.getAccessToken(1L, REFRESH_TOKEN);
+
+        // when
+        oAuthAccessTokenCache.evict(1L, 지난_토큰);
+
+        // then
+        assertAll(() -> {
+            assertThat(oAuthAccessTokenCache.getAccessToken(1L, REFRESH_TOKEN)).isEqualTo(새_토큰);
+            assertThat(oAuthClient.getCallCount()).isEqualTo(2);
+        });
+    }
+
+    @DisplayName("발급에 실패하면 예외를 던지고 다음 요청에서 다시 발급을 시도한다.")
+    @Test
+    void 발급에_실패하면_예외를_던지고_다음_요청에서_다시_발급을_시도한다() {
+        // given
+        CountingOAuthClient oAuthClient = new CountingOAuthClient(3599);
+        oAuthClient.failNextCall();
+        OAuthAccessTokenCache oAuthAccessTokenCache = new OAuthAccessTokenCache(oAuthClient, 갱신_여유_시간);
+
+        // when & then
+        assertAll(() -> {
+            assertThatThrownBy(() -> oAuthAccessTokenCache.getAccessToken(1L, REFRESH_TOKEN))
+                    .isInstanceOf(OAuthException.class);
+            assertThat(oAuthAccessTokenCache.getAccessToken(1L, REFRESH_TOKEN)).isNotEmpty();
+            assertThat(oAuthClient.getCallCount()).isEqualTo(2);
+        });
+    }
+
+    @DisplayName("같은 회원에 대한 동시 요청은 엑세스 토큰을 한 번만 발급한다.")
+    @Test
+    void 같은_회원에_대한_동시_요청은_엑세스_토큰을_한_번만_발급한다() throws Exception {
+        // given
+        CountDownLatch latch = new CountDownLatch(1);
+        CountingOAuthClient oAuthClient = new CountingOAuthClient(3599, latch);
+        OAuthAccessTokenCache oAuthAccessTokenCache = new OAuthAccessTokenCache(oAuthClient, 갱신_여유_시간);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executorService.submit(() -> oAuthAccessTokenCache.getAccessToken(1L, REFRESH_TOKEN)));
+        }
+        latch.countDown();
+
+        List<String> actual = new ArrayList<>();
+        for (Future<String> future : futures) {
+            actual.add(future.get(5, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        // then
+        assertAll(() -> {
+            assertThat(actual).containsOnly(actual.get(0));
+            assertThat(oAuthClient.getCallCount()).isEqualTo(1);
+        });
+    }
+
+    private static class CountingOAuthClient implements OAuthClient {
+
+        private final long expiresIn;
+        private final CountDownLatch latch;
+        private final AtomicInteger callCount = new AtomicInteger();
+        private volatile boolean failNextCall;
+
+        private CountingOAuthClient(final long expiresIn) {
+            this(expiresIn, new CountDownLatch(0));
+        }
+
+        private CountingOAuthClient(final long expiresIn, final CountDownLatch latch) {
+            this.expiresIn = expiresIn;
+            this.latch = latch;
+        }
+
+        @Override
+        public OAuthMember getOAuthMember(final String code, final String redirectUri) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public OAuthAccessTokenResponse getAccessToken(final String refreshToken) {
+            int count = callCount.incrementAndGet();
+            await();
+            if (failNextCall) {
+                failNextCall = false;
+                throw new OAuthException();
+            }
+            return new OAuthAccessTokenResponse("access token " + count, expiresIn);
+        }
+
+        private void await() {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void failNextCall() {
+            this.failNextCall = true;
+        }
+
+        private int getCallCount() {
+            return callCount.get();
+        }
+    }
+}
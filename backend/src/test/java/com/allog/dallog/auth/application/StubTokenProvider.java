@@ -1,9 +1,10 @@
 package com.allog.dallog.auth.application;
 
+import com.allog.dallog.auth.domain.VerifiedToken;
 import com.allog.dallog.auth.exception.InvalidTokenException;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -14,11 +15,15 @@ import javax.crypto.SecretKey;
 public class StubTokenProvider implements TokenProvider {
 
     private final SecretKey key;
+    private final JwtParser jwtParser;
     private final long accessTokenValidityInMilliseconds = 0;
     private final long refreshTokenValidityInMilliseconds = 360000;
 
     public StubTokenProvider(final String secretKey) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     @Override
@@ -45,25 +50,22 @@ public class StubTokenProvider implements TokenProvider {
 
     @Override
     public String getPayload(final String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        return jwtParser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
 
     @Override
     public void validateToken(final String token) {
-        try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+        verify(token);
+    }
 
-            claims.getBody()
-                    .getExpiration()
-                    .before(new Date());
+    @Override
+    public VerifiedToken verify(final String token) {
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token)
+                    .getBody();
+            return new VerifiedToken(claims.getSubject(), claims.getExpiration().toInstant());
         } catch (final JwtException | IllegalArgumentException e) {
             throw new InvalidTokenException("권한이 없습니다.");
         }
@@ -0,0 +1,69 @@
+package com.allog.dallog.auth.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.allog.dallog.auth.domain.VerifiedToken;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(new ConcurrentMapCacheManager());
+    private final AtomicInteger verifyCount = new AtomicInteger();
+
+    @DisplayName("같은 토큰은 한 번만 검증한다.")
+    @Test
+    void 같은_토큰은_한_번만_검증한다() {
+        // given
+        Instant expiredAt = Instant.now().plusSeconds(60);
+        verifiedTokenCache.get("token", token -> 검증한다("1", expiredAt));
+
+        // when
+        VerifiedToken actual = verifiedTokenCache.get("token", token -> 검증한다("1", expiredAt));
+
+        // then
+        assertAll(() -> {
+            assertThat(actual.getPayload()).isEqualTo("1");
+            assertThat(verifyCount).hasValue(1);
+        });
+    }
+
+    @DisplayName("다른 토큰은 따로 검증한다.")
+    @Test
+    void 다른_토큰은_따로_검증한다() {
+        // given
+        Instant expiredAt = Instant.now().plusSeconds(60);
+        verifiedTokenCache.get("token", token -> 검증한다("1", expiredAt));
+
+        // when
+        VerifiedToken actual = verifiedTokenCache.get("other token", token -> 검증한다("2", expiredAt));
+
+        // then
+        assertAll(() -> {
+            assertThat(actual.getPayload()).isEqualTo("2");
+            assertThat(verifyCount).hasValue(2);
+        });
+    }
+
+    @DisplayName("만료 시각이 지난 토큰은 다시 검증한다.")
+    @Test
+    void 만료_시각이_지난_토큰은_다시_검증한다() {
+        // given
+        verifiedTokenCache.get("token", token -> 검증한다("1", Instant.now().minusSeconds(1)));
+
+        // when
+        verifiedTokenCache.get("token", token -> 검증한다("1", Instant.now().plusSeconds(60)));
+
+        // then
+        assertThat(verifyCount).hasValue(2);
+    }
+
+    private VerifiedToken 검증한다(final String payload, final Instant expiredAt) {
+        verifyCount.incrementAndGet();
+        return new VerifiedToken(payload, expiredAt);
+    }
+}
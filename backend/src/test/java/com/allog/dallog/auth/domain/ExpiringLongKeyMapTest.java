@@ -0,0 +1,93 @@
+package com.allog.dallog.auth.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExpiringLongKeyMapTest {
+
+    private static final long NOW = 1000;
+    private static final long LATER = NOW + 1000;
+
+    @DisplayName("지운 항목 뒤에 있던 항목도 계속 찾을 수 있다.")
+    @Test
+    void 지운_항목_뒤에_있던_항목도_계속_찾을_수_있다() {
+        // given
+        ExpiringLongKeyMap expiringLongKeyMap = new ExpiringLongKeyMap(10_000);
+        for (long key = 1; key <= 1_000; key++) {
+            expiringLongKeyMap.put(key, String.valueOf(key), LATER);
+        }
+
+        // when
+        for (long key = 1; key <= 1_000; key += 2) {
+            expiringLongKeyMap.remove(key);
+        }
+
+        // then
+        assertAll(() -> {
+            assertThat(expiringLongKeyMap.size()).isEqualTo(500);
+            for (long key = 1; key <= 1_000; key++) {
+                String expected = key % 2 == 0 ? String.valueOf(key) : null;
+                assertThat(expiringLongKeyMap.get(key, NOW)).isEqualTo(expected);
+            }
+        });
+    }
+
+    @DisplayName("같은 키로 넣으면 값과 만료 시각을 덮어쓴다.")
+    @Test
+    void 같은_키로_넣으면_값과_만료_시각을_덮어쓴다() {
+        // given
+        ExpiringLongKeyMap expiringLongKeyMap = new ExpiringLongKeyMap(10);
+        expiringLongKeyMap.put(1L, "old", NOW);
+
+        // when
+        expiringLongKeyMap.put(1L, "new", LATER);
+
+        // then
+        assertAll(() -> {
+            assertThat(expiringLongKeyMap.get(1L, NOW)).isEqualTo("new");
+            assertThat(expiringLongKeyMap.size()).isEqualTo(1);
+        });
+    }
+
+    @DisplayName("가득 차면 만료된 항목부터 내보낸다.")
+    @Test
+    void 가득_차면_만료된_항목부터_내보낸다() {
+        // given
+        ExpiringLongKeyMap expiringLongKeyMap = new ExpiringLongKeyMap(2);
+        expiringLongKeyMap.put(1L, "expired", NOW);
+        expiringLongKeyMap.put(2L, "alive", LATER);
+
+        // when
+        expiringLongKeyMap.put(3L, "new", LATER);
+
+        // then
+        assertAll(() -> {
+            assertThat(expiringLongKeyMap.get(1L, NOW - 1)).isNull();
+            assertThat(expiringLongKeyMap.get(2L, NOW)).isEqualTo("alive");
+            assertThat(expiringLongKeyMap.get(3L, NOW)).isEqualTo("new");
+        });
+    }
+
+    @DisplayName("만료된 항목만 골라 지운다.")
+    @Test
+    void 만료된_항목만_골라_지운다() {
+        // given
+        ExpiringLongKeyMap expiringLongKeyMap = new ExpiringLongKeyMap(1_000);
+        for (long key = 1; key <= 100; key++) {
+            expiringLongKeyMap.put(key, "value", key % 2 == 0 ? NOW : LATER);
+        }
+
+        // when
+        int actual = expiringLongKeyMap.removeAllExpired(NOW);
+
+        // then
+        assertAll(() -> {
+            assertThat(actual).isEqualTo(50);
+            assertThat(expiringLongKeyMap.size()).isEqualTo(50);
+            assertThat(expiringLongKeyMap.get(1L, NOW)).isEqualTo("value");
+        });
+    }
+}
@@ -2,6 +2,7 @@ package com.allog.dallog.auth.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.allog.dallog.auth.exception.NoSuchTokenException;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,7 +11,11 @@ import org.junit.jupiter.api.Test;
 
 class InMemoryAuthTokenRepositoryTest {
 
-    private final TokenRepository tokenRepository = new InMemoryAuthTokenRepository();
+    private static final long REFRESH_TOKEN_VALIDITY = 3600000;
+    private static final int MAXIMUM_SIZE = 100;
+
+    private final TokenRepository tokenRepository = new InMemoryAuthTokenRepository(REFRESH_TOKEN_VALIDITY,
+            MAXIMUM_SIZE);
 
     @BeforeEach
     void setUp() {
@@ -85,4 +90,74 @@ class InMemoryAuthTokenRepositoryTest {
         assertThatThrownBy(() -> tokenRepository.getToken(dummyMemberId))
                 .isInstanceOf(NoSuchTokenException.class);
     }
+
+    @DisplayName("유효 기간이 지난 토큰은 없는 것으로 본다.")
+    @Test
+    void 유효_기간이_지난_토큰은_없는_것으로_본다() {
+        // given
+        InMemoryAuthTokenRepository expiredTokenRepository = new InMemoryAuthTokenRepository(0, MAXIMUM_SIZE);
+        expiredTokenRepository.save(1L, "dummy token");
+
+        // when & then
+        assertAll(() -> {
+            assertThat(expiredTokenRepository.exist(1L)).isFalse();
+            assertThat(expiredTokenRepository.size()).isZero();
+        });
+    }
+
+    @DisplayName("유효 기간이 지난 토큰을 한 번에 지운다.")
+    @Test
+    void 유효_기간이_지난_토큰을_한_번에_지운다() {
+        // given
+        InMemoryAuthTokenRepository expiredTokenRepository = new InMemoryAuthTokenRepository(0, MAXIMUM_SIZE);
+        for (long memberId = 1; memberId <= 10; memberId++) {
+            expiredTokenRepository.save(memberId, "dummy token");
+        }
+
+        // when
+        expiredTokenRepository.deleteAllExpired();
+
+        // then
+        assertThat(expiredTokenRepository.size()).isZero();
+    }
+
+    @DisplayName("최대 개수를 넘겨 저장하지 않는다.")
+    @Test
+    void 최대_개수를_넘겨_저장하지_않는다() {
+        // given
+        InMemoryAuthTokenRepository boundedTokenRepository = new InMemoryAuthTokenRepository(
+                REFRESH_TOKEN_VALIDITY, MAXIMUM_SIZE);
+
+        // when
+        for (long memberId = 1; memberId <= MAXIMUM_SIZE * 3; memberId++) {
+            boundedTokenRepository.save(memberId, "dummy token");
+        }
+
+        // then
+        assertAll(() -> {
+            assertThat(boundedTokenRepository.size()).isEqualTo(MAXIMUM_SIZE);
+            assertThat(boundedTokenRepository.exist((long) MAXIMUM_SIZE * 3)).isTrue();
+        });
+    }
+
+    @DisplayName("담긴 토큰만큼 차지하는 메모리 추정치가 늘고 줄어든다.")
+    @Test
+    void 담긴_토큰만큼_차지하는_메모리_추정치가_늘고_줄어든다() {
+        // given
+        InMemoryAuthTokenRepository inMemoryAuthTokenRepository = new InMemoryAuthTokenRepository(
+                REFRESH_TOKEN_VALIDITY, MAXIMUM_SIZE);
+        long empty = inMemoryAuthTokenRepository.estimateFootprint();
+
+        // when
+        inMemoryAuthTokenRepository.save(1L, "dummy token");
+        long saved = inMemoryAuthTokenRepository.estimateFootprint();
+        inMemoryAuthTokenRepository.deleteByMemberId(1L);
+        long deleted = inMemoryAuthTokenRepository.estimateFootprint();
+
+        // then
+        assertAll(() -> {
+            assertThat(saved).isGreaterThan(empty);
+            assertThat(deleted).isEqualTo(empty);
+        });
+    }
 }
@@ -0,0 +1,38 @@
+package com.allog.dallog.auth.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OAuthAccessTokenTest {
+
+    @DisplayName("만료 시각 이전이면 사용할 수 있다.")
+    @Test
+    void 만료_시각_이전이면_사용할_수_있다() {
+        // given
+        LocalDateTime expiredAt = LocalDateTime.of(2022, 8, 1, 12, 0);
+        OAuthAccessToken oAuthAccessToken = new OAuthAccessToken("access token", expiredAt);
+
+        // when
+        boolean actual = oAuthAccessToken.isUsableAt(expiredAt.minusSeconds(1));
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @DisplayName("만료 시각이 지나면 사용할 수 없다.")
+    @Test
+    void 만료_시각이_지나면_사용할_수_없다() {
+        // given
+        LocalDateTime expiredAt = LocalDateTime.of(2022, 8, 1, 12, 0);
+        OAuthAccessToken oAuthAccessToken = new OAuthAccessToken("access token", expiredAt);
+
+        // when
+        boolean actual = oAuthAccessToken.isUsableAt(expiredAt);
+
+        // then
+        assertThat(actual).isFalse();
+    }
+}
@@ -0,0 +1,117 @@
+package com.allog.dallog.auth.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.allog.dallog.auth.exception.NoSuchTokenException;
+import com.allog.dallog.common.annotation.ServiceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class PersistentAuthTokenRepositoryTest extends ServiceTest {
+
+    private static final long REFRESH_TOKEN_VALIDITY = 3600000;
+    private static final Long MEMBER_ID = 1L;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @DisplayName("토큰을 저장하고 가져온다.")
+    @Test
+    void 토큰을_저장하고_가져온다() {
+        // given
+        TokenRepository tokenRepository = 인스턴스(REFRESH_TOKEN_VALIDITY);
+
+        // when
+        tokenRepository.save(MEMBER_ID, "refresh token");
+
+        // then
+        assertAll(() -> {
+            assertThat(tokenRepository.exist(MEMBER_ID)).isTrue();
+            assertThat(tokenRepository.getToken(MEMBER_ID)).isEqualTo("refresh token");
+        });
+    }
+
+    @DisplayName("이미 토큰이 있으면 덮어쓴다.")
+    @Test
+    void 이미_토큰이_있으면_덮어쓴다() {
+        // given
+        TokenRepository tokenRepository = 인스턴스(REFRESH_TOKEN_VALIDITY);
+        tokenRepository.save(MEMBER_ID, "old token");
+
+        // when
+        tokenRepository.save(MEMBER_ID, "new token");
+
+        // then
+        assertAll(() -> {
+            assertThat(tokenRepository.getToken(MEMBER_ID)).isEqualTo("new token");
+            assertThat(refreshTokenRepository.count()).isEqualTo(1);
+        });
+    }
+
+    @DisplayName("다른 인스턴스에서 저장한 토큰을 가져온다.")
+    @Test
+    void 다른_인스턴스에서_저장한_토큰을_가져온다() {
+        // given
+        TokenRepository 인스턴스_A = 인스턴스(REFRESH_TOKEN_VALIDITY);
+        TokenRepository 인스턴스_B = 인스턴스(REFRESH_TOKEN_VALIDITY);
+        인스턴스_A.save(MEMBER_ID, "refresh token");
+
+        // when
+        String actual = 인스턴스_B.getToken(MEMBER_ID);
+
+        // then
+        assertThat(actual).isEqualTo("refresh token");
+    }
+
+    @DisplayName("유효 기간이 지난 토큰은 없는 것으로 본다.")
+    @Test
+    void 유효_기간이_지난_토큰은_없는_것으로_본다() {
+        // given
+        TokenRepository tokenRepository = 인스턴스(0);
+        tokenRepository.save(MEMBER_ID, "refresh token");
+
+        // when & then
+        assertAll(() -> {
+            assertThat(tokenRepository.exist(MEMBER_ID)).isFalse();
+            assertThatThrownBy(() -> tokenRepository.getToken(MEMBER_ID))
+                    .isInstanceOf(NoSuchTokenException.class);
+        });
+    }
+
+    @DisplayName("유효 기간이 지난 토큰을 지운다.")
+    @Test
+    void 유효_기간이_지난_토큰을_지운다() {
+        // given
+        PersistentAuthTokenRepository tokenRepository = 인스턴스(0);
+        tokenRepository.save(MEMBER_ID, "refresh token");
+
+        // when
+        tokenRepository.deleteAllExpired();
+
+        // then
+        assertThat(refreshTokenRepository.count()).isZero();
+    }
+
+    @DisplayName("MemberId에 해당하는 토큰을 지운다.")
+    @Test
+    void MemberId에_해당하는_토큰을_지운다() {
+        // given
+        TokenRepository tokenRepository = 인스턴스(REFRESH_TOKEN_VALIDITY);
+        tokenRepository.save(MEMBER_ID, "refresh token");
+
+        // when
+        tokenRepository.deleteByMemberId(MEMBER_ID);
+
+        // then
+        assertThat(tokenRepository.exist(MEMBER_ID)).isFalse();
+    }
+
+    private PersistentAuthTokenRepository 인스턴스(final long refreshTokenValidityInMilliseconds) {
+        return new PersistentAuthTokenRepository(refreshTokenRepository, new ConcurrentMapCacheManager(),
+                refreshTokenValidityInMilliseconds);
+    }
+}
@@ -12,6 +12,7 @@ import com.allog.dallog.externalcalendar.presentation.ExternalCalendarController
 import com.allog.dallog.member.application.MemberService;
 import com.allog.dallog.member.presentation.MemberController;
 import com.allog.dallog.schedule.application.CheckedSchedulesFinder;
+import com.allog.dallog.schedule.application.FreeSlotsFinder;
 import com.allog.dallog.schedule.application.ScheduleService;
 import com.allog.dallog.schedule.presentation.ScheduleController;
 import com.allog.dallog.subscription.application.SubscriptionService;
@@ -68,6 +69,9 @@ public abstract class ControllerTest {
     @MockBean
     protected CheckedSchedulesFinder checkedSchedulesFinder;
 
+    @MockBean
+    protected FreeSlotsFinder freeSlotsFinder;
+
     @MockBean
     protected SubscriptionService subscriptionService;
 }
@@ -2,7 +2,9 @@ package com.allog.dallog.common.config;
 
 import com.allog.dallog.auth.application.OAuthClient;
 import com.allog.dallog.auth.application.OAuthUri;
+import com.allog.dallog.externalcalendar.application.AsyncExternalCalendarClient;
 import com.allog.dallog.externalcalendar.application.ExternalCalendarClient;
+import com.allog.dallog.infrastructure.oauth.client.StubAsyncExternalCalendarClient;
 import com.allog.dallog.infrastructure.oauth.client.StubExternalCalendarClient;
 import com.allog.dallog.infrastructure.oauth.client.StubOAuthClient;
 import com.allog.dallog.infrastructure.oauth.uri.StubOAuthUri;
@@ -22,6 +24,11 @@ public class ExternalApiConfig {
         return new StubExternalCalendarClient();
     }
 
+    @Bean
+    public AsyncExternalCalendarClient asyncExternalCalendarClient() {
+        return new StubAsyncExternalCalendarClient();
+    }
+
     @Bean
     public OAuthUri oAuthUri() {
         return new StubOAuthUri();
@@ -0,0 +1,399 @@
+package com.allog.dallog.externalcalendar.application;
+
+import static com.allog.dallog.category.domain.CategoryType.GOOGLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.allog.dallog.auth.exception.InvalidOAuthAccessTokenException;
+import com.allog.dallog.externalcalendar.dto.ExternalCalendar;
+import com.allog.dallog.externalcalendar.dto.ExternalScheduleChanges;
+import com.allog.dallog.externalcalendar.exception.ExpiredSyncTokenException;
+import com.allog.dallog.infrastructure.oauth.exception.OAuthException;
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class ExternalCalendarSyncStoreTest {
+
+    private static final String ACCESS_TOKEN = "token";
+    private static final Long 카테고리_ID = 1L;
+    private static final String 외부_캘린더_ID = "calendar";
+    private static final LocalDateTime 오늘 = LocalDate.now().atStartOfDay();
+
+    private final IntegrationSchedule 회의 = 외부_일정("meeting", "회의", 오늘.plusHours(10), 오늘.plusHours(11));
+    private final IntegrationSchedule 점심 = 외부_일정("lunch", "점심", 오늘.plusHours(12), 오늘.plusHours(13));
+    private final IntegrationSchedule 다음_달_일정 = 외부_일정("next month", "다음 달 일정",
+            오늘.plusMonths(1), 오늘.plusMonths(1).plusHours(1));
+
+    private final ScriptedExternalCalendarClient externalCalendarClient = new ScriptedExternalCalendarClient(
+            List.of(회의, 점심, 다음_달_일정));
+
+    @DisplayName("처음 조회하면 전체를 동기화하고 조회 구간에 겹치는 일정만 반환한다.")
+    @Test
+    void 처음_조회하면_전체를_동기화하고_조회_구간에_겹치는_일정만_반환한다() {
+        // given
+        ExternalCalendarSyncStore externalCalendarSyncStore = 외부_일정_저장소(60);
+
+        // when
+        List<IntegrationSchedule> actual = 이번_주_일정을_조회한다(externalCalendarSyncStore);
+
+        // then
+        assertAll(() -> {
+            assertThat(actual).containsExactly(회의, 점심);
+            assertThat(externalCalendarClient.getFullSyncCount()).isEqualTo(1);
+        });
+    }
+
+    @DisplayName("동기화 주기가 지나지 않았으면 외부 캘린더를 호출하지 않는다.")
+    @Test
+    void 동기화_주기가_지나지_않았으면_외부_캘린더를_호출하지_않는다() {
+        // given
+        ExternalCalendarSyncStore externalCalendarSyncStore = 외부_일정_저장소(60);
+        이번_주_일정을_조회한다(externalCalendarSyncStore);
+
+        // when
+        이번_주_일정을_조회한다(externalCalendarSyncStore);
+
+        // then
+        assertAll(() -> {
+            assertThat(externalCalendarClient.getFullSyncCount()).isEqualTo(1);
+            assertThat(externalCalendarClient.getSyncTokens()).isEmpty();
+        });
+    }
+
+    @DisplayName("동기화 주기가 지나면 바뀐 일정만 받아 반영한다.")
+    @Test
+    void 동기화_주기가_지나면_바뀐_일정만_받아_반영한다() {
+        // given
+        ExternalCalendarSyncStore externalCalendarSyncStore = 외부_일정_저장소(0);
+        이번_주_일정을_조회한다(externalCalendarSyncStore);
+
+        IntegrationSchedule 바뀐_회의 = 외부_일정("meeting", "바뀐 회의", 오늘.plusHours(15), 오늘.plusHours(16));
+        IntegrationSchedule 저녁 = 외부_일정("dinner", "저녁", 오늘.plusHours(18), 오늘.plusHours(19));
+        externalCalendarClient.addChanges(
+                new ExternalScheduleChanges(List.of(바뀐_회의, 저녁), List.of("lunch"), "second sync token"));
+
+        // when
+        List<IntegrationSchedule> actual = 이번_주_일정을_조회한다(externalCalendarSyncStore);
+
+        // then
+        assertAll(() -> {
+            assertThat(actual).containsExactly(바뀐_회의, 저녁);
+            assertThat(externalCalendarClient.getFullSyncCount()).isEqualTo(1);
+            assertThat(externalCalendarClient.getSyncTokens()).containsExactly("first sync token");
+        });
+    }
+
+    @DisplayName("동기화 토큰이 만료되면 전체를 다시 동기화한다.")
+    @Test
+    void 동기화_토큰이_만료되면_전체를_다시_동기화한다() {
+        // given
+        ExternalCalendarSyncStore externalCalendarSyncStore = 외부_일정_저장소(0);
+        이번_주_일정을_조회한다(externalCalendarSyncStore);
+        externalCalendarClient.expireSyncToken();
+
+        // when
+        List<IntegrationSchedule> actual = 이번_주_일정을_조회한다(externalCalendarSyncStore);
+
+        // then
+        assertAll(() -> {
+            assertThat(actual).containsExactly(회의, 점심);
+            assertThat(externalCalendarClient.getFullSyncCount()).isEqualTo(2);
+        });
+    }
+
+    @DisplayName("전체 동기화 응답에 동기화 토큰이 없으면 다음에도 전체를 동기화한다.")
+    @Test
+    void 전체_동기화_응답에_동기화_토큰이_없으면_다음에도_전체를_동기화한다() {
+        // given
+        externalCalendarClient.omitFullSyncToken();
+        ExternalCalendarSyncStore externalCalendarSyncStore = 외부_일정_저장소(0);
+        이번_주_일정을_조회한다(externalCalendarSyncStore);
+
+        // when
+        List<IntegrationSchedule> actual = 이번_주_일정을_조회한다(externalCalendarSyncStore);
+
+        // then
+        assertAll(() -> {
+            assertThat(actual).containsExactly(회의, 점심);
+            assertThat(externalCalendarClient.getFullSyncCount()).isEqualTo(2);
+            assertThat(externalCalendarClient.getSyncTokens()).isEmpty();
+        });
+    }
+
+    @DisplayName("가진 사본이 있는데 동기화에 실패하면 지난 사본으로 응답한다.")
+    @Test
+    void 가진_사본이_있는데_동기화에_실패하면_지난_사본으로_응답한다() {
+        // given
+        ExternalCalendarSyncStore externalCalendarSyncStore = 외부_일정_저장소(0);
+        이번_주_일정을_조회한다(externalCalendarSyncStore);
+        externalCalendarClient.failSync();
+
+        // when
+        List<IntegrationSchedule> actual = 이번_주_일정을_조회한다(externalCalendarSyncStore);
+
+        // then
+        assertThat(actual).containsExactly(회의, 점심);
+    }
+
+    @DisplayName("동기화에 실패하면 동기화 주기가 지날 때까지 다시 동기화하지 않는다.")
+    @Test
+    void 동기화에_실패하면_동기화_주기가_지날_때까지_다시_동기화하지_않는다() throws InterruptedException {
+        // given
+        ExternalCalendarSyncStore externalCalendarSyncStore = 외부_일정_저장소(1);
+        이번_주_일정을_조회한다(externalCalendarSyncStore);
+        Thread.sleep(1_100);
+        externalCalendarClient.failSync();
+        이번_주_일정을_조회한다(externalCalendarSyncStore);
+
+        // when
+        List<IntegrationSchedule> actual = 이번_주_일정을_조회한다(externalCalendarSyncStore);
+
+        // then
+        assertAll(() -> {
+            assertThat(actual).containsExactly(회의, 점심);
+            assertThat(externalCalendarClient.getFailedSyncCount()).isEqualTo(1);
+        });
+    }
+
+    @DisplayName("액세스 토큰이 거절되면 지난 사본으로 응답하지 않고 예외를 던진다.")
+    @Test
+    void 액세스_토큰이_거절되면_지난_사본으로_응답하지_않고_예외를_던진다() {
+        // given
+        ExternalCalendarSyncStore externalCalendarSyncStore = 외부_일정_저장소(0);
+        이번_주_일정을_조회한다(externalCalendarSyncStore);
+        externalCalendarClient.rejectAccessToken();
+
+        // when & then
+        assertThatThrownBy(() -> 이번_주_일정을_조회한다(externalCalendarSyncStore))
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(InvalidOAuthAccessTokenException.class);
+    }
+
+    @DisplayName("동기화 작업이 거절되면 예외를 던지고 다음 조회에서 다시 동기화를 시도한다.")
+    @Test
+    void 동기화_작업이_거절되면_예외를_던지고_다음_조회에서_다시_동기화를_시도한다() {
+        // given
+        List<Runnable> rejectedTasks = new ArrayList<>();
+        ExternalCalendarSyncStore externalCalendarSyncStore = 외부_일정_저장소(60, task -> {
+            rejectedTasks.add(task);
+            throw new RejectedExecutionException();
+        });
+
+        // when & then
+        assertAll(() -> {
+            assertThatThrownBy(() -> 이번_주_일정을_조회한다(externalCalendarSyncStore))
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(RejectedExecutionException.class);
+            assertThatThrownBy(() -> 이번_주_일정을_조회한다(externalCalendarSyncStore))
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(RejectedExecutionException.class);
+            assertThat(rejectedTasks).hasSize(2);
+            assertThat(externalCalendarClient.getFullSyncCount()).isZero();
+        });
+    }
+
+    @DisplayName("동기화 범위보다 앞선 구간은 월 단위로 조회한다.")
+    @Test
+    void 동기화_범위보다_앞선_구간은_월_단위로_조회한다() {
+        // given
+        ExternalCalendarSyncStore externalCalendarSyncStore = 외부_일정_저장소(60);
+
+        // when
+        externalCalendarSyncStore.getSchedules(ACCESS_TOKEN, 카테고리_ID, 외부_캘린더_ID, 오늘.minusYears(1),
+                오늘.minusYears(1).plusDays(7)).join();
+
+        // then
+        assertAll(() -> {
+            assertThat(externalCalendarClient.getRangeRequestCount()).isEqualTo(1);
+            assertThat(externalCalendarClient.getFullSyncCount()).isZero();
+        });
+    }
+
+    private ExternalCalendarSyncStore 외부_일정_저장소(final long syncIntervalInSeconds) {
+        return 외부_일정_저장소(syncIntervalInSeconds, Runnable::run);
+    }
+
+    private ExternalCalendarSyncStore 외부_일정_저장소(final long syncIntervalInSeconds, final Executor executor) {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+        return new ExternalCalendarSyncStore(externalCalendarClient,
+                new MonthlyExternalScheduleCache(externalCalendarClient::requestRange, cacheManager), cacheManager,
+                executor, syncIntervalInSeconds, 3, 12, 1000);
+    }
+
+    @DisplayName("동기화 범위보다 뒤의 구간도 월 단위로 조회한다.")
+    @Test
+    void 동기화_범위보다_뒤의_구간도_월_단위로_조회한다() {
+        // given
+        ExternalCalendarSyncStore externalCalendarSyncStore = 외부_일정_저장소(60);
+
+        // when
+        externalCalendarSyncStore.getSchedules(ACCESS_TOKEN, 카테고리_ID, 외부_캘린더_ID, 오늘.plusYears(2),
+                오늘.plusYears(2).plusDays(7)).join();
+
+        // then
+        assertAll(() -> {
+            assertThat(externalCalendarClient.getRangeRequestCount()).isEqualTo(1);
+            assertThat(externalCalendarClient.getFullSyncCount()).isZero();
+        });
+    }
+
+    @DisplayName("바뀐 일정이 동기화 범위를 벗어나면 사본에서 뺀다.")
+    @Test
+    void 바뀐_일정이_동기화_범위를_벗어나면_사본에서_뺀다() {
+        // given
+        ExternalCalendarSyncStore externalCalendarSyncStore = 외부_일정_저장소(0);
+        이번_주_일정을_조회한다(externalCalendarSyncStore);
+
+        IntegrationSchedule 멀리_미룬_회의 = 외부_일정("meeting", "회의", 오늘.plusYears(5), 오늘.plusYears(5).plusHours(1));
+        externalCalendarClient.addChanges(
+                new ExternalScheduleChanges(List.of(멀리_미룬_회의), List.of(), "second sync token"));
+
+        // when
+        List<IntegrationSchedule> actual = 이번_주_일정을_조회한다(externalCalendarSyncStore);
+
+        // then
+        assertAll(() -> {
+            assertThat(actual).containsExactly(점심);
+            assertThat(externalCalendarClient.getFullSyncEndDateTime()).isNotNull();
+        });
+    }
+
+    private List<IntegrationSchedule> 이번_주_일정을_조회한다(final ExternalCalendarSyncStore externalCalendarSyncStore) {
+        return externalCalendarSyncStore.getSchedules(ACCESS_TOKEN, 카테고리_ID, 외부_캘린더_ID, 오늘, 오늘.plusDays(7))
+                .join();
+    }
+
+    private static IntegrationSchedule 외부_일정(final String id, final String title,
+                                             final LocalDateTime startDateTime, final LocalDateTime endDateTime) {
+        return new IntegrationSchedule(id, 카테고리_ID, title, startDateTime, endDateTime, "", GOOGLE);
+    }
+
+    private static class ScriptedExternalCalendarClient implements ExternalCalendarClient {
+
+        private final List<IntegrationSchedule> schedules;
+        private final Queue<ExternalScheduleChanges> changes = new LinkedList<>();
+        private final List<String> syncTokens = new ArrayList<>();
+        private int fullSyncCount;
+        private String fullSyncToken = "first sync token";
+        private String fullSyncEndDateTime;
+        private int rangeRequestCount;
+        private boolean syncTokenExpired;
+        private boolean syncFailed;
+        private boolean accessTokenRejected;
+        private int failedSyncCount;
+
+        private ScriptedExternalCalendarClient(final List<IntegrationSchedule> schedules) {
+            this.schedules = schedules;
+        }
+
+        @Override
+        public List<ExternalCalendar> getExternalCalendars(final String accessToken) {
+            return List.of();
+        }
+
+        @Override
+        public List<IntegrationSchedule> getExternalCalendarSchedules(final String accessToken,
+                                                                      final Long internalCategoryId,
+                                                                      final String externalCalendarId,
+                                                                      final String startDateTime,
+                                                                      final String endDateTime) {
+            throw new UnsupportedOperationException();
+        }
+
+        private CompletableFuture<List<IntegrationSchedule>> requestRange(final String accessToken,
+                                                                          final Long internalCategoryId,
+                                                                          final String externalCalendarId,
+                                                                          final String startDateTime,
+                                                                          final String endDateTime) {
+            rangeRequestCount++;
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        @Override
+        public ExternalScheduleChanges syncExternalCalendarSchedules(final String accessToken,
+                                                                     final Long internalCategoryId,
+                                                                     final String externalCalendarId,
+                                                                     final String startDateTime,
+                                                                     final String endDateTime) {
+            fullSyncCount++;
+            fullSyncEndDateTime = endDateTime;
+            syncTokenExpired = false;
+            return new ExternalScheduleChanges(schedules, List.of(), fullSyncToken);
+        }
+
+        @Override
+        public ExternalScheduleChanges syncExternalCalendarScheduleChanges(final String accessToken,
+                                                                           final Long internalCategoryId,
+                                                                           final String externalCalendarId,
+                                                                           final String syncToken) {
+            if (accessTokenRejected) {
+                throw new InvalidOAuthAccessTokenException(new IllegalStateException());
+            }
+            if (syncFailed) {
+                failedSyncCount++;
+                throw new OAuthException();
+            }
+            if (syncTokenExpired) {
+                throw new ExpiredSyncTokenException(new IllegalStateException());
+            }
+            syncTokens.add(syncToken);
+            if (changes.isEmpty()) {
+                return new ExternalScheduleChanges(List.of(), List.of(), syncToken);
+            }
+            return changes.poll();
+        }
+
+        private void addChanges(final ExternalScheduleChanges externalScheduleChanges) {
+            changes.add(externalScheduleChanges);
+        }
+
+        private void failSync() {
+            this.syncFailed = true;
+        }
+
+        private void omitFullSyncToken() {
+            this.fullSyncToken = null;
+        }
+
+        private void rejectAccessToken() {
+            this.accessTokenRejected = true;
+        }
+
+        private void expireSyncToken() {
+            this.syncTokenExpired = true;
+        }
+
+        private List<String> getSyncTokens() {
+            return syncTokens;
+        }
+
+        private int getFullSyncCount() {
+            return fullSyncCount;
+        }
+
+        private String getFullSyncEndDateTime() {
+            return fullSyncEndDateTime;
+        }
+
+        private int getFailedSyncCount() {
+            return failedSyncCount;
+        }
+
+        private int getRangeRequestCount() {
+            return rangeRequestCount;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.allog.dallog.externalcalendar.application;
+
+import static com.allog.dallog.category.domain.CategoryType.GOOGLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class MonthlyExternalScheduleCacheTest {
+
+    private static final String ACCESS_TOKEN = "token";
+    private static final Long 카테고리_ID = 1L;
+    private static final String 외부_캘린더_ID = "calendar";
+
+    private static final IntegrationSchedule 팔월_일정 = 외부_일정("august",
+            LocalDateTime.of(2022, 8, 12, 14, 0), LocalDateTime.of(2022, 8, 12, 15, 0));
+    private static final IntegrationSchedule 팔월_말_일정 = 외부_일정("end of august",
+            LocalDateTime.of(2022, 8, 29, 0, 0), LocalDateTime.of(2022, 8, 30, 0, 0));
+    private static final IntegrationSchedule 달을_넘는_일정 = 외부_일정("across months",
+            LocalDateTime.of(2022, 8, 31, 0, 0), LocalDateTime.of(2022, 9, 2, 0, 0));
+    private static final IntegrationSchedule 구월_일정 = 외부_일정("september",
+            LocalDateTime.of(2022, 9, 15, 10, 0), LocalDateTime.of(2022, 9, 15, 11, 0));
+
+    private final RecordingExternalCalendarClient externalCalendarClient = new RecordingExternalCalendarClient(
+            List.of(팔월_일정, 팔월_말_일정, 달을_넘는_일정, 구월_일정));
+    private final MonthlyExternalScheduleCache monthlyExternalScheduleCache = new MonthlyExternalScheduleCache(
+            externalCalendarClient, new ConcurrentMapCacheManager());
+
+    @DisplayName("조회 구간에 겹치는 일정만 반환한다.")
+    @Test
+    void 조회_구간에_겹치는_일정만_반환한다() {
+        // given & when
+        List<IntegrationSchedule> actual = 조회한다(LocalDateTime.of(2022, 8, 7, 0, 0),
+                LocalDateTime.of(2022, 8, 13, 23, 59));
+
+        // then
+        assertThat(actual).containsExactly(팔월_일정);
+    }
+
+    @DisplayName("같은 달에 속한 구간은 외부 캘린더를 다시 호출하지 않는다.")
+    @Test
+    void 같은_달에_속한_구간은_외부_캘린더를_다시_호출하지_않는다() {
+        // given
+        조회한다(LocalDateTime.of(2022, 8, 7, 0, 0), LocalDateTime.of(2022, 8, 13, 23, 59));
+
+        // when
+        List<IntegrationSchedule> actual = 조회한다(LocalDateTime.of(2022, 8, 1, 0, 0),
+                LocalDateTime.of(2022, 8, 31, 23, 59));
+
+        // then
+        assertAll(() -> {
+            assertThat(actual).containsExactly(팔월_일정, 팔월_말_일정, 달을_넘는_일정);
+            assertThat(externalCalendarClient.getRequestedRanges()).hasSize(1);
+        });
+    }
+
+    @DisplayName("캐시에 없는 달만 외부 캘린더에서 가져온다.")
+    @Test
+    void 캐시에_없는_달만_외부_캘린더에서_가져온다() {
+        // given
+        조회한다(LocalDateTime.of(2022, 8, 1, 0, 0), LocalDateTime.of(2022, 8, 31, 23, 59));
+
+        // when
+        조회한다(LocalDateTime.of(2022, 8, 28, 0, 0), LocalDateTime.of(2022, 10, 8, 23, 59));
+
+        // then
+        assertThat(externalCalendarClient.getRequestedRanges()).containsExactly(
+                "2022-08-01T00:00:00~2022-09-01T00:00:00",
+                "2022-09-01T00:00:00~2022-11-01T00:00:00");
+    }
+
+    @DisplayName("여러 달에 걸친 일정은 한 번만 반환한다.")
+    @Test
+    void 여러_달에_걸친_일정은_한_번만_반환한다() {
+        // given & when
+        List<IntegrationSchedule> actual = 조회한다(LocalDateTime.of(2022, 8, 28, 0, 0),
+                LocalDateTime.of(2022, 10, 8, 23, 59));
+
+        // then
+        assertThat(actual).containsExactly(팔월_말_일정, 달을_넘는_일정, 구월_일정);
+    }
+
+    private List<IntegrationSchedule> 조회한다(final LocalDateTime startDateTime, final LocalDateTime endDateTime) {
+        return monthlyExternalScheduleCache.getSchedules(ACCESS_TOKEN, 카테고리_ID, 외부_캘린더_ID, startDateTime,
+                endDateTime).join();
+    }
+
+    private static IntegrationSchedule 외부_일정(final String id, final LocalDateTime startDateTime,
+                                             final LocalDateTime endDateTime) {
+        return new IntegrationSchedule(id, 카테고리_ID, id, startDateTime, endDateTime, "", GOOGLE);
+    }
+
+    private static class RecordingExternalCalendarClient implements AsyncExternalCalendarClient {
+
+        private final List<IntegrationSchedule> schedules;
+        private final List<String> requestedRanges = new ArrayList<>();
+
+        private RecordingExternalCalendarClient(final List<IntegrationSchedule> schedules) {
+            this.schedules = schedules;
+        }
+
+        @Override
+        public CompletableFuture<List<IntegrationSchedule>> getExternalCalendarSchedules(
+                final String accessToken, final Long internalCategoryId, final String externalCalendarId,
+                final String startDateTime, final String endDateTime) {
+            requestedRanges.add(startDateTime + "~" + endDateTime);
+            LocalDateTime start = LocalDateTime.parse(startDateTime);
+            LocalDateTime end = LocalDateTime.parse(endDateTime);
+            return CompletableFuture.completedFuture(schedules.stream()
+                    .filter(schedule -> schedule.getStartDateTime().isBefore(end)
+                            && schedule.getEndDateTime().isAfter(start))
+                    .collect(Collectors.toList()));
+        }
+
+        private List<String> getRequestedRanges() {
+            return requestedRanges;
+        }
+    }
+}
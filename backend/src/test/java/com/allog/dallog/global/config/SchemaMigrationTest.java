@@ -0,0 +1,71 @@
+package com.allog.dallog.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SchemaMigrationTest {
+
+    private static final String URL = "jdbc:h2:mem:migration;MODE=MYSQL;DB_CLOSE_DELAY=-1";
+    private static final String USERNAME = "sa";
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(URL, USERNAME, "")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        connection = DriverManager.getConnection(URL, USERNAME, "");
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @DisplayName("자주 쓰는 조회는 테이블 전체를 읽지 않고 인덱스를 탄다.")
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', value = {
+            "SELECT * FROM schedules WHERE categories_id IN (1, 2, 3) AND start_date_time <= NOW() "
+                    + "AND end_date_time >= NOW()|IDX_SCHEDULES_CATEGORIES_ID_START_END",
+            "SELECT * FROM subscriptions WHERE members_id = 1|",
+            "SELECT COUNT(*) FROM subscriptions WHERE members_id = 1 AND categories_id = 1"
+                    + "|IDX_SUBSCRIPTIONS_MEMBERS_ID_CATEGORIES_ID",
+            "SELECT * FROM category_roles WHERE members_id = 1 AND categories_id = 1"
+                    + "|IDX_CATEGORY_ROLES_MEMBERS_ID_CATEGORIES_ID",
+            "SELECT * FROM oauth_tokens WHERE members_id = 1|",
+            "SELECT * FROM members WHERE email = 'dallog@email.com'|IDX_MEMBERS_EMAIL",
+            "DELETE FROM refresh_tokens WHERE expired_at <= NOW()|IDX_REFRESH_TOKENS_EXPIRED_AT"
+    })
+    void 자주_쓰는_조회는_테이블_전체를_읽지_않고_인덱스를_탄다(final String query, final String index)
+            throws SQLException {
+        // given & when
+        String actual = explain(query);
+
+        // then
+        assertThat(actual).doesNotContainIgnoringCase("tableScan")
+                .containsIgnoringCase(Objects.requireNonNullElse(index, "_INDEX"));
+    }
+
+    private String explain(final String query) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + query)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.allog.dallog.global.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+class ExpiredCacheSweeperTest {
+
+    @DisplayName("캐시 매니저에 등록된 만료 캐시의 만료된 값을 제거한다.")
+    @Test
+    void 캐시_매니저에_등록된_만료_캐시의_만료된_값을_제거한다() {
+        // given
+        AtomicLong now = new AtomicLong();
+        ExpiringConcurrentMapCache expiringCache = new ExpiringConcurrentMapCache("expiring", 60, 100, 100,
+                value -> 1, now::get);
+        expiringCache.put("key", "value");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(expiringCache, new ConcurrentMapCache("plain")));
+        cacheManager.afterPropertiesSet();
+        ExpiredCacheSweeper expiredCacheSweeper = new ExpiredCacheSweeper(cacheManager);
+
+        // when
+        expiredCacheSweeper.sweep();
+
+        // then
+        assertThat(expiringCache.estimatedSize()).isZero();
+    }
+}
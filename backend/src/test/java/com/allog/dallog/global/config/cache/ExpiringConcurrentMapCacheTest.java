@@ -0,0 +1,195 @@
+package com.allog.dallog.global.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExpiringConcurrentMapCacheTest {
+
+    private static final long 만료_시간 = 60;
+
+    private final AtomicLong 현재_시각 = new AtomicLong();
+
+    @DisplayName("저장한 값을 조회하면 적중 횟수가 증가한다.")
+    @Test
+    void 저장한_값을_조회하면_적중_횟수가_증가한다() {
+        // given
+        ExpiringConcurrentMapCache cache = 캐시(100, 100);
+        cache.put("key", "value");
+
+        // when
+        Object actual = cache.get("key").get();
+
+        // then
+        assertAll(() -> {
+            assertThat(actual).isEqualTo("value");
+            assertThat(cache.getHitCount()).isEqualTo(1);
+            assertThat(cache.getMissCount()).isZero();
+        });
+    }
+
+    @DisplayName("만료된 값은 조회되지 않고 제거된다.")
+    @Test
+    void 만료된_값은_조회되지_않고_제거된다() {
+        // given
+        ExpiringConcurrentMapCache cache = 캐시(100, 100);
+        cache.put("key", "value");
+
+        // when
+        현재_시각.addAndGet(TimeUnit.SECONDS.toNanos(만료_시간));
+
+        // then
+        assertAll(() -> {
+            assertThat(cache.get("key")).isNull();
+            assertThat(cache.getMissCount()).isEqualTo(1);
+            assertThat(cache.estimatedSize()).isZero();
+            assertThat(cache.getWeightedSize()).isZero();
+        });
+    }
+
+    @DisplayName("최대 항목 수를 넘으면 항목을 제거한다.")
+    @Test
+    void 최대_항목_수를_넘으면_항목을_제거한다() {
+        // given
+        ExpiringConcurrentMapCache cache = 캐시(10, 1000);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, i);
+        }
+
+        // then
+        assertAll(() -> {
+            assertThat(cache.estimatedSize()).isEqualTo(10);
+            assertThat(cache.getEvictionCount()).isEqualTo(90);
+        });
+    }
+
+    @DisplayName("최대 가중치 합을 넘으면 항목을 제거한다.")
+    @Test
+    void 최대_가중치_합을_넘으면_항목을_제거한다() {
+        // given
+        ExpiringConcurrentMapCache cache = 캐시(100, 10);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            cache.put(i, List.of(1, 2, 3));
+        }
+
+        // then
+        assertThat(cache.getWeightedSize()).isLessThanOrEqualTo(10);
+    }
+
+    @DisplayName("자주 조회된 항목은 한 번만 쓰인 항목들이 몰려와도 남는다.")
+    @Test
+    void 자주_조회된_항목은_한_번만_쓰인_항목들이_몰려와도_남는다() {
+        // given
+        ExpiringConcurrentMapCache cache = 캐시(10, 1000);
+        cache.put("hot", "value");
+        for (int i = 0; i < 10; i++) {
+            cache.get("hot");
+        }
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, i);
+        }
+
+        // then
+        assertThat(cache.get("hot")).isNotNull();
+    }
+
+    @DisplayName("만료된 값을 모두 제거한다.")
+    @Test
+    void 만료된_값을_모두_제거한다() {
+        // given
+        ExpiringConcurrentMapCache cache = 캐시(100, 100);
+        cache.put("expired", "value");
+        현재_시각.addAndGet(TimeUnit.SECONDS.toNanos(만료_시간));
+        cache.put("alive", "value");
+
+        // when
+        cache.evictAllExpired();
+
+        // then
+        assertAll(() -> {
+            assertThat(cache.estimatedSize()).isEqualTo(1);
+            assertThat(cache.get("alive")).isNotNull();
+        });
+    }
+
+    @DisplayName("만료된 값을 정리할 때 자주 조회된 항목도 만료 시각에 맞춰 제거한다.")
+    @Test
+    void 만료된_값을_정리할_때_자주_조회된_항목도_만료_시각에_맞춰_제거한다() {
+        // given
+        ExpiringConcurrentMapCache cache = 캐시(1000, 1000);
+        cache.put("hot", "value");
+        for (int i = 0; i < 10; i++) {
+            cache.get("hot");
+        }
+        현재_시각.addAndGet(TimeUnit.SECONDS.toNanos(만료_시간 / 2));
+        for (int i = 0; i < 500; i++) {
+            cache.put(i, i);
+        }
+        현재_시각.addAndGet(TimeUnit.SECONDS.toNanos(만료_시간 / 2));
+
+        // when
+        int actual = cache.evictAllExpired();
+
+        // then
+        assertAll(() -> {
+            assertThat(actual).isEqualTo(1);
+            assertThat(cache.estimatedSize()).isEqualTo(500);
+            assertThat(cache.getWeightedSize()).isEqualTo(500);
+        });
+    }
+
+    @DisplayName("한 번에 정리할 수 있는 양보다 많이 만료되어도 모두 제거한다.")
+    @Test
+    void 한_번에_정리할_수_있는_양보다_많이_만료되어도_모두_제거한다() {
+        // given
+        ExpiringConcurrentMapCache cache = 캐시(10000, 10000);
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+        }
+        현재_시각.addAndGet(TimeUnit.SECONDS.toNanos(만료_시간));
+
+        // when
+        int actual = cache.evictAllExpired();
+
+        // then
+        assertAll(() -> {
+            assertThat(actual).isEqualTo(1000);
+            assertThat(cache.estimatedSize()).isZero();
+            assertThat(cache.getWeightedSize()).isZero();
+        });
+    }
+
+    @DisplayName("캐시에 없는 값을 불러오면 저장하고 불러온 횟수를 센다.")
+    @Test
+    void 캐시에_없는_값을_불러오면_저장하고_불러온_횟수를_센다() {
+        // given
+        ExpiringConcurrentMapCache cache = 캐시(100, 100);
+
+        // when
+        String first = cache.get("key", () -> "loaded");
+        String second = cache.get("key", () -> "reloaded");
+
+        // then
+        assertAll(() -> {
+            assertThat(first).isEqualTo("loaded");
+            assertThat(second).isEqualTo("loaded");
+            assertThat(cache.getLoadCount()).isEqualTo(1);
+        });
+    }
+
+    private ExpiringConcurrentMapCache 캐시(final long maximumSize, final long maximumWeight) {
+        return new ExpiringConcurrentMapCache("test", 만료_시간, maximumSize, maximumWeight,
+                value -> value instanceof List ? ((List<?>) value).size() : 1, 현재_시각::get);
+    }
+}
@@ -0,0 +1,61 @@
+package com.allog.dallog.global.config.replication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DataSourcePoolCustomizerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSourcePoolCustomizer poolCustomizer = new DataSourcePoolCustomizer(meterRegistry, 4, 3000,
+            20000, 250);
+
+    @DisplayName("풀 크기와 누수 감지, prepared statement 캐시를 설정한다.")
+    @Test
+    void 풀_크기와_누수_감지_prepared_statement_캐시를_설정한다() {
+        // given & when
+        try (HikariDataSource actual = poolCustomizer.create(DataSourceKey.replica(1))) {
+            // then
+            assertAll(() -> {
+                assertThat(actual.getPoolName()).isEqualTo("REPLICA_1");
+                assertThat(actual.getMaximumPoolSize()).isEqualTo(4);
+                assertThat(actual.getMinimumIdle()).isEqualTo(4);
+                assertThat(actual.getLeakDetectionThreshold()).isEqualTo(20000);
+                assertThat(actual.getDataSourceProperties())
+                        .containsEntry("useServerPrepStmts", "true")
+                        .containsEntry("prepStmtCacheSize", "250")
+                        .containsEntry("rewriteBatchedStatements", "true");
+            });
+        }
+    }
+
+    @DisplayName("풀 지표에 데이터 소스 키를 태그로 붙인다.")
+    @Test
+    void 풀_지표에_데이터_소스_키를_태그로_붙인다() throws SQLException {
+        // given
+        try (HikariDataSource dataSource = poolCustomizer.create(DataSourceKey.replica(1))) {
+            dataSource.setJdbcUrl("jdbc:h2:mem:pool");
+            dataSource.getDataSourceProperties().clear();
+
+            // when
+            try (Connection connection = dataSource.getConnection()) {
+                // then
+                assertAll(() -> {
+                    assertThat(connection.isValid(1)).isTrue();
+                    assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "REPLICA_1").gauge())
+                            .isNotNull();
+                    assertThat(meterRegistry.find("hikaricp.connections.pending").tag("pool", "REPLICA_1").gauge())
+                            .isNotNull();
+                    assertThat(meterRegistry.find("hikaricp.connections.acquire").tag("pool", "REPLICA_1").timer())
+                            .isNotNull();
+                });
+            }
+        }
+    }
+}
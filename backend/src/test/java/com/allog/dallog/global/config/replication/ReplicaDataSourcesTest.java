@@ -0,0 +1,77 @@
+package com.allog.dallog.global.config.replication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+class ReplicaDataSourcesTest {
+
+    private final DataSourcePoolCustomizer poolCustomizer = new DataSourcePoolCustomizer(new SimpleMeterRegistry(),
+            2, 3000, 0, 250);
+
+    @DisplayName("설정에 적힌 만큼 레플리카를 만든다.")
+    @Test
+    void 설정에_적힌_만큼_레플리카를_만든다() {
+        // given
+        Binder binder = new Binder(new MapConfigurationPropertySource(Map.of(
+                "spring.datasource.replicas[0].jdbc-url", "jdbc:h2:mem:replica1",
+                "spring.datasource.replicas[1].jdbc-url", "jdbc:h2:mem:replica2",
+                "spring.datasource.replicas[2].jdbc-url", "jdbc:h2:mem:replica3")));
+
+        // when
+        try (ReplicaDataSources actual = ReplicaDataSources.bind(binder, poolCustomizer)) {
+            // then
+            assertThat(actual.getKeys()).containsExactly(DataSourceKey.replica(1), DataSourceKey.replica(2),
+                    DataSourceKey.replica(3));
+        }
+    }
+
+    @DisplayName("레플리카 목록이 없으면 예전 설정 키로 레플리카를 만든다.")
+    @Test
+    void 레플리카_목록이_없으면_예전_설정_키로_레플리카를_만든다() {
+        // given
+        Binder binder = new Binder(new MapConfigurationPropertySource(Map.of(
+                "spring.datasource.replica1.jdbc-url", "jdbc:h2:mem:replica1",
+                "spring.datasource.replica2.jdbc-url", "jdbc:h2:mem:replica2")));
+
+        // when
+        try (ReplicaDataSources actual = ReplicaDataSources.bind(binder, poolCustomizer)) {
+            // then
+            assertThat(actual.getKeys()).containsExactly(DataSourceKey.replica(1), DataSourceKey.replica(2));
+        }
+    }
+
+    @DisplayName("레플리카 목록이 있으면 예전 설정 키는 읽지 않는다.")
+    @Test
+    void 레플리카_목록이_있으면_예전_설정_키는_읽지_않는다() {
+        // given
+        Binder binder = new Binder(new MapConfigurationPropertySource(Map.of(
+                "spring.datasource.replicas[0].jdbc-url", "jdbc:h2:mem:replica1",
+                "spring.datasource.replica1.jdbc-url", "jdbc:h2:mem:legacy1",
+                "spring.datasource.replica2.jdbc-url", "jdbc:h2:mem:legacy2")));
+
+        // when
+        try (ReplicaDataSources actual = ReplicaDataSources.bind(binder, poolCustomizer)) {
+            // then
+            assertThat(actual.getKeys()).containsExactly(DataSourceKey.replica(1));
+        }
+    }
+
+    @DisplayName("레플리카 설정이 없으면 레플리카를 만들지 않는다.")
+    @Test
+    void 레플리카_설정이_없으면_레플리카를_만들지_않는다() {
+        // given
+        Binder binder = new Binder(new MapConfigurationPropertySource(Map.of()));
+
+        // when
+        try (ReplicaDataSources actual = ReplicaDataSources.bind(binder, poolCustomizer)) {
+            // then
+            assertThat(actual.getKeys()).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.allog.dallog.global.config.replication;
+
+import static com.allog.dallog.global.config.replication.DataSourceKey.SOURCE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReplicaSelectorTest {
+
+    private static final DataSourceKey REPLICA_1 = DataSourceKey.replica(1);
+    private static final DataSourceKey REPLICA_2 = DataSourceKey.replica(2);
+    private static final DataSourceKey REPLICA_3 = DataSourceKey.replica(3);
+    private static final long MAX_LAG_SECONDS = 5;
+    private static final int FAILURE_THRESHOLD = 2;
+
+    private ReplicaSelector replicaSelector = 레플리카_선택기("latency-weighted", REPLICA_1, REPLICA_2);
+
+    @DisplayName("연속으로 실패한 레플리카는 고르지 않는다.")
+    @Test
+    void 연속으로_실패한_레플리카는_고르지_않는다() {
+        // given
+        실패한다(REPLICA_1, FAILURE_THRESHOLD);
+
+        // when
+        Map<DataSourceKey, Integer> actual = 여러_번_고른다(100);
+
+        // then
+        assertThat(actual).containsOnlyKeys(REPLICA_2);
+    }
+
+    @DisplayName("복제 지연이 허용 범위를 넘은 레플리카는 고르지 않는다.")
+    @Test
+    void 복제_지연이_허용_범위를_넘은_레플리카는_고르지_않는다() {
+        // given
+        replicaSelector.recordSuccess(REPLICA_2, 1_000_000, MAX_LAG_SECONDS + 1);
+
+        // when
+        Map<DataSourceKey, Integer> actual = 여러_번_고른다(100);
+
+        // then
+        assertThat(actual).containsOnlyKeys(REPLICA_1);
+    }
+
+    @DisplayName("모든 레플리카를 쓸 수 없으면 소스를 고른다.")
+    @Test
+    void 모든_레플리카를_쓸_수_없으면_소스를_고른다() {
+        // given
+        실패한다(REPLICA_1, FAILURE_THRESHOLD);
+        replicaSelector.recordSuccess(REPLICA_2, 1_000_000, ReplicaStatus.UNKNOWN_LAG);
+
+        // when
+        DataSourceKey actual = replicaSelector.select();
+
+        // then
+        assertThat(actual).isEqualTo(SOURCE);
+    }
+
+    @DisplayName("응답이 빠른 레플리카를 더 자주 고른다.")
+    @Test
+    void 응답이_빠른_레플리카를_더_자주_고른다() {
+        // given
+        replicaSelector.recordSuccess(REPLICA_1, 1_000_000, 0);
+        replicaSelector.recordSuccess(REPLICA_2, 20_000_000, 0);
+
+        // when
+        Map<DataSourceKey, Integer> actual = 여러_번_고른다(10_000);
+
+        // then
+        assertThat(actual.get(REPLICA_1)).isGreaterThan(actual.getOrDefault(REPLICA_2, 0) * 5);
+    }
+
+    @DisplayName("실패했던 레플리카도 한 번 성공하면 다시 고른다.")
+    @Test
+    void 실패했던_레플리카도_한_번_성공하면_다시_고른다() {
+        // given
+        실패한다(REPLICA_1, FAILURE_THRESHOLD);
+
+        // when
+        replicaSelector.recordSuccess(REPLICA_1, 1_000_000, 0);
+
+        // then
+        assertThat(replicaSelector.isAvailable(REPLICA_1)).isTrue();
+    }
+
+    @DisplayName("라운드 로빈은 레플리카를 고르게 돌아가며 고른다.")
+    @Test
+    void 라운드_로빈은_레플리카를_고르게_돌아가며_고른다() {
+        // given
+        replicaSelector = 레플리카_선택기("round-robin", REPLICA_1, REPLICA_2, REPLICA_3);
+
+        // when
+        Map<DataSourceKey, Integer> actual = 여러_번_고른다(300);
+
+        // then
+        assertThat(actual).containsExactlyInAnyOrderEntriesOf(Map.of(REPLICA_1, 100, REPLICA_2, 100, REPLICA_3, 100));
+    }
+
+    @DisplayName("라운드 로빈은 쓸 수 없는 레플리카를 건너뛴다.")
+    @Test
+    void 라운드_로빈은_쓸_수_없는_레플리카를_건너뛴다() {
+        // given
+        replicaSelector = 레플리카_선택기("round-robin", REPLICA_1, REPLICA_2, REPLICA_3);
+        실패한다(REPLICA_2, FAILURE_THRESHOLD);
+
+        // when
+        Map<DataSourceKey, Integer> actual = 여러_번_고른다(300);
+
+        // then
+        assertThat(actual).containsOnlyKeys(REPLICA_1, REPLICA_3);
+    }
+
+    @DisplayName("두 개 중 하나를 고르면 가장 느린 레플리카는 고르지 않는다.")
+    @Test
+    void 두_개_중_하나를_고르면_가장_느린_레플리카는_고르지_않는다() {
+        // given
+        replicaSelector = 레플리카_선택기("power-of-two", REPLICA_1, REPLICA_2, REPLICA_3);
+        replicaSelector.recordSuccess(REPLICA_1, 1_000_000, 0);
+        replicaSelector.recordSuccess(REPLICA_2, 2_000_000, 0);
+        replicaSelector.recordSuccess(REPLICA_3, 50_000_000, 0);
+
+        // when
+        Map<DataSourceKey, Integer> actual = 여러_번_고른다(1_000);
+
+        // then
+        assertThat(actual).containsOnlyKeys(REPLICA_1, REPLICA_2);
+    }
+
+    @DisplayName("두 개 중 하나를 고를 때 뽑은 둘 다 쓸 수 없으면 다른 레플리카를 고른다.")
+    @Test
+    void 두_개_중_하나를_고를_때_뽑은_둘_다_쓸_수_없으면_다른_레플리카를_고른다() {
+        // given
+        replicaSelector = 레플리카_선택기("power-of-two", REPLICA_1, REPLICA_2, REPLICA_3);
+        실패한다(REPLICA_1, FAILURE_THRESHOLD);
+        실패한다(REPLICA_2, FAILURE_THRESHOLD);
+
+        // when
+        Map<DataSourceKey, Integer> actual = 여러_번_고른다(100);
+
+        // then
+        assertThat(actual).containsOnlyKeys(REPLICA_3);
+    }
+
+    private ReplicaSelector 레플리카_선택기(final String selectionStrategy, final DataSourceKey... replicas) {
+        return new ReplicaSelector(List.of(replicas), selectionStrategy, MAX_LAG_SECONDS, 0.5, FAILURE_THRESHOLD);
+    }
+
+    private void 실패한다(final DataSourceKey replica, final int count) {
+        for (int i = 0; i < count; i++) {
+            replicaSelector.recordFailure(replica);
+        }
+    }
+
+    private Map<DataSourceKey, Integer> 여러_번_고른다(final int count) {
+        Map<DataSourceKey, Integer> selected = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            selected.merge(replicaSelector.select(), 1, Integer::sum);
+        }
+        return selected;
+    }
+}
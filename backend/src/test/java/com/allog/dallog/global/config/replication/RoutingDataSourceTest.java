@@ -0,0 +1,99 @@
+package com.allog.dallog.global.config.replication;
+
+import static com.allog.dallog.global.config.replication.DataSourceKey.SOURCE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class RoutingDataSourceTest {
+
+    private static final DataSourceKey REPLICA = DataSourceKey.replica(1);
+    private static final Long 회원_ID = 1L;
+    private static final Long 다른_회원_ID = 2L;
+
+    private final ReplicaSelector replicaSelector = new ReplicaSelector(List.of(REPLICA), "round-robin", 5, 0.5,
+            2);
+    private final RecentWrites recentWrites = new RecentWrites(60_000);
+    private final RoutingDataSource routingDataSource = new RoutingDataSource(replicaSelector, recentWrites);
+
+    @AfterEach
+    void tearDown() {
+        ConsistencySession.clear();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 레플리카로 보낸다.")
+    @Test
+    void 읽기_전용_트랜잭션은_레플리카로_보낸다() {
+        // given
+        ConsistencySession.bind(회원_ID);
+
+        // when
+        Object actual = 트랜잭션에서_고른다(true);
+
+        // then
+        assertThat(actual).isEqualTo(REPLICA);
+    }
+
+    @DisplayName("방금 쓴 회원의 읽기는 소스로 보낸다.")
+    @Test
+    void 방금_쓴_회원의_읽기는_소스로_보낸다() {
+        // given
+        ConsistencySession.bind(회원_ID);
+        트랜잭션에서_고른다(false);
+
+        // when
+        Object actual = 트랜잭션에서_고른다(true);
+
+        // then
+        assertThat(actual).isEqualTo(SOURCE);
+    }
+
+    @DisplayName("다른 회원이 쓴 직후에도 읽기는 레플리카로 보낸다.")
+    @Test
+    void 다른_회원이_쓴_직후에도_읽기는_레플리카로_보낸다() {
+        // given
+        ConsistencySession.bind(다른_회원_ID);
+        트랜잭션에서_고른다(false);
+        ConsistencySession.bind(회원_ID);
+
+        // when
+        Object actual = 트랜잭션에서_고른다(true);
+
+        // then
+        assertThat(actual).isEqualTo(REPLICA);
+    }
+
+    @DisplayName("쓰기 이후까지 따라온 레플리카가 있으면 그 레플리카로 보낸다.")
+    @Test
+    void 쓰기_이후까지_따라온_레플리카가_있으면_그_레플리카로_보낸다() {
+        // given
+        ConsistencySession.bind(회원_ID);
+        recentWrites.record(회원_ID, System.currentTimeMillis() - 10_000);
+        replicaSelector.recordSuccess(REPLICA, 1_000_000, 0);
+
+        // when
+        Object actual = 트랜잭션에서_고른다(true);
+
+        // then
+        assertThat(actual).isEqualTo(REPLICA);
+    }
+
+    private Object 트랜잭션에서_고른다(final boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        try {
+            Object key = routingDataSource.determineCurrentLookupKey();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            return key;
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.allog.dallog.infrastructure.oauth.client;
+
+import static com.allog.dallog.category.domain.CategoryType.GOOGLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.allog.dallog.infrastructure.oauth.dto.GoogleCalendarEventsPage;
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GoogleCalendarEventsParserTest {
+
+    private final GoogleCalendarEventsParser googleCalendarEventsParser = new GoogleCalendarEventsParser();
+
+    @DisplayName("일정 목록 응답을 통합 일정으로 변환한다.")
+    @Test
+    void 일정_목록_응답을_통합_일정으로_변환한다() throws IOException {
+        // given
+        String body = "{\"kind\": \"calendar#events\", \"items\": ["
+                + "{\"id\": \"timed\", \"summary\": \"포수타\", \"description\": \"메모\", \"creator\": {\"self\": true},"
+                + " \"start\": {\"dateTime\": \"2022-08-12T14:00:00+09:00\", \"timeZone\": \"Asia/Seoul\"},"
+                + " \"end\": {\"dateTime\": \"2022-08-12T14:30:00+09:00\"}},"
+                + "{\"id\": \"all-day\", \"start\": {\"date\": \"2022-08-20\"}, \"end\": {\"date\": \"2022-08-21\"}}"
+                + "], \"nextPageToken\": \"next page\"}";
+
+        // when
+        GoogleCalendarEventsPage actual = googleCalendarEventsParser.parse(toInputStream(body), 1L);
+
+        // then
+        assertAll(() -> {
+            assertThat(actual.getSchedules()).containsExactly(
+                    new IntegrationSchedule("timed", 1L, "포수타", LocalDateTime.of(2022, 8, 12, 14, 0),
+                            LocalDateTime.of(2022, 8, 12, 14, 30), "메모", GOOGLE),
+                    new IntegrationSchedule("all-day", 1L, "", LocalDateTime.of(2022, 8, 20, 0, 0),
+                            LocalDateTime.of(2022, 8, 21, 0, 0), "", GOOGLE));
+            assertThat(actual.hasNextPage()).isTrue();
+            assertThat(actual.getNextPageToken()).isEqualTo("next page");
+        });
+    }
+
+    @DisplayName("취소된 일정은 식별자만 따로 담는다.")
+    @Test
+    void 취소된_일정은_식별자만_따로_담는다() throws IOException {
+        // given
+        String body = "{\"items\": [{\"id\": \"cancelled\", \"status\": \"cancelled\"}],"
+                + " \"nextSyncToken\": \"sync token\"}";
+
+        // when
+        GoogleCalendarEventsPage actual = googleCalendarEventsParser.parse(toInputStream(body), 1L);
+
+        // then
+        assertAll(() -> {
+            assertThat(actual.getSchedules()).isEmpty();
+            assertThat(actual.getCancelledScheduleIds()).containsExactly("cancelled");
+            assertThat(actual.hasNextPage()).isFalse();
+            assertThat(actual.getNextSyncToken()).isEqualTo("sync token");
+        });
+    }
+
+    @DisplayName("JSON 객체가 아닌 응답이면 예외를 던진다.")
+    @Test
+    void JSON_객체가_아닌_응답이면_예외를_던진다() {
+        // given
+        String body = "[]";
+
+        // when & then
+        assertThatThrownBy(() -> googleCalendarEventsParser.parse(toInputStream(body), 1L))
+                .isInstanceOf(IOException.class);
+    }
+
+    private InputStream toInputStream(final String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,21 @@
+package com.allog.dallog.infrastructure.oauth.client;
+
+import static com.allog.dallog.common.fixtures.IntegrationScheduleFixtures.레벨3_방학;
+import static com.allog.dallog.common.fixtures.IntegrationScheduleFixtures.포수타;
+
+import com.allog.dallog.externalcalendar.application.AsyncExternalCalendarClient;
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class StubAsyncExternalCalendarClient implements AsyncExternalCalendarClient {
+
+    @Override
+    public CompletableFuture<List<IntegrationSchedule>> getExternalCalendarSchedules(final String accessToken,
+                                                                                     final Long internalCategoryId,
+                                                                                     final String externalCalendarId,
+                                                                                     final String startDateTime,
+                                                                                     final String endDateTime) {
+        return CompletableFuture.completedFuture(List.of(포수타, 레벨3_방학));
+    }
+}
@@ -8,6 +8,7 @@ import static com.allog.dallog.common.fixtures.IntegrationScheduleFixtures.포
 
 import com.allog.dallog.externalcalendar.application.ExternalCalendarClient;
 import com.allog.dallog.externalcalendar.dto.ExternalCalendar;
+import com.allog.dallog.externalcalendar.dto.ExternalScheduleChanges;
 import com.allog.dallog.schedule.domain.IntegrationSchedule;
 import java.util.List;
 
@@ -26,4 +27,21 @@ public class StubExternalCalendarClient implements ExternalCalendarClient {
                                                                   final String endDateTime) {
         return List.of(포수타, 레벨3_방학);
     }
+
+    @Override
+    public ExternalScheduleChanges syncExternalCalendarSchedules(final String accessToken,
+                                                                 final Long internalCategoryId,
+                                                                 final String externalCalendarId,
+                                                                 final String startDateTime,
+                                                                 final String endDateTime) {
+        return new ExternalScheduleChanges(List.of(포수타, 레벨3_방학), List.of(), "sync token");
+    }
+
+    @Override
+    public ExternalScheduleChanges syncExternalCalendarScheduleChanges(final String accessToken,
+                                                                       final Long internalCategoryId,
+                                                                       final String externalCalendarId,
+                                                                       final String syncToken) {
+        return new ExternalScheduleChanges(List.of(), List.of(), syncToken);
+    }
 }
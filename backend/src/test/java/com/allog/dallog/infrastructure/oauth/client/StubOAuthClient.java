@@ -16,6 +16,6 @@ public class StubOAuthClient implements OAuthClient {
 
     @Override
     public OAuthAccessTokenResponse getAccessToken(final String refreshToken) {
-        return new OAuthAccessTokenResponse(STUB_OAUTH_ACCESS_TOKEN);
+        return new OAuthAccessTokenResponse(STUB_OAUTH_ACCESS_TOKEN, 3599);
     }
 }
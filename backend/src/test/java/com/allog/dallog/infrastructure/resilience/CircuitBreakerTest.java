@@ -0,0 +1,135 @@
+package com.allog.dallog.infrastructure.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.allog.dallog.infrastructure.resilience.CircuitBreaker.State;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private static final Duration 대기_시간 = Duration.ofSeconds(30);
+
+    private final MutableClock clock = new MutableClock();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker("google", 50, 4, 4, 대기_시간, 1, clock);
+
+    @DisplayName("실패율이 기준을 넘으면 호출을 막는다.")
+    @Test
+    void 실패율이_기준을_넘으면_호출을_막는다() {
+        // given
+        호출한다(true, false, true, false);
+
+        // when
+        boolean actual = circuitBreaker.tryAcquirePermission();
+
+        // then
+        assertAll(() -> {
+            assertThat(actual).isFalse();
+            assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+        });
+    }
+
+    @DisplayName("최소 호출 수를 채우기 전에는 실패해도 막지 않는다.")
+    @Test
+    void 최소_호출_수를_채우기_전에는_실패해도_막지_않는다() {
+        // given
+        호출한다(false, false, false);
+
+        // when
+        boolean actual = circuitBreaker.tryAcquirePermission();
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @DisplayName("오래된 결과는 잊고 최근 결과로만 실패율을 계산한다.")
+    @Test
+    void 오래된_결과는_잊고_최근_결과로만_실패율을_계산한다() {
+        // given
+        호출한다(true, true, true, false);
+
+        // when
+        호출한다(false);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @DisplayName("대기 시간이 지나면 시험 호출을 허용하고, 성공하면 다시 연다.")
+    @Test
+    void 대기_시간이_지나면_시험_호출을_허용하고_성공하면_다시_연다() {
+        // given
+        호출한다(false, false, false, false);
+        clock.plus(대기_시간);
+
+        // when
+        boolean trial = circuitBreaker.tryAcquirePermission();
+        boolean second = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertAll(() -> {
+            assertThat(trial).isTrue();
+            assertThat(second).isFalse();
+            assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+        });
+    }
+
+    @DisplayName("시험 호출이 실패하면 다시 막는다.")
+    @Test
+    void 시험_호출이_실패하면_다시_막는다() {
+        // given
+        호출한다(false, false, false, false);
+        clock.plus(대기_시간);
+        circuitBreaker.tryAcquirePermission();
+
+        // when
+        circuitBreaker.onFailure();
+
+        // then
+        assertAll(() -> {
+            assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+            assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        });
+    }
+
+    private void 호출한다(final boolean... successes) {
+        for (boolean success : successes) {
+            circuitBreaker.tryAcquirePermission();
+            if (success) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure();
+            }
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2022-08-01T00:00:00Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        private void plus(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.allog.dallog.infrastructure.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.allog.dallog.infrastructure.resilience.CircuitBreaker.State;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UpstreamGuardTest {
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker("google", 50, 4, 3, Duration.ofMinutes(1), 1,
+            Clock.systemUTC());
+    private final Bulkhead bulkhead = new Bulkhead("google", 1);
+    private final UpstreamGuard upstreamGuard = new UpstreamGuard(circuitBreaker, bulkhead,
+            new JitteredBackoff(Duration.ZERO, Duration.ZERO), 3,
+            e -> e instanceof UpstreamException,
+            e -> e instanceof UpstreamException && ((UpstreamException) e).retryable);
+
+    @DisplayName("재시도할 수 있는 실패는 최대 시도 횟수까지 다시 시도한다.")
+    @Test
+    void 재시도할_수_있는_실패는_최대_시도_횟수까지_다시_시도한다() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String actual = upstreamGuard.call(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new UpstreamException(true);
+            }
+            return "성공";
+        });
+
+        // then
+        assertAll(() -> {
+            assertThat(actual).isEqualTo("성공");
+            assertThat(attempts).hasValue(3);
+        });
+    }
+
+    @DisplayName("재시도할 수 없는 실패는 바로 던진다.")
+    @Test
+    void 재시도할_수_없는_실패는_바로_던진다() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertAll(() -> {
+            assertThatThrownBy(() -> upstreamGuard.call(() -> {
+                attempts.incrementAndGet();
+                throw new UpstreamException(false);
+            })).isInstanceOf(UpstreamException.class);
+            assertThat(attempts).hasValue(1);
+        });
+    }
+
+    @DisplayName("서킷이 열리면 업스트림을 호출하지 않고 거절한다.")
+    @Test
+    void 서킷이_열리면_업스트림을_호출하지_않고_거절한다() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        assertThatThrownBy(() -> upstreamGuard.call(() -> {
+            attempts.incrementAndGet();
+            throw new UpstreamException(true);
+        })).isInstanceOf(UpstreamException.class);
+
+        // when & then
+        assertAll(() -> {
+            assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+            assertThat(attempts).hasValue(3);
+            assertThatThrownBy(() -> upstreamGuard.call(() -> "성공"))
+                    .isInstanceOf(CallNotPermittedException.class);
+        });
+    }
+
+    @DisplayName("업스트림 장애가 아닌 실패는 서킷의 실패로 기록하지 않는다.")
+    @Test
+    void 업스트림_장애가_아닌_실패는_서킷의_실패로_기록하지_않는다() {
+        // given & when
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> upstreamGuard.call(() -> {
+                throw new IllegalArgumentException();
+            })).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @DisplayName("시험 호출이 업스트림 장애가 아닌 이유로 실패하면 서킷을 닫지 않고 다음 시험 호출을 허락한다.")
+    @Test
+    void 시험_호출이_업스트림_장애가_아닌_이유로_실패하면_서킷을_닫지_않고_다음_시험_호출을_허락한다() {
+        // given
+        CircuitBreaker circuitBreaker = new CircuitBreaker("google", 50, 4, 3, Duration.ZERO, 1, Clock.systemUTC());
+        UpstreamGuard upstreamGuard = new UpstreamGuard(circuitBreaker, new Bulkhead("google", 1),
+                new JitteredBackoff(Duration.ZERO, Duration.ZERO), 1, e -> e instanceof UpstreamException,
+                e -> false);
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> upstreamGuard.call(() -> {
+                throw new UpstreamException(false);
+            })).isInstanceOf(UpstreamException.class);
+        }
+
+        // when
+        assertThatThrownBy(() -> upstreamGuard.call(() -> {
+            throw new IllegalArgumentException();
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        // then
+        assertAll(() -> {
+            assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+            assertThat(upstreamGuard.call(() -> "성공")).isEqualTo("성공");
+            assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+        });
+    }
+
+    @DisplayName("동시 요청 자리가 없으면 기다리지 않고 거절한다.")
+    @Test
+    void 동시_요청_자리가_없으면_기다리지_않고_거절한다() {
+        // given
+        CompletableFuture<String> inFlight = new CompletableFuture<>();
+        upstreamGuard.callAsync(() -> inFlight);
+
+        // when
+        CompletableFuture<String> actual = upstreamGuard.callAsync(() -> CompletableFuture.completedFuture("성공"));
+
+        // then
+        assertAll(() -> {
+            assertThatThrownBy(actual::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(CallNotPermittedException.class);
+            inFlight.complete("완료");
+            assertThat(bulkhead.getAvailableConcurrentCalls()).isEqualTo(1);
+        });
+    }
+
+    @DisplayName("비동기 요청도 재시도할 수 있는 실패는 다시 시도한다.")
+    @Test
+    void 비동기_요청도_재시도할_수_있는_실패는_다시_시도한다() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String actual = upstreamGuard.<String>callAsync(() -> {
+            if (attempts.incrementAndGet() < 2) {
+                return CompletableFuture.failedFuture(new UpstreamException(true));
+            }
+            return CompletableFuture.completedFuture("성공");
+        }).join();
+
+        // then
+        assertAll(() -> {
+            assertThat(actual).isEqualTo("성공");
+            assertThat(attempts).hasValue(2);
+        });
+    }
+
+    private static class UpstreamException extends RuntimeException {
+
+        private final boolean retryable;
+
+        private UpstreamException(final boolean retryable) {
+            this.retryable = retryable;
+        }
+    }
+}
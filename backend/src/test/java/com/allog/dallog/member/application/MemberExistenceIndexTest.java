@@ -0,0 +1,70 @@
+package com.allog.dallog.member.application;
+
+import static com.allog.dallog.common.fixtures.MemberFixtures.파랑_이름;
+import static com.allog.dallog.common.fixtures.MemberFixtures.파랑_이메일;
+import static com.allog.dallog.common.fixtures.MemberFixtures.파랑_프로필;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.allog.dallog.auth.dto.OAuthMember;
+import com.allog.dallog.common.annotation.ServiceTest;
+import com.allog.dallog.member.exception.NoSuchMemberException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class MemberExistenceIndexTest extends ServiceTest {
+
+    private final OAuthMember 파랑 = new OAuthMember(파랑_이메일, 파랑_이름, 파랑_프로필, "refresh token");
+
+    @Autowired
+    private MemberExistenceIndex memberExistenceIndex;
+
+    @DisplayName("가입한 회원은 색인에 담긴다.")
+    @Test
+    void 가입한_회원은_색인에_담긴다() {
+        // given & when
+        Long memberId = toMemberId(파랑);
+
+        // then
+        assertThat(memberExistenceIndex.contains(memberId)).isTrue();
+    }
+
+    @DisplayName("색인에 없지만 DB에 있는 회원은 확인한 뒤 색인에 더한다.")
+    @Test
+    void 색인에_없지만_DB에_있는_회원은_확인한_뒤_색인에_더한다() {
+        // given
+        Long memberId = toMemberId(파랑);
+        memberExistenceIndex.remove(memberId);
+
+        // when & then
+        assertThatNoException().isThrownBy(() -> memberExistenceIndex.validateExists(memberId));
+        assertThat(memberExistenceIndex.contains(memberId)).isTrue();
+    }
+
+    @DisplayName("존재하지 않는 회원이면 예외를 던진다.")
+    @Test
+    void 존재하지_않는_회원이면_예외를_던진다() {
+        // given
+        Long 없는_회원_id = Long.MAX_VALUE;
+
+        // when & then
+        assertThatThrownBy(() -> memberExistenceIndex.validateExists(없는_회원_id))
+                .isInstanceOf(NoSuchMemberException.class);
+    }
+
+    @DisplayName("처음 크기보다 큰 id도 담는다.")
+    @Test
+    void 처음_크기보다_큰_id도_담는다() {
+        // given
+        Long memberId = 10_000_000L;
+
+        // when
+        memberExistenceIndex.add(memberId);
+
+        // then
+        assertThat(memberExistenceIndex.contains(memberId)).isTrue();
+        memberExistenceIndex.remove(memberId);
+    }
+}
@@ -82,7 +82,7 @@ class CheckedSchedulesFinderTest extends ServiceTest {
 
         // when
         IntegrationScheduleResponses integrationScheduleResponses = checkedSchedulesFinder.findMyCheckedSchedules(
-                memberId, new DateRangeRequest("2022-07-01T00:00", "2022-08-15T23:59"));
+                memberId, new DateRangeRequest("2022-07-01T00:00", "2022-08-15T23:59")).join();
 
         // then
         assertAll(() -> {
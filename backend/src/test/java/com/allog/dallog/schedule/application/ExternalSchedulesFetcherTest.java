@@ -0,0 +1,158 @@
+package com.allog.dallog.schedule.application;
+
+import static com.allog.dallog.common.fixtures.CategoryFixtures.setId;
+import static com.allog.dallog.common.fixtures.CategoryFixtures.우아한테크코스_일정;
+import static com.allog.dallog.common.fixtures.IntegrationScheduleFixtures.레벨3_방학;
+import static com.allog.dallog.common.fixtures.IntegrationScheduleFixtures.포수타;
+import static com.allog.dallog.common.fixtures.MemberFixtures.파랑;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.allog.dallog.category.domain.ExternalCategoryDetail;
+import com.allog.dallog.externalcalendar.application.AsyncExternalCalendarClient;
+import com.allog.dallog.externalcalendar.application.ExternalCalendarSyncStore;
+import com.allog.dallog.externalcalendar.application.MonthlyExternalScheduleCache;
+import com.allog.dallog.infrastructure.oauth.client.StubExternalCalendarClient;
+import com.allog.dallog.infrastructure.oauth.exception.OAuthException;
+import com.allog.dallog.member.domain.Member;
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import com.allog.dallog.schedule.dto.ExternalSchedules;
+import com.allog.dallog.schedule.dto.request.DateRangeRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class ExternalSchedulesFetcherTest {
+
+    private static final String 정상_캘린더 = "normal";
+    private static final String 실패_캘린더 = "failure";
+    private static final String 느린_캘린더 = "slow";
+    private static final long 타임아웃 = 200;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExternalSchedulesFetcher externalSchedulesFetcher = new ExternalSchedulesFetcher(
+            외부_일정_저장소(new FakeAsyncExternalCalendarClient(executor)), 타임아웃, meterRegistry);
+    private final DateRangeRequest dateRangeRequest = new DateRangeRequest("2022-08-01T00:00", "2022-08-31T23:59");
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("여러 외부 캘린더의 일정을 모두 가져온다.")
+    @Test
+    void 여러_외부_캘린더의_일정을_모두_가져온다() {
+        // given
+        List<ExternalCategoryDetail> details = List.of(외부_카테고리(1L, 정상_캘린더), 외부_카테고리(2L, 정상_캘린더));
+
+        // when
+        ExternalSchedules actual = externalSchedulesFetcher.fetch("token", details, dateRangeRequest).join();
+
+        // then
+        assertAll(() -> {
+            assertThat(actual.getSchedules()).hasSize(4);
+            assertThat(actual.getFailedCategoryIds()).isEmpty();
+            assertThat(meterRegistry.get("dallog.external-calendar.fan-out.width").summary().max())
+                    .isEqualTo(2);
+        });
+    }
+
+    @DisplayName("일부 외부 캘린더 조회에 실패하면 해당 카테고리를 제외하고 실패 목록에 담는다.")
+    @Test
+    void 일부_외부_캘린더_조회에_실패하면_해당_카테고리를_제외하고_실패_목록에_담는다() {
+        // given
+        List<ExternalCategoryDetail> details = List.of(외부_카테고리(1L, 정상_캘린더), 외부_카테고리(2L, 실패_캘린더));
+
+        // when
+        ExternalSchedules actual = externalSchedulesFetcher.fetch("token", details, dateRangeRequest).join();
+
+        // then
+        assertAll(() -> {
+            assertThat(actual.getSchedules()).containsExactly(포수타, 레벨3_방학);
+            assertThat(actual.getFailedCategoryIds()).containsExactly(2L);
+        });
+    }
+
+    @DisplayName("제한 시간 안에 응답하지 않은 외부 캘린더는 실패 목록에 담는다.")
+    @Test
+    void 제한_시간_안에_응답하지_않은_외부_캘린더는_실패_목록에_담는다() {
+        // given
+        List<ExternalCategoryDetail> details = List.of(외부_카테고리(1L, 느린_캘린더), 외부_카테고리(2L, 정상_캘린더));
+
+        // when
+        ExternalSchedules actual = externalSchedulesFetcher.fetch("token", details, dateRangeRequest).join();
+
+        // then
+        assertAll(() -> {
+            assertThat(actual.getSchedules()).hasSize(2);
+            assertThat(actual.getFailedCategoryIds()).containsExactly(1L);
+        });
+    }
+
+    @DisplayName("외부 캘린더가 없으면 빈 결과를 반환한다.")
+    @Test
+    void 외부_캘린더가_없으면_빈_결과를_반환한다() {
+        // given & when
+        ExternalSchedules actual = externalSchedulesFetcher.fetch("token", List.of(), dateRangeRequest)
+                .join();
+
+        // then
+        assertAll(() -> {
+            assertThat(actual.getSchedules()).isEmpty();
+            assertThat(actual.getFailedCategoryIds()).isEmpty();
+        });
+    }
+
+    private ExternalCalendarSyncStore 외부_일정_저장소(final AsyncExternalCalendarClient asyncExternalCalendarClient) {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+        return new ExternalCalendarSyncStore(new StubExternalCalendarClient(),
+                new MonthlyExternalScheduleCache(asyncExternalCalendarClient, cacheManager), cacheManager, executor,
+                60, 3, 12, 1000);
+    }
+
+    private ExternalCategoryDetail 외부_카테고리(final Long categoryId, final String externalId) {
+        Member 파랑 = 파랑();
+        return new ExternalCategoryDetail(setId(우아한테크코스_일정(파랑), categoryId), externalId);
+    }
+
+    private static class FakeAsyncExternalCalendarClient implements AsyncExternalCalendarClient {
+
+        private final ExecutorService executor;
+
+        private FakeAsyncExternalCalendarClient(final ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public CompletableFuture<List<IntegrationSchedule>> getExternalCalendarSchedules(
+                final String accessToken, final Long internalCategoryId, final String externalCalendarId,
+                final String startDateTime, final String endDateTime) {
+            if (externalCalendarId.equals(실패_캘린더)) {
+                return CompletableFuture.failedFuture(new OAuthException());
+            }
+            if (externalCalendarId.equals(느린_캘린더)) {
+                return CompletableFuture.supplyAsync(() -> {
+                    sleep(타임아웃 * 5);
+                    return List.of(포수타, 레벨3_방학);
+                }, executor);
+            }
+            return CompletableFuture.completedFuture(List.of(포수타, 레벨3_방학));
+        }
+
+        private void sleep(final long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.allog.dallog.schedule.application;
+
+import static com.allog.dallog.common.fixtures.CategoryFixtures.BE_일정_생성_요청;
+import static com.allog.dallog.common.fixtures.CategoryFixtures.FE_일정_생성_요청;
+import static com.allog.dallog.common.fixtures.CategoryFixtures.내_일정_생성_요청;
+import static com.allog.dallog.common.fixtures.CategoryFixtures.우아한테크코스_외부_일정_생성_요청;
+import static com.allog.dallog.common.fixtures.OAuthFixtures.MEMBER;
+import static com.allog.dallog.common.fixtures.OAuthFixtures.후디;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.allog.dallog.auth.exception.NoPermissionException;
+import com.allog.dallog.category.application.CategoryService;
+import com.allog.dallog.category.domain.Category;
+import com.allog.dallog.category.domain.CategoryRepository;
+import com.allog.dallog.category.domain.ExternalCategoryDetail;
+import com.allog.dallog.category.domain.ExternalCategoryDetailRepository;
+import com.allog.dallog.category.exception.NoSuchCategoryException;
+import com.allog.dallog.common.annotation.ServiceTest;
+import com.allog.dallog.schedule.dto.request.FreeSlotRequest;
+import com.allog.dallog.schedule.dto.request.ScheduleCreateRequest;
+import com.allog.dallog.schedule.dto.response.FreeSlotResponse;
+import com.allog.dallog.schedule.dto.response.FreeSlotsResponse;
+import com.allog.dallog.schedule.exception.InvalidScheduleException;
+import com.allog.dallog.subscription.application.SubscriptionService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class FreeSlotsFinderTest extends ServiceTest {
+
+    @Autowired
+    private FreeSlotsFinder freeSlotsFinder;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ExternalCategoryDetailRepository externalCategoryDetailRepository;
+
+    @DisplayName("요청한 회원과 함께 찾을 회원의 내부 일정과 외부 일정을 모두 피해 빈 시간을 찾는다.")
+    @Test
+    void 요청한_회원과_함께_찾을_회원의_내부_일정과_외부_일정을_모두_피해_빈_시간을_찾는다() {
+        // given
+        Long memberId = toMemberId(MEMBER.getOAuthMember());
+        Long 후디_id = toMemberId(후디.getOAuthMember());
+
+        Long BE_일정_id = categoryService.save(memberId, BE_일정_생성_요청).getId();
+        scheduleService.save(memberId, BE_일정_id, new ScheduleCreateRequest("회의",
+                LocalDateTime.of(2022, 8, 12, 10, 0), LocalDateTime.of(2022, 8, 12, 11, 0), ""));
+
+        Long FE_일정_id = categoryService.save(후디_id, FE_일정_생성_요청).getId();
+        scheduleService.save(후디_id, FE_일정_id, new ScheduleCreateRequest("점심",
+                LocalDateTime.of(2022, 8, 12, 12, 0), LocalDateTime.of(2022, 8, 12, 13, 0), ""));
+        subscriptionService.save(memberId, FE_일정_id);
+
+        Long 우아한테크코스_id = categoryService.save(memberId, 우아한테크코스_외부_일정_생성_요청).getId();
+        Category 우아한테크코스 = categoryRepository.getById(우아한테크코스_id);
+        externalCategoryDetailRepository.save(new ExternalCategoryDetail(우아한테크코스, "dfggsdfasdasadsgs"));
+
+        FreeSlotRequest request = new FreeSlotRequest(List.of(후디_id), List.of(), "2022-08-12T00:00",
+                "2022-08-13T00:00", 60, "09:00", "18:00");
+
+        // when
+        FreeSlotsResponse actual = freeSlotsFinder.findFreeSlots(memberId, request).join();
+
+        // then
+        assertAll(() -> {
+            assertThat(actual.getFreeSlots())
+                    .extracting(FreeSlotResponse::getStartDateTime, FreeSlotResponse::getEndDateTime)
+                    .containsExactly(
+                            tuple(LocalDateTime.of(2022, 8, 12, 9, 0),
+                                    LocalDateTime.of(2022, 8, 12, 10, 0)),
+                            tuple(LocalDateTime.of(2022, 8, 12, 11, 0),
+                                    LocalDateTime.of(2022, 8, 12, 12, 0)),
+                            tuple(LocalDateTime.of(2022, 8, 12, 13, 0),
+                                    LocalDateTime.of(2022, 8, 12, 14, 0)),
+                            tuple(LocalDateTime.of(2022, 8, 12, 14, 30),
+                                    LocalDateTime.of(2022, 8, 12, 18, 0)));
+            assertThat(actual.getFailedExternalCategoryIds()).isEmpty();
+        });
+    }
+
+    @DisplayName("함께 찾을 카테고리의 일정도 피해 빈 시간을 찾는다.")
+    @Test
+    void 함께_찾을_카테고리의_일정도_피해_빈_시간을_찾는다() {
+        // given
+        Long memberId = toMemberId(MEMBER.getOAuthMember());
+        Long 후디_id = toMemberId(후디.getOAuthMember());
+
+        Long FE_일정_id = categoryService.save(후디_id, FE_일정_생성_요청).getId();
+        scheduleService.save(후디_id, FE_일정_id, new ScheduleCreateRequest("회고",
+                LocalDateTime.of(2022, 8, 12, 0, 0), LocalDateTime.of(2022, 8, 12, 20, 0), ""));
+        subscriptionService.save(memberId, FE_일정_id);
+
+        FreeSlotRequest request = new FreeSlotRequest(null, List.of(FE_일정_id), "2022-08-12T00:00",
+                "2022-08-13T00:00", null, null, null);
+
+        // when
+        FreeSlotsResponse actual = freeSlotsFinder.findFreeSlots(memberId, request).join();
+
+        // then
+        assertThat(actual.getFreeSlots())
+                .extracting(FreeSlotResponse::getStartDateTime)
+                .containsExactly(LocalDateTime.of(2022, 8, 12, 20, 0));
+    }
+
+    @DisplayName("함께 찾을 수 있는 참여자 수를 넘으면 예외를 던진다.")
+    @Test
+    void 함께_찾을_수_있는_참여자_수를_넘으면_예외를_던진다() {
+        // given
+        List<Long> memberIds = LongStream.rangeClosed(1, 100)
+                .boxed()
+                .collect(Collectors.toList());
+        FreeSlotRequest request = new FreeSlotRequest(memberIds, List.of(), "2022-08-12T00:00",
+                "2022-08-13T00:00", null, null, null);
+
+        // when & then
+        assertThatThrownBy(() -> freeSlotsFinder.findFreeSlots(0L, request))
+                .isInstanceOf(InvalidScheduleException.class);
+    }
+
+    @DisplayName("조회 기간이 너무 길면 예외를 던진다.")
+    @Test
+    void 조회_기간이_너무_길면_예외를_던진다() {
+        // given
+        Long memberId = toMemberId(MEMBER.getOAuthMember());
+        FreeSlotRequest request = new FreeSlotRequest(null, null, "2022-01-01T00:00", "2022-12-31T00:00", null,
+                null, null);
+
+        // when & then
+        assertThatThrownBy(() -> freeSlotsFinder.findFreeSlots(memberId, request))
+                .isInstanceOf(InvalidScheduleException.class);
+    }
+
+    @DisplayName("존재하지 않는 카테고리가 있으면 예외를 던진다.")
+    @Test
+    void 존재하지_않는_카테고리가_있으면_예외를_던진다() {
+        // given
+        Long memberId = toMemberId(MEMBER.getOAuthMember());
+        FreeSlotRequest request = new FreeSlotRequest(null, List.of(0L), "2022-08-12T00:00", "2022-08-13T00:00",
+                null, null, null);
+
+        // when & then
+        assertThatThrownBy(() -> freeSlotsFinder.findFreeSlots(memberId, request))
+                .isInstanceOf(NoSuchCategoryException.class);
+    }
+
+    @DisplayName("함께 구독하는 카테고리가 없는 회원과 빈 시간을 찾으면 예외를 던진다.")
+    @Test
+    void 함께_구독하는_카테고리가_없는_회원과_빈_시간을_찾으면_예외를_던진다() {
+        // given
+        Long memberId = toMemberId(MEMBER.getOAuthMember());
+        Long 후디_id = toMemberId(후디.getOAuthMember());
+        categoryService.save(후디_id, FE_일정_생성_요청);
+
+        FreeSlotRequest request = new FreeSlotRequest(List.of(후디_id), List.of(), "2022-08-12T00:00",
+                "2022-08-13T00:00", null, null, null);
+
+        // when & then
+        assertThatThrownBy(() -> freeSlotsFinder.findFreeSlots(memberId, request))
+                .isInstanceOf(NoPermissionException.class);
+    }
+
+    @DisplayName("다른 회원의 외부 카테고리로 빈 시간을 찾으면 구독하고 있어도 예외를 던진다.")
+    @Test
+    void 다른_회원의_외부_카테고리로_빈_시간을_찾으면_구독하고_있어도_예외를_던진다() {
+        // given
+        Long memberId = toMemberId(MEMBER.getOAuthMember());
+        Long 후디_id = toMemberId(후디.getOAuthMember());
+
+        Long 우아한테크코스_id = categoryService.save(후디_id, 우아한테크코스_외부_일정_생성_요청).getId();
+        Category 우아한테크코스 = categoryRepository.getById(우아한테크코스_id);
+        externalCategoryDetailRepository.save(new ExternalCategoryDetail(우아한테크코스, "dfggsdfasdasadsgs"));
+        subscriptionService.save(memberId, 우아한테크코스_id);
+
+        FreeSlotRequest request = new FreeSlotRequest(null, List.of(우아한테크코스_id), "2022-08-12T00:00",
+                "2022-08-13T00:00", null, null, null);
+
+        // when & then
+        assertThatThrownBy(() -> freeSlotsFinder.findFreeSlots(memberId, request))
+                .isInstanceOf(NoPermissionException.class);
+    }
+
+    @DisplayName("다른 회원의 개인 카테고리로 빈 시간을 찾으면 예외를 던진다.")
+    @Test
+    void 다른_회원의_개인_카테고리로_빈_시간을_찾으면_예외를_던진다() {
+        // given
+        Long memberId = toMemberId(MEMBER.getOAuthMember());
+        Long 후디_id = toMemberId(후디.getOAuthMember());
+        Long 내_일정_id = categoryService.save(후디_id, 내_일정_생성_요청).getId();
+
+        FreeSlotRequest request = new FreeSlotRequest(null, List.of(내_일정_id), "2022-08-12T00:00",
+                "2022-08-13T00:00", null, null, null);
+
+        // when & then
+        assertThatThrownBy(() -> freeSlotsFinder.findFreeSlots(memberId, request))
+                .isInstanceOf(NoPermissionException.class);
+    }
+
+    @DisplayName("함께 찾을 회원의 개인 카테고리와 외부 카테고리 일정은 세지 않는다.")
+    @Test
+    void 함께_찾을_회원의_개인_카테고리와_외부_카테고리_일정은_세지_않는다() {
+        // given
+        Long memberId = toMemberId(MEMBER.getOAuthMember());
+        Long 후디_id = toMemberId(후디.getOAuthMember());
+
+        Long FE_일정_id = categoryService.save(후디_id, FE_일정_생성_요청).getId();
+        subscriptionService.save(memberId, FE_일정_id);
+
+        Long 내_일정_id = categoryService.save(후디_id, 내_일정_생성_요청).getId();
+        scheduleService.save(후디_id, 내_일정_id, new ScheduleCreateRequest("병원",
+                LocalDateTime.of(2022, 8, 12, 10, 0), LocalDateTime.of(2022, 8, 12, 11, 0), ""));
+
+        Long 우아한테크코스_id = categoryService.save(후디_id, 우아한테크코스_외부_일정_생성_요청).getId();
+        Category 우아한테크코스 = categoryRepository.getById(우아한테크코스_id);
+        externalCategoryDetailRepository.save(new ExternalCategoryDetail(우아한테크코스, "dfggsdfasdasadsgs"));
+
+        FreeSlotRequest request = new FreeSlotRequest(List.of(후디_id), List.of(), "2022-08-12T00:00",
+                "2022-08-13T00:00", null, "09:00", "18:00");
+
+        // when
+        FreeSlotsResponse actual = freeSlotsFinder.findFreeSlots(memberId, request).join();
+
+        // then
+        assertThat(actual.getFreeSlots())
+                .extracting(FreeSlotResponse::getStartDateTime, FreeSlotResponse::getEndDateTime)
+                .containsExactly(tuple(LocalDateTime.of(2022, 8, 12, 9, 0), LocalDateTime.of(2022, 8, 12, 18, 0)));
+    }
+}
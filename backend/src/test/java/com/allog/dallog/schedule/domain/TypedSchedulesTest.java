@@ -0,0 +1,59 @@
+package com.allog.dallog.schedule.domain;
+
+import static com.allog.dallog.category.domain.CategoryType.NORMAL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TypedSchedulesTest {
+
+    @DisplayName("일정을 종류별로 나누고 종류마다 정렬해 반환한다.")
+    @Test
+    void 일정을_종류별로_나누고_종류마다_정렬해_반환한다() {
+        // given
+        IntegrationSchedule 늦은_몇시간_일정 = 일정("몇시간 2", LocalDateTime.of(2022, 8, 2, 10, 0),
+                LocalDateTime.of(2022, 8, 2, 12, 0));
+        IntegrationSchedule 장기간_일정 = 일정("장기간", LocalDateTime.of(2022, 8, 1, 10, 0),
+                LocalDateTime.of(2022, 8, 3, 10, 0));
+        IntegrationSchedule 종일_일정 = 일정("종일", LocalDateTime.of(2022, 8, 4, 0, 0),
+                LocalDateTime.of(2022, 8, 5, 0, 0));
+        IntegrationSchedule 이른_몇시간_일정 = 일정("몇시간 1", LocalDateTime.of(2022, 8, 1, 10, 0),
+                LocalDateTime.of(2022, 8, 1, 11, 0));
+
+        // when
+        TypedSchedules typedSchedules = new TypedSchedules(List.of(늦은_몇시간_일정, 장기간_일정, 종일_일정, 이른_몇시간_일정));
+
+        // then
+        assertAll(() -> {
+            assertThat(typedSchedules.getSortedSchedules(ScheduleType.LONG_TERMS).getSortedValues())
+                    .containsExactly(장기간_일정);
+            assertThat(typedSchedules.getSortedSchedules(ScheduleType.ALL_DAYS).getSortedValues())
+                    .containsExactly(종일_일정);
+            assertThat(typedSchedules.getSortedSchedules(ScheduleType.FEW_HOURS).getSortedValues())
+                    .containsExactly(이른_몇시간_일정, 늦은_몇시간_일정);
+        });
+    }
+
+    @DisplayName("일정이 없으면 모든 종류가 빈 목록이다.")
+    @Test
+    void 일정이_없으면_모든_종류가_빈_목록이다() {
+        // given & when
+        TypedSchedules typedSchedules = new TypedSchedules(List.of());
+
+        // then
+        assertAll(() -> {
+            for (ScheduleType scheduleType : ScheduleType.values()) {
+                assertThat(typedSchedules.getSortedSchedules(scheduleType).getSortedValues()).isEmpty();
+            }
+        });
+    }
+
+    private IntegrationSchedule 일정(final String title, final LocalDateTime startDateTime,
+                                   final LocalDateTime endDateTime) {
+        return new IntegrationSchedule(title, 1L, title, startDateTime, endDateTime, "", NORMAL);
+    }
+}
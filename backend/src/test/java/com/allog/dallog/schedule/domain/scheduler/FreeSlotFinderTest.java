@@ -0,0 +1,99 @@
+package com.allog.dallog.schedule.domain.scheduler;
+
+import static com.allog.dallog.category.domain.CategoryType.GOOGLE;
+import static com.allog.dallog.category.domain.CategoryType.NORMAL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.allog.dallog.category.domain.CategoryType;
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import com.allog.dallog.schedule.domain.Period;
+import com.allog.dallog.schedule.exception.InvalidScheduleException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FreeSlotFinderTest {
+
+    private static final LocalDateTime 시작일시 = LocalDateTime.of(2022, 8, 1, 0, 0);
+    private static final LocalDateTime 종료일시 = LocalDateTime.of(2022, 8, 3, 0, 0);
+
+    @DisplayName("여러 참여자의 일정을 합쳐 모두가 비어 있는 시간을 찾는다.")
+    @Test
+    void 여러_참여자의_일정을_합쳐_모두가_비어_있는_시간을_찾는다() {
+        // given
+        List<IntegrationSchedule> 첫번째_참여자_일정 = List.of(
+                일정("1", 8, 1, 10, 8, 1, 12, NORMAL),
+                일정("2", 8, 2, 9, 8, 2, 10, NORMAL));
+        List<IntegrationSchedule> 정렬되지_않은_두번째_참여자_일정 = List.of(
+                일정("3", 8, 2, 9, 8, 2, 13, GOOGLE),
+                일정("4", 8, 1, 11, 8, 1, 15, GOOGLE));
+
+        FreeSlotFinder freeSlotFinder = new FreeSlotFinder(WorkingHours.allDay(), Duration.ofMinutes(30));
+
+        // when
+        List<Period> actual = freeSlotFinder.find(List.of(첫번째_참여자_일정, 정렬되지_않은_두번째_참여자_일정), 시작일시, 종료일시);
+
+        // then
+        assertThat(actual).containsExactly(
+                new Period(시작일시, LocalDateTime.of(2022, 8, 1, 10, 0)),
+                new Period(LocalDateTime.of(2022, 8, 1, 15, 0), LocalDateTime.of(2022, 8, 2, 9, 0)),
+                new Period(LocalDateTime.of(2022, 8, 2, 13, 0), 종료일시)
+        );
+    }
+
+    @DisplayName("근무 시간 밖이거나 최소 시간보다 짧은 빈 시간은 제외한다.")
+    @Test
+    void 근무_시간_밖이거나_최소_시간보다_짧은_빈_시간은_제외한다() {
+        // given
+        List<IntegrationSchedule> 참여자_일정 = List.of(
+                일정("1", 8, 1, 9, 8, 1, 12, NORMAL),
+                일정("2", 8, 1, 12, 8, 1, 17, NORMAL),
+                일정("3", 8, 2, 10, 8, 2, 16, NORMAL));
+
+        FreeSlotFinder freeSlotFinder = new FreeSlotFinder(
+                new WorkingHours(LocalTime.of(9, 0), LocalTime.of(18, 0)), Duration.ofMinutes(90));
+
+        // when
+        List<Period> actual = freeSlotFinder.find(List.of(참여자_일정, List.of()), 시작일시, 종료일시);
+
+        // then
+        assertThat(actual).containsExactly(
+                new Period(LocalDateTime.of(2022, 8, 2, 16, 0), LocalDateTime.of(2022, 8, 2, 18, 0))
+        );
+    }
+
+    @DisplayName("일정이 없으면 조회 기간 전체가 빈 시간이다.")
+    @Test
+    void 일정이_없으면_조회_기간_전체가_빈_시간이다() {
+        // given
+        FreeSlotFinder freeSlotFinder = new FreeSlotFinder(WorkingHours.allDay(), Duration.ofMinutes(30));
+
+        // when
+        List<Period> actual = freeSlotFinder.find(List.of(), 시작일시, 종료일시);
+
+        // then
+        assertThat(actual).containsExactly(new Period(시작일시, 종료일시));
+    }
+
+    @DisplayName("최소 시간이 0보다 크지 않으면 예외를 던진다.")
+    @Test
+    void 최소_시간이_0보다_크지_않으면_예외를_던진다() {
+        // given
+        Duration minimumDuration = Duration.ZERO;
+
+        // when & then
+        assertThatThrownBy(() -> new FreeSlotFinder(WorkingHours.allDay(), minimumDuration))
+                .isInstanceOf(InvalidScheduleException.class);
+    }
+
+    private IntegrationSchedule 일정(final String id, final int startMonth, final int startDay, final int startHour,
+                                   final int endMonth, final int endDay, final int endHour,
+                                   final CategoryType categoryType) {
+        return new IntegrationSchedule(id, 1L, "일정", LocalDateTime.of(2022, startMonth, startDay, startHour, 0),
+                LocalDateTime.of(2022, endMonth, endDay, endHour, 0), "", categoryType);
+    }
+}
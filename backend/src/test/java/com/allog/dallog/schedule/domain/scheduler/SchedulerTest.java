@@ -79,4 +79,50 @@ class SchedulerTest {
             );
         });
     }
+
+    @DisplayName("일정이 정렬되어 있지 않거나 서로 겹쳐도 빈 기간을 시간 순으로 계산한다.")
+    @Test
+    void 일정이_정렬되어_있지_않거나_서로_겹쳐도_빈_기간을_시간_순으로_계산한다() {
+        // given
+        IntegrationSchedule 늦은_일정 = 일정("1", 날짜_2022년_7월_20일_0시_0분, 날짜_2022년_7월_27일_0시_0분);
+        IntegrationSchedule 긴_일정 = 일정("2", 날짜_2022년_7월_7일_16시_0분, 날짜_2022년_7월_16일_16시_0분);
+        IntegrationSchedule 긴_일정에_포함된_일정 = 일정("3", 날짜_2022년_7월_10일_0시_0분, 날짜_2022년_7월_10일_11시_59분);
+        IntegrationSchedule 긴_일정과_겹친_일정 = 일정("4", 날짜_2022년_7월_15일_16시_0분, 날짜_2022년_7월_16일_18시_0분);
+
+        Scheduler scheduler = new Scheduler(List.of(늦은_일정, 긴_일정에_포함된_일정, 긴_일정과_겹친_일정, 긴_일정),
+                날짜_2022년_7월_1일_0시_0분, 날짜_2022년_7월_31일_0시_0분);
+
+        // when
+        List<Period> actual = scheduler.getPeriods();
+
+        // then
+        assertThat(actual).containsExactly(
+                new Period(날짜_2022년_7월_1일_0시_0분, 날짜_2022년_7월_7일_16시_0분),
+                new Period(날짜_2022년_7월_16일_18시_0분, 날짜_2022년_7월_20일_0시_0분),
+                new Period(날짜_2022년_7월_27일_0시_0분, 날짜_2022년_7월_31일_0시_0분)
+        );
+    }
+
+    @DisplayName("조회 기간 밖으로 걸쳐 있는 일정은 조회 기간 안쪽만 빈 기간에서 뺀다.")
+    @Test
+    void 조회_기간_밖으로_걸쳐_있는_일정은_조회_기간_안쪽만_빈_기간에서_뺀다() {
+        // given
+        IntegrationSchedule 앞에_걸친_일정 = 일정("1", 날짜_2022년_7월_1일_0시_0분, 날짜_2022년_7월_10일_0시_0분);
+        IntegrationSchedule 뒤에_걸친_일정 = 일정("2", 날짜_2022년_7월_27일_0시_0분, 날짜_2022년_8월_15일_14시_0분);
+        IntegrationSchedule 기간_밖의_일정 = 일정("3", 날짜_2022년_8월_15일_14시_0분, 날짜_2022년_8월_15일_14시_0분);
+
+        Scheduler scheduler = new Scheduler(List.of(기간_밖의_일정, 뒤에_걸친_일정, 앞에_걸친_일정),
+                날짜_2022년_7월_7일_16시_0분, 날짜_2022년_7월_31일_0시_0분);
+
+        // when
+        List<Period> actual = scheduler.getPeriods();
+
+        // then
+        assertThat(actual).containsExactly(new Period(날짜_2022년_7월_10일_0시_0분, 날짜_2022년_7월_27일_0시_0분));
+    }
+
+    private IntegrationSchedule 일정(final String id, final LocalDateTime startDateTime,
+                                   final LocalDateTime endDateTime) {
+        return new IntegrationSchedule(id, 1L, "일정 제목", startDateTime, endDateTime, "일정 메모", NORMAL);
+    }
 }
@@ -0,0 +1,72 @@
+package com.allog.dallog.schedule.domain.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.allog.dallog.schedule.domain.Period;
+import com.allog.dallog.schedule.exception.InvalidScheduleException;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WorkingHoursTest {
+
+    @DisplayName("기간이 걸친 날마다 근무 시간과 겹치는 부분만 남긴다.")
+    @Test
+    void 기간이_걸친_날마다_근무_시간과_겹치는_부분만_남긴다() {
+        // given
+        WorkingHours workingHours = new WorkingHours(LocalTime.of(9, 0), LocalTime.of(18, 0));
+        Period period = new Period(LocalDateTime.of(2022, 8, 1, 12, 0), LocalDateTime.of(2022, 8, 3, 10, 0));
+
+        // when
+        List<Period> actual = workingHours.clip(period);
+
+        // then
+        assertThat(actual).containsExactly(
+                new Period(LocalDateTime.of(2022, 8, 1, 12, 0), LocalDateTime.of(2022, 8, 1, 18, 0)),
+                new Period(LocalDateTime.of(2022, 8, 2, 9, 0), LocalDateTime.of(2022, 8, 2, 18, 0)),
+                new Period(LocalDateTime.of(2022, 8, 3, 9, 0), LocalDateTime.of(2022, 8, 3, 10, 0))
+        );
+    }
+
+    @DisplayName("근무 시간 밖의 기간이면 아무것도 남기지 않는다.")
+    @Test
+    void 근무_시간_밖의_기간이면_아무것도_남기지_않는다() {
+        // given
+        WorkingHours workingHours = new WorkingHours(LocalTime.of(9, 0), LocalTime.of(18, 0));
+        Period period = new Period(LocalDateTime.of(2022, 8, 1, 18, 0), LocalDateTime.of(2022, 8, 2, 9, 0));
+
+        // when
+        List<Period> actual = workingHours.clip(period);
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @DisplayName("종일이면 기간을 나누지 않고 그대로 남긴다.")
+    @Test
+    void 종일이면_기간을_나누지_않고_그대로_남긴다() {
+        // given
+        Period period = new Period(LocalDateTime.of(2022, 8, 1, 12, 0), LocalDateTime.of(2022, 8, 3, 10, 0));
+
+        // when
+        List<Period> actual = WorkingHours.allDay().clip(period);
+
+        // then
+        assertThat(actual).containsExactly(period);
+    }
+
+    @DisplayName("근무 시작 시각이 근무 종료 시각보다 이전이 아니면 예외를 던진다.")
+    @Test
+    void 근무_시작_시각이_근무_종료_시각보다_이전이_아니면_예외를_던진다() {
+        // given
+        LocalTime startTime = LocalTime.of(18, 0);
+        LocalTime endTime = LocalTime.of(9, 0);
+
+        // when & then
+        assertThatThrownBy(() -> new WorkingHours(startTime, endTime))
+                .isInstanceOf(InvalidScheduleException.class);
+    }
+}
@@ -0,0 +1,163 @@
+package com.allog.dallog.schedule.presentation;
+
+import static com.allog.dallog.category.domain.CategoryType.GOOGLE;
+import static com.allog.dallog.category.domain.CategoryType.NORMAL;
+import static com.allog.dallog.common.fixtures.CategoryFixtures.setId;
+import static com.allog.dallog.common.fixtures.CategoryFixtures.공통_일정;
+import static com.allog.dallog.common.fixtures.CategoryFixtures.우아한테크코스_일정;
+import static com.allog.dallog.common.fixtures.MemberFixtures.파랑;
+import static com.allog.dallog.subscription.domain.Color.COLOR_1;
+import static com.allog.dallog.subscription.domain.Color.COLOR_2;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.allog.dallog.category.domain.Category;
+import com.allog.dallog.category.exception.NoSuchCategoryException;
+import com.allog.dallog.member.domain.Member;
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import com.allog.dallog.schedule.domain.TypedSchedules;
+import com.allog.dallog.schedule.dto.CheckedSchedules;
+import com.allog.dallog.schedule.dto.response.IntegrationScheduleResponses;
+import com.allog.dallog.subscription.domain.Subscription;
+import com.allog.dallog.subscription.domain.Subscriptions;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+class CheckedSchedulesHttpMessageConverterTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final CheckedSchedulesHttpMessageConverter converter =
+            new CheckedSchedulesHttpMessageConverter(objectMapper);
+
+    @DisplayName("일정 조회 결과를 응답 객체로 직렬화한 것과 같은 JSON으로 쓴다.")
+    @Test
+    void 일정_조회_결과를_응답_객체로_직렬화한_것과_같은_JSON으로_쓴다() throws IOException {
+        // given
+        CheckedSchedules checkedSchedules = 일정_조회_결과(List.of(2L));
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        // when
+        converter.write(checkedSchedules, MediaType.APPLICATION_JSON, outputMessage);
+
+        // then
+        String expected = objectMapper.writeValueAsString(new IntegrationScheduleResponses(checkedSchedules));
+        assertAll(() -> {
+            assertThat(objectMapper.readTree(outputMessage.getBodyAsString(StandardCharsets.UTF_8)))
+                    .isEqualTo(objectMapper.readTree(expected));
+            assertThat(outputMessage.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        });
+    }
+
+    @DisplayName("본문 길이를 미리 구하지 않고 쓴다.")
+    @Test
+    void 본문_길이를_미리_구하지_않고_쓴다() throws IOException {
+        // given
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        // when
+        converter.write(일정_조회_결과(List.of()), MediaType.APPLICATION_JSON, outputMessage);
+
+        // then
+        assertThat(outputMessage.getHeaders().getContentLength()).isEqualTo(-1);
+    }
+
+    @DisplayName("구독하지 않은 카테고리의 일정이 있으면 아무것도 쓰지 않고 예외를 던진다.")
+    @Test
+    void 구독하지_않은_카테고리의_일정이_있으면_아무것도_쓰지_않고_예외를_던진다() {
+        // given
+        Member 파랑 = 파랑();
+        Subscriptions subscriptions = new Subscriptions(
+                List.of(new Subscription(파랑, setId(공통_일정(파랑), 1L), COLOR_1)));
+        List<IntegrationSchedule> schedules = List.of(
+                new IntegrationSchedule("1", 1L, "짧은 일정", LocalDateTime.of(2022, 8, 1, 10, 0),
+                        LocalDateTime.of(2022, 8, 1, 11, 0), null, NORMAL),
+                new IntegrationSchedule("2", 2L, "짧은 일정", LocalDateTime.of(2022, 8, 1, 12, 0),
+                        LocalDateTime.of(2022, 8, 1, 13, 0), null, NORMAL));
+        CheckedSchedules checkedSchedules = new CheckedSchedules(subscriptions, new TypedSchedules(schedules),
+                List.of());
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        // when & then
+        assertAll(() -> {
+            assertThatThrownBy(() -> converter.write(checkedSchedules, MediaType.APPLICATION_JSON, outputMessage))
+                    .isInstanceOf(NoSuchCategoryException.class);
+            assertThat(outputMessage.getBodyAsBytes()).isEmpty();
+        });
+    }
+
+    @DisplayName("다 쓴 뒤에도 응답 스트림을 닫지 않는다.")
+    @Test
+    void 다_쓴_뒤에도_응답_스트림을_닫지_않는다() throws IOException {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        OutputStream body = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        HttpHeaders headers = new HttpHeaders();
+        HttpOutputMessage outputMessage = new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+
+        // when
+        converter.write(일정_조회_결과(List.of()), MediaType.APPLICATION_JSON, outputMessage);
+
+        // then
+        assertThat(closed).isFalse();
+    }
+
+    @DisplayName("일정 조회 결과만 쓸 수 있고 읽을 수는 없다.")
+    @Test
+    void 일정_조회_결과만_쓸_수_있고_읽을_수는_없다() {
+        // when & then
+        assertAll(() -> {
+            assertThat(converter.canWrite(CheckedSchedules.class, MediaType.APPLICATION_JSON)).isTrue();
+            assertThat(converter.canWrite(IntegrationScheduleResponses.class, MediaType.APPLICATION_JSON)).isFalse();
+            assertThat(converter.canRead(CheckedSchedules.class, MediaType.APPLICATION_JSON)).isFalse();
+        });
+    }
+
+    private CheckedSchedules 일정_조회_결과(final List<Long> failedExternalCategoryIds) {
+        Member 파랑 = 파랑();
+        Category 공통_일정 = setId(공통_일정(파랑), 1L);
+        Category 우아한테크코스_일정 = setId(우아한테크코스_일정(파랑), 2L);
+        Subscriptions subscriptions = new Subscriptions(List.of(new Subscription(파랑, 공통_일정, COLOR_1),
+                new Subscription(파랑, 우아한테크코스_일정, COLOR_2)));
+
+        List<IntegrationSchedule> schedules = List.of(
+                new IntegrationSchedule("3", 1L, "짧은 일정", LocalDateTime.of(2022, 8, 5, 17, 0),
+                        LocalDateTime.of(2022, 8, 5, 19, 0), null, NORMAL),
+                new IntegrationSchedule("google", 2L, "종일 일정", LocalDateTime.of(2022, 8, 1, 0, 0),
+                        LocalDateTime.of(2022, 8, 2, 0, 0), "\"따옴표\"가 있는 메모", GOOGLE),
+                new IntegrationSchedule("1", 1L, "장기간 일정", LocalDateTime.of(2022, 8, 1, 0, 0),
+                        LocalDateTime.of(2022, 8, 10, 0, 0), "장기간 일정의 메모", NORMAL),
+                new IntegrationSchedule("2", 1L, "짧은 일정", LocalDateTime.of(2022, 8, 1, 10, 0),
+                        LocalDateTime.of(2022, 8, 1, 11, 0), "짧은 일정의 메모", NORMAL));
+
+        return new CheckedSchedules(subscriptions, new TypedSchedules(schedules), failedExternalCategoryIds);
+    }
+}
@@ -1,5 +1,10 @@
 package com.allog.dallog.schedule.presentation;
 
+import static com.allog.dallog.category.domain.CategoryType.NORMAL;
+import static com.allog.dallog.common.fixtures.CategoryFixtures.BE_일정;
+import static com.allog.dallog.common.fixtures.CategoryFixtures.setId;
+import static com.allog.dallog.common.fixtures.CategoryFixtures.공통_일정;
+import static com.allog.dallog.common.fixtures.MemberFixtures.파랑;
 import static com.allog.dallog.common.fixtures.ScheduleFixtures.레벨_인터뷰_메모;
 import static com.allog.dallog.common.fixtures.ScheduleFixtures.레벨_인터뷰_시작일시;
 import static com.allog.dallog.common.fixtures.ScheduleFixtures.레벨_인터뷰_제목;
@@ -20,28 +25,42 @@ import static org.springframework.restdocs.operation.preprocess.Preprocessors.pr
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.allog.dallog.auth.exception.NoPermissionException;
+import com.allog.dallog.category.domain.Category;
 import com.allog.dallog.category.exception.NoSuchCategoryException;
 import com.allog.dallog.common.ControllerTest;
+import com.allog.dallog.member.domain.Member;
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import com.allog.dallog.schedule.domain.Period;
+import com.allog.dallog.schedule.domain.TypedSchedules;
+import com.allog.dallog.schedule.dto.CheckedSchedules;
+import com.allog.dallog.schedule.dto.request.FreeSlotRequest;
 import com.allog.dallog.schedule.dto.request.ScheduleCreateRequest;
 import com.allog.dallog.schedule.dto.request.ScheduleUpdateRequest;
+import com.allog.dallog.schedule.dto.response.FreeSlotsResponse;
 import com.allog.dallog.schedule.dto.response.IntegrationScheduleResponse;
 import com.allog.dallog.schedule.dto.response.IntegrationScheduleResponses;
 import com.allog.dallog.schedule.exception.NoSuchScheduleException;
 import com.allog.dallog.subscription.domain.Color;
+import com.allog.dallog.subscription.domain.Subscription;
+import com.allog.dallog.subscription.domain.Subscriptions;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
+import org.springframework.test.web.servlet.MvcResult;
 
 class ScheduleControllerTest extends ControllerTest {
 
@@ -306,38 +325,42 @@ class ScheduleControllerTest extends ControllerTest {
         String startDate = "2022-07-31T00:00";
         String endDate = "2022-09-03T00:00";
 
-        IntegrationScheduleResponse 장기간_일정_1 = new IntegrationScheduleResponse("1L", "장기간 일정 1",
-                LocalDateTime.of(2022, 8, 1, 0, 0),
-                LocalDateTime.of(2022, 8, 3, 0, 0), "장기간 일정 1의 메모", 1L, Color.COLOR_1.getColorCode(), "NORMAL");
-        IntegrationScheduleResponse 장기간_일정_2 = new IntegrationScheduleResponse("1L", "장기간 일정 2",
-                LocalDateTime.of(2022, 8, 3, 0, 0),
-                LocalDateTime.of(2022, 8, 10, 0, 0), "장기간 일정 2의 메모", 3L, Color.COLOR_2.getColorCode(), "NORMAL");
+        Member 파랑 = 파랑();
+        Category 공통_일정 = setId(공통_일정(파랑), 1L);
+        Category BE_일정 = setId(BE_일정(파랑), 3L);
+        Subscriptions subscriptions = new Subscriptions(List.of(new Subscription(파랑, 공통_일정, Color.COLOR_1),
+                new Subscription(파랑, BE_일정, Color.COLOR_2)));
 
-        IntegrationScheduleResponse 종일_일정_1 = new IntegrationScheduleResponse("1L", "종일 일정 1",
-                LocalDateTime.of(2022, 8, 1, 0, 0),
-                LocalDateTime.of(2022, 8, 1, 23, 59), "종일 일정 1의 메모", 1L, Color.COLOR_3.getColorCode(), "NORMAL");
-        IntegrationScheduleResponse 종일_일정_2 = new IntegrationScheduleResponse("1L", "종일 일정 2",
-                LocalDateTime.of(2022, 8, 5, 0, 0),
-                LocalDateTime.of(2022, 8, 5, 23, 59), "종일 일정 2의 메모", 3L, Color.COLOR_4.getColorCode(), "NORMAL");
+        IntegrationSchedule 장기간_일정_1 = new IntegrationSchedule("1L", 1L, "장기간 일정 1",
+                LocalDateTime.of(2022, 8, 1, 0, 0), LocalDateTime.of(2022, 8, 3, 0, 0), "장기간 일정 1의 메모", NORMAL);
+        IntegrationSchedule 장기간_일정_2 = new IntegrationSchedule("1L", 3L, "장기간 일정 2",
+                LocalDateTime.of(2022, 8, 3, 0, 0), LocalDateTime.of(2022, 8, 10, 0, 0), "장기간 일정 2의 메모", NORMAL);
 
-        IntegrationScheduleResponse 짧은_일정_1 = new IntegrationScheduleResponse("1L", "짧은 일정 1",
-                LocalDateTime.of(2022, 8, 1, 0, 0),
-                LocalDateTime.of(2022, 8, 1, 1, 0), "짧은 일정 1의 메모", 1L, Color.COLOR_5.getColorCode(), "NORMAL");
-        IntegrationScheduleResponse 짧은_일정_2 = new IntegrationScheduleResponse("1L", "짧은 일정 2",
-                LocalDateTime.of(2022, 8, 5, 17, 0),
-                LocalDateTime.of(2022, 8, 5, 19, 0), "짧은 일정 2의 메모", 3L, Color.COLOR_6.getColorCode(), "NORMAL");
+        IntegrationSchedule 종일_일정_1 = new IntegrationSchedule("1L", 1L, "종일 일정 1",
+                LocalDateTime.of(2022, 8, 1, 0, 0), LocalDateTime.of(2022, 8, 2, 0, 0), "종일 일정 1의 메모", NORMAL);
+        IntegrationSchedule 종일_일정_2 = new IntegrationSchedule("1L", 3L, "종일 일정 2",
+                LocalDateTime.of(2022, 8, 5, 0, 0), LocalDateTime.of(2022, 8, 6, 0, 0), "종일 일정 2의 메모", NORMAL);
 
-        IntegrationScheduleResponses integrationScheduleResponses = new IntegrationScheduleResponses(
-                List.of(장기간_일정_1, 장기간_일정_2),
-                List.of(종일_일정_1, 종일_일정_2), List.of(짧은_일정_1, 짧은_일정_2));
+        IntegrationSchedule 짧은_일정_1 = new IntegrationSchedule("1L", 1L, "짧은 일정 1",
+                LocalDateTime.of(2022, 8, 1, 0, 0), LocalDateTime.of(2022, 8, 1, 1, 0), "짧은 일정 1의 메모", NORMAL);
+        IntegrationSchedule 짧은_일정_2 = new IntegrationSchedule("1L", 3L, "짧은 일정 2",
+                LocalDateTime.of(2022, 8, 5, 17, 0), LocalDateTime.of(2022, 8, 5, 19, 0), "짧은 일정 2의 메모", NORMAL);
 
-        given(checkedSchedulesFinder.findMyCheckedSchedules(any(), any()))
-                .willReturn(integrationScheduleResponses);
+        TypedSchedules typedSchedules = new TypedSchedules(
+                List.of(장기간_일정_1, 장기간_일정_2, 종일_일정_1, 종일_일정_2, 짧은_일정_1, 짧은_일정_2));
+        CheckedSchedules checkedSchedules = new CheckedSchedules(subscriptions, typedSchedules, List.of());
+
+        given(checkedSchedulesFinder.findMyTypedSchedules(any(), any()))
+                .willReturn(CompletableFuture.completedFuture(checkedSchedules));
 
         // when & then
-        mockMvc.perform(
+        MvcResult mvcResult = mockMvc.perform(
                         get("/api/members/me/schedules?startDateTime={startDate}&endDateTime={endDate}", startDate, endDate)
                                 .header(AUTHORIZATION_HEADER_NAME, AUTHORIZATION_HEADER_VALUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andDo(print())
                 .andDo(document("schedule/findSchedulesByMemberId",
                         preprocessRequest(prettyPrint()),
@@ -350,6 +373,74 @@ class ScheduleControllerTest extends ControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @DisplayName("여러 회원과 카테고리의 빈 시간을 정상적으로 조회하면 200을 반환한다.")
+    @Test
+    void 여러_회원과_카테고리의_빈_시간을_정상적으로_조회하면_200을_반환한다() throws Exception {
+        // given
+        FreeSlotsResponse freeSlotsResponse = new FreeSlotsResponse(List.of(
+                new Period(LocalDateTime.of(2022, 8, 1, 9, 0), LocalDateTime.of(2022, 8, 1, 10, 0)),
+                new Period(LocalDateTime.of(2022, 8, 2, 14, 30), LocalDateTime.of(2022, 8, 2, 18, 0))), List.of());
+
+        given(freeSlotsFinder.findFreeSlots(any(), any()))
+                .willReturn(CompletableFuture.completedFuture(freeSlotsResponse));
+
+        // when & then
+        MvcResult mvcResult = mockMvc.perform(get("/api/schedules/free-slots")
+                        .header(AUTHORIZATION_HEADER_NAME, AUTHORIZATION_HEADER_VALUE)
+                        .param("memberIds", "2", "3")
+                        .param("categoryIds", "1")
+                        .param("startDateTime", "2022-08-01T00:00")
+                        .param("endDateTime", "2022-08-03T00:00")
+                        .param("minimumMinutes", "60")
+                        .param("workStartTime", "09:00")
+                        .param("workEndTime", "18:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andDo(document("schedule/findFreeSlots",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestParameters(
+                                parameterWithName("memberIds").description("요청한 회원과 함께 구독하는 카테고리가 있는 회원 ID 목록"),
+                                parameterWithName("categoryIds").description("일정을 피해야 하는, 요청한 회원이 구독하거나 역할을 가진 카테고리 ID 목록"),
+                                parameterWithName("startDateTime").description("조회 시작 범위 (yyyy-mm-dd'T'HH:mm)"),
+                                parameterWithName("endDateTime").description("조회 마지막 범위 (yyyy-mm-dd'T'HH:mm)"),
+                                parameterWithName("minimumMinutes").description("빈 시간의 최소 길이(분), 기본값 30"),
+                                parameterWithName("workStartTime").description("하루 중 찾을 시간대의 시작 (HH:mm)"),
+                                parameterWithName("workEndTime").description("하루 중 찾을 시간대의 끝 (HH:mm)")
+                        )
+                ))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("빈 시간을 조회할 때 근무 시각의 형식이 잘못되면 400을 반환한다.")
+    @Test
+    void 빈_시간을_조회할_때_근무_시각의_형식이_잘못되면_400을_반환한다() throws Exception {
+        // given
+        given(freeSlotsFinder.findFreeSlots(any(), any()))
+                .willAnswer(invocation -> {
+                    FreeSlotRequest request = invocation.getArgument(1);
+                    request.toWorkingHours();
+                    return CompletableFuture.completedFuture(new FreeSlotsResponse(List.of(), List.of()));
+                });
+
+        // when & then
+        mockMvc.perform(get("/api/schedules/free-slots")
+                        .header(AUTHORIZATION_HEADER_NAME, AUTHORIZATION_HEADER_VALUE)
+                        .param("startDateTime", "2022-08-01T00:00")
+                        .param("endDateTime", "2022-08-03T00:00")
+                        .param("workStartTime", "9am")
+                        .param("workEndTime", "18:00"))
+                .andDo(print())
+                .andDo(document("schedule/findFreeSlots/failByInvalidWorkingHours",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())
+                ))
+                .andExpect(status().isBadRequest());
+    }
+
     @DisplayName("카테고리 별 일정 목록을 정상적으로 조회하면 200을 반환한다.")
     @Test
     void 카테고리_별_일정_목록을_정상적으로_조회하면_200을_반환한다() throws Exception {
@@ -1,5 +1,6 @@
 package com.allog.dallog.subscription.domain;
 
+import static com.allog.dallog.category.domain.CategoryType.NORMAL;
 import static com.allog.dallog.common.fixtures.CategoryFixtures.BE_일정;
 import static com.allog.dallog.common.fixtures.CategoryFixtures.setId;
 import static com.allog.dallog.common.fixtures.CategoryFixtures.공통_일정;
@@ -13,10 +14,13 @@ import static com.allog.dallog.subscription.domain.Color.COLOR_3;
 import static com.allog.dallog.subscription.domain.Color.COLOR_4;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.allog.dallog.category.domain.Category;
 import com.allog.dallog.category.exception.NoSuchCategoryException;
 import com.allog.dallog.member.domain.Member;
+import com.allog.dallog.schedule.domain.IntegrationSchedule;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -91,6 +95,27 @@ class SubscriptionsTest {
         assertThat(subscriptions.findColor(달록_여행)).isEqualTo(COLOR_2);
     }
 
+    @DisplayName("여러 스케줄의 구독 색상을 카테고리별로 찾는다.")
+    @Test
+    void 여러_스케줄의_구독_색상을_카테고리별로_찾는다() {
+        // given
+        Member 파랑 = 파랑();
+        Category 공통_일정 = setId(공통_일정(파랑), 1L);
+        Category BE_일정 = setId(BE_일정(파랑), 2L);
+
+        Subscriptions subscriptions = new Subscriptions(
+                List.of(new Subscription(파랑, 공통_일정, COLOR_1), new Subscription(파랑, BE_일정, COLOR_2)));
+
+        IntegrationSchedule 공통_일정의_스케줄 = new IntegrationSchedule("1", 1L, "공통", LocalDateTime.of(2022, 8, 1, 0, 0),
+                LocalDateTime.of(2022, 8, 1, 1, 0), "", NORMAL);
+
+        // when & then
+        assertAll(() -> {
+            assertThat(subscriptions.findColor(공통_일정의_스케줄)).isEqualTo(COLOR_1);
+            assertThat(subscriptions.findColor(달록_여행)).isEqualTo(COLOR_2);
+        });
+    }
+
     @DisplayName("구독하지 않은 스케줄의 구독 색상을 찾는 경우 예외를 던진다")
     @Test
     void 구독하지_않은_스케줄의_구독_색상을_찾는_경우_예외를_던진다() {